@@ -0,0 +1,24 @@
+-- 알림 목록 커서 조회용 인덱스 (Notification 엔티티의 @Index 와 동일)
+-- ddl-auto 를 쓰지 않는 환경에서 수동으로 적용한다.
+
+-- GET /notifications/cursor?before={id}
+--   WHERE receiver_id = ? AND id < ? ORDER BY id DESC LIMIT n
+CREATE INDEX idx_notification_receiver_id
+    ON notification (receiver_id, id DESC);
+
+-- GET /notifications/cursor?notificationType={type}&before={id}
+--   WHERE receiver_id = ? AND notification_type = ? AND id < ? ORDER BY id DESC LIMIT n
+CREATE INDEX idx_notification_receiver_type_id
+    ON notification (receiver_id, notification_type, id DESC);
+
+-- 실행 계획 확인: key 가 위 인덱스이고 Extra 에 Using filesort 가 없어야 한다
+EXPLAIN
+SELECT n.id, n.content, n.notification_type, s.nickname, r.nickname, g.group_name, n.is_read, n.created_at
+FROM notification n
+         JOIN users r ON r.id = n.receiver_id
+         LEFT JOIN users s ON s.id = n.sender_id
+         LEFT JOIN user_group g ON g.group_id = n.group_id
+WHERE n.receiver_id = 1
+  AND n.id < 9223372036854775807
+ORDER BY n.id DESC
+LIMIT 21;
@@ -0,0 +1,43 @@
+-- STOMP 부하 테스트용 시드 데이터 (MySQL 8)
+-- 사용자 @user_start ~ @user_start + @users - 1 을 방 @room_start ~ @room_start + @rooms - 1 에
+-- 라운드로빈으로 배정한다. LoadTestOptions#roomIdFor 와 같은 규칙이므로 값을 바꾸면 실행 인자도 맞춰야 한다.
+
+SET @user_start = 900001;
+SET @users = 1000;
+SET @room_start = 900001;
+SET @rooms = 100;
+
+SET SESSION cte_max_recursion_depth = 1000000;
+
+INSERT INTO users (id, kakao_id, email, nickname, role, active, calendar_connected, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n + 1 < @users
+)
+SELECT @user_start + n,
+       CONCAT('loadtest-', @user_start + n),
+       CONCAT('loadtest+', @user_start + n, '@routine.local'),
+       CONCAT('lt', @user_start + n),
+       'USER', TRUE, FALSE, NOW(), NOW()
+FROM seq;
+
+INSERT INTO chat_rooms (id, group_id, room_name, description, max_participants, is_active, created_by, created_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n + 1 < @rooms
+)
+SELECT @room_start + n, 0, CONCAT('load-test-', @room_start + n), 'STOMP 부하 테스트용 채팅방',
+       NULL, TRUE, @user_start, NOW()
+FROM seq;
+
+INSERT INTO chat_members (room_id, user_id, role, is_active, joined_at)
+WITH RECURSIVE seq (n) AS (
+    SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n + 1 < @users
+)
+SELECT @room_start + MOD(n, @rooms), @user_start + n, 'MEMBER', TRUE, NOW()
+FROM seq;
+
+-- 정리 (테스트 후 실행)
+-- DELETE FROM message_reactions WHERE message_id IN (SELECT id FROM chat_messages WHERE room_id BETWEEN @room_start AND @room_start + @rooms - 1);
+-- DELETE FROM chat_messages WHERE room_id BETWEEN @room_start AND @room_start + @rooms - 1;
+-- DELETE FROM chat_members WHERE room_id BETWEEN @room_start AND @room_start + @rooms - 1;
+-- DELETE FROM chat_rooms WHERE id BETWEEN @room_start AND @room_start + @rooms - 1;
+-- DELETE FROM users WHERE id BETWEEN @user_start AND @user_start + @users - 1;
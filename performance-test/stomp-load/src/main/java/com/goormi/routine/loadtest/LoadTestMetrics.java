@@ -0,0 +1,144 @@
+package com.goormi.routine.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 송신 → 수신 종단 지연과 유실을 집계한다.
+ * 송신자와 수신자가 같은 JVM 에 있으므로 System.nanoTime 기준으로 시계 오차 없이 측정한다.
+ */
+public class LoadTestMetrics {
+
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Histogram latencyMicros = new ConcurrentHistogram(3);
+
+    private final LongAdder connected = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder measuredSent = new LongAdder();
+    private final LongAdder measuredExpected = new LongAdder();
+    private final LongAdder measuredReceived = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder unknown = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+
+    public void onConnected() {
+        connected.increment();
+    }
+
+    public void onConnectFailure() {
+        connectFailures.increment();
+    }
+
+    public void onTransportError() {
+        transportErrors.increment();
+    }
+
+    public void onSend(String clientMessageId, int expectedReceivers, boolean measured, long sentAtNanos) {
+        sent.increment();
+        if (expectedReceivers <= 0) {
+            return;
+        }
+        inFlight.put(clientMessageId, new InFlight(sentAtNanos, expectedReceivers, measured));
+        if (measured) {
+            measuredSent.increment();
+            measuredExpected.add(expectedReceivers);
+        }
+    }
+
+    public void onSendFailure(String clientMessageId) {
+        sendFailures.increment();
+        InFlight removed = inFlight.remove(clientMessageId);
+        if (removed != null && removed.measured) {
+            measuredExpected.add(-removed.expected);
+            measuredSent.decrement();
+        }
+    }
+
+    public void onReceive(String clientMessageId, long receivedAtNanos) {
+        received.increment();
+        InFlight flight = inFlight.get(clientMessageId);
+        if (flight == null) {
+            unknown.increment();
+            return;
+        }
+
+        int remaining = flight.remaining.decrementAndGet();
+        if (remaining < 0) {
+            duplicates.increment();
+            return;
+        }
+        if (remaining == 0) {
+            inFlight.remove(clientMessageId, flight);
+        }
+        if (flight.measured) {
+            measuredReceived.increment();
+            latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(receivedAtNanos - flight.sentAtNanos));
+        }
+    }
+
+    public void onServerError() {
+        serverErrors.increment();
+    }
+
+    public void printProgress(PrintStream out, long elapsedSeconds) {
+        out.printf("[%4ds] connected=%d sent=%d received=%d inFlight=%d errors=%d p99=%.1fms%n",
+                elapsedSeconds, connected.sum(), sent.sum(), received.sum(), inFlight.size(),
+                serverErrors.sum(), latencyMicros.getValueAtPercentile(99.0) / 1000.0);
+    }
+
+    public void printReport(PrintStream out, int measuredSeconds) {
+        long expected = measuredExpected.sum();
+        long delivered = measuredReceived.sum();
+        long lost = Math.max(0, expected - delivered);
+
+        out.println();
+        out.println("========== STOMP 부하 테스트 결과 ==========");
+        out.printf("세션        : connected=%d, connectFailures=%d, transportErrors=%d%n",
+                connected.sum(), connectFailures.sum(), transportErrors.sum());
+        out.printf("송신        : total=%d, measured=%d (%.1f msg/s), sendFailures=%d%n",
+                sent.sum(), measuredSent.sum(),
+                measuredSeconds > 0 ? (double) measuredSent.sum() / measuredSeconds : 0.0,
+                sendFailures.sum());
+        out.printf("수신        : total=%d, measured=%d (%.1f msg/s), duplicates=%d, unknown=%d%n",
+                received.sum(), delivered,
+                measuredSeconds > 0 ? (double) delivered / measuredSeconds : 0.0,
+                duplicates.sum(), unknown.sum());
+        out.printf("유실        : expected=%d, lost=%d (%.3f%%)%n",
+                expected, lost, expected > 0 ? lost * 100.0 / expected : 0.0);
+        out.printf("서버 에러   : %d (/user/queue/errors, 레이트 리밋 거절 포함)%n", serverErrors.sum());
+        out.printf("지연 (ms)   : p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f (n=%d)%n",
+                percentileMillis(50.0), percentileMillis(90.0), percentileMillis(99.0),
+                percentileMillis(99.9), latencyMicros.getMaxValue() / 1000.0,
+                latencyMicros.getTotalCount());
+        out.println("============================================");
+    }
+
+    private double percentileMillis(double percentile) {
+        return latencyMicros.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static final class InFlight {
+        private final long sentAtNanos;
+        private final int expected;
+        private final boolean measured;
+        private final AtomicInteger remaining;
+
+        private InFlight(long sentAtNanos, int expected, boolean measured) {
+            this.sentAtNanos = sentAtNanos;
+            this.expected = expected;
+            this.measured = measured;
+            this.remaining = new AtomicInteger(expected);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.goormi.routine.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 생성기 실행 옵션. {@code --key=value} 형태의 인자를 파싱한다.
+ */
+public class LoadTestOptions {
+
+    private final String url;
+    private final boolean sockJs;
+    private final String jwtSecret;
+    private final long userIdStart;
+    private final int users;
+    private final long roomIdStart;
+    private final int rooms;
+    private final double ratePerSecond;
+    private final int connectRatePerSecond;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final int drainSeconds;
+    private final int payloadBytes;
+
+    private LoadTestOptions(Map<String, String> args) {
+        this.url = args.getOrDefault("url", "http://localhost:8080/ws");
+        this.sockJs = Boolean.parseBoolean(args.getOrDefault("sockjs", "true"));
+        this.jwtSecret = args.getOrDefault("jwt-secret",
+                System.getenv().getOrDefault("JWT_SECRET",
+                        "your-default-secret-key-for-development-only-change-in-production"));
+        this.userIdStart = Long.parseLong(args.getOrDefault("user-start", "900001"));
+        this.users = Integer.parseInt(args.getOrDefault("users", "100"));
+        this.roomIdStart = Long.parseLong(args.getOrDefault("room-start", "900001"));
+        this.rooms = Integer.parseInt(args.getOrDefault("rooms", "10"));
+        this.ratePerSecond = Double.parseDouble(args.getOrDefault("rate", "50"));
+        this.connectRatePerSecond = Integer.parseInt(args.getOrDefault("connect-rate", "100"));
+        this.warmupSeconds = Integer.parseInt(args.getOrDefault("warmup", "10"));
+        this.durationSeconds = Integer.parseInt(args.getOrDefault("duration", "60"));
+        this.drainSeconds = Integer.parseInt(args.getOrDefault("drain", "5"));
+        this.payloadBytes = Integer.parseInt(args.getOrDefault("payload-bytes", "64"));
+
+        if (users <= 0 || rooms <= 0 || users < rooms) {
+            throw new IllegalArgumentException("users는 rooms 이상의 양수여야 합니다");
+        }
+        if (ratePerSecond <= 0 || connectRatePerSecond <= 0) {
+            throw new IllegalArgumentException("rate, connect-rate는 양수여야 합니다");
+        }
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> parsed = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("알 수 없는 인자입니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                parsed.put(arg.substring(2), "true");
+            } else {
+                parsed.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return new LoadTestOptions(parsed);
+    }
+
+    /**
+     * 사용자는 방에 라운드로빈으로 배정된다. seed-chat-load.sql 의 멤버 배정과 동일해야 한다.
+     */
+    public long roomIdFor(int userIndex) {
+        return roomIdStart + (userIndex % rooms);
+    }
+
+    public long userIdFor(int userIndex) {
+        return userIdStart + userIndex;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public boolean isSockJs() {
+        return sockJs;
+    }
+
+    public String getJwtSecret() {
+        return jwtSecret;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getRooms() {
+        return rooms;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getConnectRatePerSecond() {
+        return connectRatePerSecond;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getDrainSeconds() {
+        return drainSeconds;
+    }
+
+    public int getPayloadBytes() {
+        return payloadBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "url=" + url + ", sockjs=" + sockJs
+                + ", users=" + users + " (" + userIdStart + "~" + (userIdStart + users - 1) + ")"
+                + ", rooms=" + rooms + " (" + roomIdStart + "~" + (roomIdStart + rooms - 1) + ")"
+                + ", rate=" + ratePerSecond + "/s, warmup=" + warmupSeconds + "s"
+                + ", duration=" + durationSeconds + "s, drain=" + drainSeconds + "s";
+    }
+}
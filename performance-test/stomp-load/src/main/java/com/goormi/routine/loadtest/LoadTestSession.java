@@ -0,0 +1,124 @@
+package com.goormi.routine.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 부하 테스트용 STOMP 세션 하나. 자신의 방 토픽을 구독하고, 수신한 메시지의 clientMessageId 로 지연을 기록한다.
+ */
+public class LoadTestSession extends StompSessionHandlerAdapter {
+
+    private final long userId;
+    private final long roomId;
+    private final LoadTestMetrics metrics;
+    private final AtomicInteger roomSubscribers;
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    private volatile StompSession session;
+
+    public LoadTestSession(long userId, long roomId, LoadTestMetrics metrics, AtomicInteger roomSubscribers) {
+        this.userId = userId;
+        this.roomId = roomId;
+        this.metrics = metrics;
+        this.roomSubscribers = roomSubscribers;
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        session.subscribe("/topic/room/" + roomId, new JsonFrameHandler() {
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                long receivedAt = System.nanoTime();
+                JsonNode clientMessageId = ((JsonNode) payload).get("clientMessageId");
+                if (clientMessageId != null && !clientMessageId.isNull()) {
+                    metrics.onReceive(clientMessageId.asText(), receivedAt);
+                }
+            }
+        });
+        session.subscribe("/user/queue/errors", new JsonFrameHandler() {
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                metrics.onServerError();
+            }
+        });
+
+        if (subscribed.compareAndSet(false, true)) {
+            roomSubscribers.incrementAndGet();
+        }
+        metrics.onConnected();
+    }
+
+    /**
+     * 메시지를 보낸다. 수신 대기 등록을 먼저 해야 자기 자신의 에코가 등록보다 먼저 도착하는 경쟁을 피할 수 있다.
+     */
+    public void send(String clientMessageId, String text, boolean measured) {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            return;
+        }
+
+        metrics.onSend(clientMessageId, roomSubscribers.get(), measured, System.nanoTime());
+        try {
+            StompHeaders headers = new StompHeaders();
+            headers.setDestination("/app/chat.send/" + roomId);
+            current.send(headers, Map.of(
+                    "message", text,
+                    "messageType", "TALK",
+                    "clientMessageId", clientMessageId));
+        } catch (RuntimeException e) {
+            metrics.onSendFailure(clientMessageId);
+        }
+    }
+
+    public boolean isConnected() {
+        StompSession current = session;
+        return current != null && current.isConnected();
+    }
+
+    public void disconnect() {
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            current.disconnect();
+        }
+        unsubscribe();
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                byte[] payload, Throwable exception) {
+        metrics.onServerError();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        metrics.onTransportError();
+        unsubscribe();
+    }
+
+    private void unsubscribe() {
+        if (subscribed.compareAndSet(true, false)) {
+            roomSubscribers.decrementAndGet();
+        }
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    private abstract static class JsonFrameHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return JsonNode.class;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.goormi.routine.loadtest;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.WebSocketClient;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 채팅 STOMP 경로(/ws → /app/chat.send/{roomId} → Redis fan-out → /topic/room/{roomId}) 부하 생성기.
+ *
+ * <p>N 개의 인증된 세션을 M 개 방에 나눠 접속시키고, 목표 전송률로 메시지를 보낸 뒤
+ * 송신 → 수신 지연 분위수와 유실률을 출력한다. 사용법은 performance-test/stomp-load/README.md 참고.
+ */
+public class StompLoadGenerator {
+
+    private static final long TICK_MILLIS = 10;
+    private static final long CONNECT_TIMEOUT_SECONDS = 30;
+    private static final long PROGRESS_INTERVAL_SECONDS = 5;
+
+    private final LoadTestOptions options;
+    private final LoadTestMetrics metrics = new LoadTestMetrics();
+    private final TokenMinter tokenMinter;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong messageCounter = new AtomicLong();
+    private final String filler;
+
+    private volatile boolean measuring = false;
+
+    public StompLoadGenerator(LoadTestOptions options) {
+        this.options = options;
+        this.tokenMinter = new TokenMinter(options.getJwtSecret());
+        this.filler = "x".repeat(Math.max(0, options.getPayloadBytes()));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        System.out.println("STOMP 부하 테스트 시작: " + options);
+        new StompLoadGenerator(options).run();
+        System.exit(0);
+    }
+
+    public void run() throws Exception {
+        WebSocketStompClient stompClient = createStompClient();
+        List<LoadTestSession> sessions = connectAll(stompClient);
+        if (sessions.isEmpty()) {
+            System.err.println("연결된 세션이 없습니다. 서버 주소, jwt-secret, 시드 데이터를 확인하세요.");
+            metrics.printReport(System.out, 0);
+            return;
+        }
+
+        // 구독 프레임이 브로커에 등록될 시간을 준다
+        TimeUnit.SECONDS.sleep(1);
+
+        long startedAt = System.nanoTime();
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor();
+        progress.scheduleAtFixedRate(
+                () -> metrics.printProgress(System.out, TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startedAt)),
+                PROGRESS_INTERVAL_SECONDS, PROGRESS_INTERVAL_SECONDS, TimeUnit.SECONDS);
+
+        ScheduledExecutorService senders = startSenders(sessions);
+
+        TimeUnit.SECONDS.sleep(options.getWarmupSeconds());
+        measuring = true;
+        System.out.println("워밍업 종료, 측정 시작");
+        TimeUnit.SECONDS.sleep(options.getDurationSeconds());
+        measuring = false;
+
+        senders.shutdownNow();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+        System.out.println("전송 종료, 잔여 메시지 수신 대기 " + options.getDrainSeconds() + "s");
+        TimeUnit.SECONDS.sleep(options.getDrainSeconds());
+
+        progress.shutdownNow();
+        metrics.printReport(System.out, options.getDurationSeconds());
+
+        sessions.forEach(LoadTestSession::disconnect);
+        stompClient.stop();
+    }
+
+    private WebSocketStompClient createStompClient() {
+        WebSocketClient webSocketClient = new StandardWebSocketClient();
+        if (options.isSockJs()) {
+            webSocketClient = new SockJsClient(List.of(new WebSocketTransport(webSocketClient)));
+        }
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(webSocketClient);
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        // 하트비트 프레임이 송신 스레드와 동시에 쓰지 않도록 클라이언트 하트비트는 끈다
+        stompClient.setDefaultHeartbeat(new long[]{0, 0});
+        return stompClient;
+    }
+
+    private List<LoadTestSession> connectAll(WebSocketStompClient stompClient) {
+        String url = options.isSockJs() ? options.getUrl() : toRawWebSocketUrl(options.getUrl());
+        AtomicInteger[] roomSubscribers = new AtomicInteger[options.getRooms()];
+        for (int i = 0; i < roomSubscribers.length; i++) {
+            roomSubscribers[i] = new AtomicInteger();
+        }
+
+        List<LoadTestSession> sessions = new ArrayList<>(options.getUsers());
+        List<CompletableFuture<?>> futures = new ArrayList<>(options.getUsers());
+        long connectIntervalNanos = TimeUnit.SECONDS.toNanos(1) / options.getConnectRatePerSecond();
+        long nextConnectAt = System.nanoTime();
+
+        for (int i = 0; i < options.getUsers(); i++) {
+            long userId = options.userIdFor(i);
+            LoadTestSession session = new LoadTestSession(userId, options.roomIdFor(i), metrics,
+                    roomSubscribers[i % options.getRooms()]);
+
+            StompHeaders connectHeaders = new StompHeaders();
+            connectHeaders.add("Authorization", "Bearer " + tokenMinter.createAccessToken(userId));
+
+            futures.add(stompClient.connectAsync(url, new WebSocketHttpHeaders(), connectHeaders, session)
+                    .whenComplete((stompSession, error) -> {
+                        if (error != null) {
+                            metrics.onConnectFailure();
+                        }
+                    }));
+            sessions.add(session);
+
+            nextConnectAt += connectIntervalNanos;
+            LockSupport.parkNanos(nextConnectAt - System.nanoTime());
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .get(CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            System.err.println("일부 세션 연결이 실패했거나 시간 내에 완료되지 않았습니다: " + e.getMessage());
+        }
+
+        List<LoadTestSession> connected = sessions.stream().filter(LoadTestSession::isConnected).toList();
+        System.out.printf("세션 연결 완료: %d/%d%n", connected.size(), options.getUsers());
+        return connected;
+    }
+
+    /**
+     * 세션을 송신 스레드별로 분할한다. 하나의 STOMP 세션에는 항상 같은 스레드만 쓰도록 해 동시 쓰기를 피한다.
+     */
+    private ScheduledExecutorService startSenders(List<LoadTestSession> sessions) {
+        int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), sessions.size()));
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(threads);
+        double ratePerThread = options.getRatePerSecond() / threads;
+
+        for (int t = 0; t < threads; t++) {
+            List<LoadTestSession> partition = new ArrayList<>();
+            for (int i = t; i < sessions.size(); i += threads) {
+                partition.add(sessions.get(i));
+            }
+            senders.scheduleAtFixedRate(new SendTask(partition, ratePerThread), 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return senders;
+    }
+
+    private static String toRawWebSocketUrl(String url) {
+        String wsUrl = url.replaceFirst("^http", "ws");
+        return wsUrl.endsWith("/websocket") ? wsUrl : wsUrl + "/websocket";
+    }
+
+    /**
+     * 시작 시각 기준 누적 목표치까지 보내는 방식으로, 틱이 밀려도 평균 전송률을 유지한다.
+     */
+    private final class SendTask implements Runnable {
+        private final List<LoadTestSession> sessions;
+        private final double ratePerSecond;
+        private final long startedAt = System.nanoTime();
+        private long sentCount = 0;
+        private int cursor = 0;
+
+        private SendTask(List<LoadTestSession> sessions, double ratePerSecond) {
+            this.sessions = sessions;
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        @Override
+        public void run() {
+            long target = (long) (ratePerSecond * (System.nanoTime() - startedAt) / TimeUnit.SECONDS.toNanos(1));
+            while (sentCount < target && !Thread.currentThread().isInterrupted()) {
+                LoadTestSession session = sessions.get(cursor);
+                cursor = (cursor + 1) % sessions.size();
+
+                String clientMessageId = "lt-" + runId + "-" + messageCounter.incrementAndGet();
+                session.send(clientMessageId, "load-test " + filler, measuring);
+                sentCount++;
+            }
+        }
+    }
+}
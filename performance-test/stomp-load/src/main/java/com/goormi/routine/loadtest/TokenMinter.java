@@ -0,0 +1,36 @@
+package com.goormi.routine.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider#createAccessToken 과 동일한 형식의 액세스 토큰을 로컬에서 발급한다.
+ * 서버와 같은 jwt.secret 을 사용해야 CONNECT 인증을 통과한다.
+ */
+public class TokenMinter {
+
+    private static final long EXPIRATION_MILLIS = TimeUnit.HOURS.toMillis(6);
+
+    private final SecretKey key;
+
+    public TokenMinter(String secret) {
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String createAccessToken(long userId) {
+        Date now = new Date();
+        return Jwts.builder()
+                .subject(String.valueOf(userId))
+                .claim("email", "loadtest+" + userId + "@routine.local")
+                .claim("type", "access")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + EXPIRATION_MILLIS))
+                .signWith(key)
+                .compact();
+    }
+}
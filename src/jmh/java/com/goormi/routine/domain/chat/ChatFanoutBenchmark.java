@@ -0,0 +1,58 @@
+package com.goormi.routine.domain.chat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.goormi.routine.domain.chat.dto.ChatFanoutEnvelope;
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 팬아웃 구간의 메시지 1건당 비용 비교
+ * legacy: Redis 직렬화 -> 구독 측 ChatMessageDto 역직렬화 -> STOMP 변환기 재직렬화
+ * envelope: 발행 측 1회 인코딩 -> 구독 측 헤더만 파싱
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChatFanoutBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Jackson2JsonRedisSerializer<Object> redisSerializer;
+    private ChatMessageDto message;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        redisSerializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+        message = ChatMessageDto.builder()
+                .id(123456L)
+                .roomId(42L)
+                .userId(7L)
+                .senderNickname("루틴러")
+                .message("오늘 운동 인증합니다! 30분 러닝 완료했어요.")
+                .messageType(MessageType.TALK)
+                .sentAt(LocalDateTime.now())
+                .isApproved(false)
+                .reactions(List.of())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] legacy() throws Exception {
+        byte[] published = redisSerializer.serialize(message);
+        ChatMessageDto received = objectMapper.readValue(published, ChatMessageDto.class);
+        return objectMapper.writeValueAsBytes(received);
+    }
+
+    @Benchmark
+    public byte[] envelope() throws Exception {
+        byte[] published = ChatFanoutEnvelope.encode(objectMapper, message);
+        return ChatFanoutEnvelope.decode(published).getPayload();
+    }
+}
@@ -0,0 +1,107 @@
+package com.goormi.routine.domain.chat;
+
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
+import com.goormi.routine.domain.chat.repository.ChatSearchIndexRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 채팅방 단위 전문 검색 지연 시간 측정
+ * 1,000개 채팅방에 100만 건의 한국어 메시지를 생성해 디스크 인덱스를 만든 뒤 검색한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ChatSearchBenchmark {
+
+    private static final int ROOM_COUNT = 1_000;
+    private static final String[] WORDS = {
+            "오늘", "운동", "인증", "합니다", "러닝", "30분", "완료", "했어요", "내일", "아침",
+            "루틴", "독서", "물", "마시기", "스트레칭", "화이팅", "다들", "수고하셨어요", "주말", "계획",
+            "헬스장", "요가", "명상", "일기", "공부", "코딩", "산책", "식단", "기록", "목표"
+    };
+    private static final String[] KEYWORDS = {"운동", "인증", "러닝 완료", "스트레칭", "수고하셨어요", "명상 기록"};
+
+    @Param({"1000000"})
+    public int messageCount;
+
+    private Path indexDir;
+    private ChatSearchIndexRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        indexDir = Files.createTempDirectory("chat-search-bench");
+        repository = new ChatSearchIndexRepository(indexDir.toString());
+
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.now().minusDays(365);
+        List<ChatMessageDto> batch = new ArrayList<>(10_000);
+        for (long id = 1; id <= messageCount; id++) {
+            batch.add(ChatMessageDto.builder()
+                    .id(id)
+                    .roomId((long) random.nextInt(ROOM_COUNT) + 1)
+                    .userId((long) random.nextInt(10_000) + 1)
+                    .senderNickname("user" + random.nextInt(10_000))
+                    .message(randomSentence(random))
+                    .messageType(MessageType.TALK)
+                    .sentAt(start.plusSeconds(id * 30))
+                    .build());
+            if (batch.size() == 10_000) {
+                repository.indexAll(batch);
+                batch.clear();
+            }
+        }
+        repository.indexAll(batch);
+        repository.commit();
+        repository.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        repository.destroy();
+        try (Stream<Path> paths = Files.walk(indexDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public List<ChatMessageDto> searchLatestPage() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long roomId = random.nextInt(ROOM_COUNT) + 1;
+        return repository.search(roomId, KEYWORDS[random.nextInt(KEYWORDS.length)], null, 20);
+    }
+
+    @Benchmark
+    public List<ChatMessageDto> searchWithCursor() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long roomId = random.nextInt(ROOM_COUNT) + 1;
+        long cursor = random.nextLong(messageCount / 2, messageCount);
+        return repository.search(roomId, KEYWORDS[random.nextInt(KEYWORDS.length)], cursor, 20);
+    }
+
+    private String randomSentence(Random random) {
+        int length = 3 + random.nextInt(8);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
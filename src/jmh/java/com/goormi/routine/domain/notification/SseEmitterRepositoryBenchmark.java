@@ -0,0 +1,76 @@
+package com.goormi.routine.domain.notification;
+
+import com.goormi.routine.domain.notification.repository.SseEmitterRepositoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 열린 emitter 10만 개 상태에서 알림 1건 전송 시 수신자 emitter 조회 비용 비교
+ * prefixScan: 전역 맵 전체를 startsWith(memberId) 로 순회 (기존 구현)
+ * userIndex: userId -> emitter 맵 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SseEmitterRepositoryBenchmark {
+
+    @Param({"100000"})
+    private int emitterCount;
+
+    @Param({"2"})
+    private int emittersPerUser;
+
+    private Map<String, SseEmitter> legacyEmitters;
+    private SseEmitterRepositoryImpl repository;
+    private int userCount;
+
+    @Setup
+    public void setUp() {
+        legacyEmitters = new ConcurrentHashMap<>();
+        repository = new SseEmitterRepositoryImpl(new SimpleMeterRegistry());
+        userCount = emitterCount / emittersPerUser;
+
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < emitterCount; i++) {
+            long userId = (i % userCount) + 1;
+            String emitterId = userId + "_" + (now + i);
+            SseEmitter emitter = new SseEmitter();
+            legacyEmitters.put(emitterId, emitter);
+            repository.save(userId, emitterId, emitter);
+        }
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextInt(userCount) + 1;
+    }
+
+    @Benchmark
+    public Map<String, SseEmitter> prefixScan() {
+        String memberId = String.valueOf(randomUserId());
+        return legacyEmitters.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(memberId))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
+    @Benchmark
+    public Map<String, SseEmitter> userIndex() {
+        return repository.findAllByUserId(randomUserId());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void registerAndRemove() {
+        long userId = randomUserId();
+        String emitterId = userId + "_" + System.nanoTime();
+        SseEmitter emitter = new SseEmitter();
+        repository.save(userId, emitterId, emitter);
+        repository.deleteById(userId, emitterId, emitter);
+    }
+}
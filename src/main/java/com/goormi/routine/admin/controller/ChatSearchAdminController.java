@@ -0,0 +1,39 @@
+package com.goormi.routine.admin.controller;
+
+import com.goormi.routine.common.response.ApiResponse;
+import com.goormi.routine.domain.chat.service.ChatSearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/chat-search")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "채팅 검색 인덱스 관리", description = "채팅 전문 검색 인덱스 관리 API")
+public class ChatSearchAdminController {
+
+	private final ChatSearchService chatSearchService;
+
+	@Operation(
+		summary = "채팅 검색 인덱스 재생성",
+		description = "DB 에 저장된 채팅 메시지로 검색 인덱스를 다시 만듭니다. " +
+			"백그라운드에서 실행되며, 완료 전까지는 기존 인덱스로 검색됩니다."
+	)
+	@PostMapping("/rebuild")
+	public ApiResponse<Void> rebuildIndex() {
+		log.info("Chat search index rebuild requested");
+
+		chatSearchService.rebuildIndex();
+
+		return ApiResponse.success("채팅 검색 인덱스 재생성을 시작했습니다.", null);
+	}
+
+	@Operation(summary = "채팅 검색 인덱스 재생성 상태")
+	@GetMapping("/status")
+	public ApiResponse<Boolean> getRebuildStatus() {
+		return ApiResponse.success(chatSearchService.isRebuilding());
+	}
+}
@@ -18,7 +18,38 @@ public class SchedulerRedisRepository {
 	private final RedisRepository redisRepository;
 
 	private static final String SCHEDULER_STATUS_PREFIX = "scheduler:status:";
+	private static final String SCHEDULER_LOCK_PREFIX = "scheduler:lock:";
+	private static final String SCHEDULER_CHECKPOINT_PREFIX = "scheduler:checkpoint:";
 	private static final int STATUS_EXPIRE_DAYS = 7;
+	private static final int CHECKPOINT_EXPIRE_DAYS = 30;
+
+	// 여러 인스턴스 중 한 곳에서만 스케줄러가 실행되도록 락 획득
+	public boolean tryLock(String schedulerName, long expireSeconds) {
+		try {
+			return redisRepository.saveDataIfAbsent(SCHEDULER_LOCK_PREFIX + schedulerName,
+				LocalDateTime.now().toString(), expireSeconds);
+		} catch (Exception e) {
+			log.error("스케줄러 락 획득 실패: {}", schedulerName, e);
+			return false;
+		}
+	}
+
+	// 오래 걸리는 작업이 도중에 락을 놓치지 않도록 만료 시간을 다시 늘림
+	public void extendLock(String schedulerName, long expireSeconds) {
+		try {
+			redisRepository.setExpire(SCHEDULER_LOCK_PREFIX + schedulerName, expireSeconds);
+		} catch (Exception e) {
+			log.error("스케줄러 락 연장 실패: {}", schedulerName, e);
+		}
+	}
+
+	public void unlock(String schedulerName) {
+		try {
+			redisRepository.deleteData(SCHEDULER_LOCK_PREFIX + schedulerName);
+		} catch (Exception e) {
+			log.error("스케줄러 락 해제 실패: {}", schedulerName, e);
+		}
+	}
 
 	public void updateSchedulerStatus(String schedulerName, String status, String message) {
 		try {
@@ -41,6 +72,34 @@ public class SchedulerRedisRepository {
 		}
 	}
 
+	// 한 번에 끝내지 못한 배치 작업이 다음 실행에서 이어갈 위치
+	public void saveCheckpoint(String schedulerName, Long lastId) {
+		try {
+			redisRepository.saveData(SCHEDULER_CHECKPOINT_PREFIX + schedulerName, String.valueOf(lastId),
+				CHECKPOINT_EXPIRE_DAYS * 24 * 60 * 60);
+		} catch (Exception e) {
+			log.error("스케줄러 체크포인트 저장 실패: {}, id = {}", schedulerName, lastId, e);
+		}
+	}
+
+	public Long getCheckpoint(String schedulerName) {
+		try {
+			String value = redisRepository.getData(SCHEDULER_CHECKPOINT_PREFIX + schedulerName);
+			return value != null ? Long.valueOf(value) : null;
+		} catch (Exception e) {
+			log.error("스케줄러 체크포인트 조회 실패: {}", schedulerName, e);
+			return null;
+		}
+	}
+
+	public void deleteCheckpoint(String schedulerName) {
+		try {
+			redisRepository.deleteData(SCHEDULER_CHECKPOINT_PREFIX + schedulerName);
+		} catch (Exception e) {
+			log.error("스케줄러 체크포인트 삭제 실패: {}", schedulerName, e);
+		}
+	}
+
 	public Map<String, String> getAllSchedulerStatus() {
 		try {
 			String pattern = SCHEDULER_STATUS_PREFIX + "*";
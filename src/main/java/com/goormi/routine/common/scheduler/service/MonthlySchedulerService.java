@@ -3,6 +3,7 @@ package com.goormi.routine.common.scheduler.service;
 public interface MonthlySchedulerService {
 	void executeMonthlyReset();
 	void retryFailedReviewMessages();
+	void processReviewJobs();
 
 	void manualMonthlyReset();
 
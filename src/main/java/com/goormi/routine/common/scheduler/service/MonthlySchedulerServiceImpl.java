@@ -7,6 +7,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import com.goormi.routine.common.scheduler.repository.SchedulerRedisRepository;
+import com.goormi.routine.config.SchedulerConfig;
 
 import java.time.LocalDateTime;
 
@@ -20,7 +21,7 @@ public class MonthlySchedulerServiceImpl implements MonthlySchedulerService {
 
 	// 매월 1일 00:30에 월단위 초기화 실행
 	@Override
-	@Scheduled(cron = "0 30 0 1 * ?", zone = "Asia/Seoul")
+	@Scheduled(cron = "0 30 0 1 * ?", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
 	public void executeMonthlyReset() {
 		LocalDateTime startTime = LocalDateTime.now();
 
@@ -40,7 +41,7 @@ public class MonthlySchedulerServiceImpl implements MonthlySchedulerService {
 	}
 
 	@Override
-	@Scheduled(cron = "0 0 9 * * ?", zone = "Asia/Seoul")
+	@Scheduled(cron = "0 0 9 * * ?", zone = "Asia/Seoul", scheduler = SchedulerConfig.BATCH_SCHEDULER)
 	public void retryFailedReviewMessages () {
 		try {
 			// 월초 3일간만 실행
@@ -64,6 +65,18 @@ public class MonthlySchedulerServiceImpl implements MonthlySchedulerService {
 		}
 	}
 
+	// 다음 시도 시각이 된 회고 재전송 작업 처리 (작업 임대 방식이라 여러 인스턴스가 동시에 실행해도 된다)
+	@Override
+	@Scheduled(fixedDelayString = "${review.job.poll-interval-ms:60000}",
+		initialDelayString = "${review.job.poll-interval-ms:60000}", scheduler = SchedulerConfig.BATCH_SCHEDULER)
+	public void processReviewJobs() {
+		try {
+			schedulerManagementService.processReviewJobs();
+		} catch (Exception e) {
+			log.error("회고 재전송 작업 처리 실패", e);
+		}
+	}
+
 	// 수동 실행용 메서드들
 	@Override
 	public void manualMonthlyReset() {
@@ -7,6 +7,8 @@ public interface SchedulerManagementService {
 
 	void retryFailedMessages(String monthYear);
 
+	void processReviewJobs();
+
 	Map<String, Object> getSchedulerStatus();
 
 	Map<String, Object> getFailedMessageStatus(String monthYear);
@@ -44,6 +44,11 @@ public class SchedulerManagementServiceImpl implements SchedulerManagementServic
 		log.info("실패 메시지 재전송 완료: {}", monthYear);
 	}
 
+	@Override
+	public void processReviewJobs() {
+		reviewService.processDueReviewJobs();
+	}
+
 	@Override
 	public Map<String, Object> getSchedulerStatus() {
 		Map<String, Object> status = new HashMap<>();
@@ -0,0 +1,40 @@
+package com.goormi.routine.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Gemini 호출 제어 설정 (ai.governor.*)
+ * 분당 요청/토큰 한도, 동시 호출 수(AIMD로 조정), 서킷 브레이커 임계값을 정한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "ai.governor")
+public class AiCallGovernorProperties {
+
+	// 분당 요청 수 / 토큰 수 한도 (제공자 쿼터보다 약간 낮게 잡는다)
+	private int requestsPerMinute = 60;
+	private int tokensPerMinute = 250_000;
+
+	// 응답 토큰 추정치, 실제 사용량은 응답의 usageMetadata 로 보정한다
+	private int expectedOutputTokens = 800;
+
+	// 동시 호출 수: 성공 시 1/limit 씩 늘리고 429/5xx 시 decreaseFactor 를 곱한다
+	private int initialConcurrency = 4;
+	private int minConcurrency = 1;
+	private int maxConcurrency = 10;
+	private double decreaseFactor = 0.5;
+
+	// 호출 허가를 기다리는 최대 시간, 넘기면 폴백 메시지를 쓴다
+	private Duration acquireTimeout = Duration.ofSeconds(8);
+
+	// 연속 실패가 failureThreshold 이상이면 openDuration 동안 호출을 막는다
+	private int failureThreshold = 5;
+	private Duration openDuration = Duration.ofSeconds(60);
+}
@@ -0,0 +1,38 @@
+package com.goormi.routine.config;
+
+import com.goormi.routine.domain.notification.entity.NotificationType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 알림 합치기 설정 (notification.coalesce.*)
+ * 같은 타입/그룹/수신자의 읽지 않은 알림이 구간 안에 있으면 새로 만들지 않고 그 알림에 합친다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.coalesce")
+public class NotificationCoalesceProperties {
+
+    private boolean enabled = true;
+
+    // 타입별 합치기 구간 (첫 알림 생성 시각 기준), 지정하지 않은 타입은 합치지 않는다
+    private Map<NotificationType, Duration> windows = new HashMap<>();
+
+    /**
+     * @return 합치지 않는 타입이면 null
+     */
+    public Duration windowOf(NotificationType type) {
+        if (!enabled) {
+            return null;
+        }
+        Duration window = windows.get(type);
+        return window == null || window.isZero() || window.isNegative() ? null : window;
+    }
+}
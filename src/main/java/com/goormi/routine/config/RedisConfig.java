@@ -2,7 +2,10 @@ package com.goormi.routine.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.goormi.routine.domain.chat.service.ChatEphemeralSubscriber;
+import com.goormi.routine.domain.chat.service.ChatMembershipService;
 import com.goormi.routine.domain.chat.service.RedisMessageSubscriber;
+import com.goormi.routine.domain.notification.service.SseNotificationSubscriber;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -17,6 +20,7 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
@@ -77,26 +81,61 @@ public class RedisConfig {
 		return redisTemplate;
 	}
 	
+	// 채팅/알림 팬아웃 전용: 미리 인코딩된 바이트를 그대로 발행
+	@Bean
+	public RedisTemplate<String, byte[]> chatFanoutRedisTemplate(RedisConnectionFactory connectionFactory) {
+		RedisTemplate<String, byte[]> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setConnectionFactory(connectionFactory);
+		redisTemplate.setKeySerializer(new StringRedisSerializer());
+		redisTemplate.setValueSerializer(RedisSerializer.byteArray());
+		return redisTemplate;
+	}
+	
 	@Bean
 	public ChannelTopic chatTopic() {
 		return new ChannelTopic("chat");
 	}
 	
+	@Bean
+	public ChannelTopic chatMembershipTopic() {
+		return new ChannelTopic("chat-membership");
+	}
+	
+	@Bean
+	public ChannelTopic chatEphemeralTopic() {
+		return new ChannelTopic("chat-ephemeral");
+	}
+	
+	@Bean
+	public ChannelTopic notificationSseTopic() {
+		return new ChannelTopic("notification-sse");
+	}
+	
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer(
 			RedisConnectionFactory connectionFactory,
-			MessageListenerAdapter listenerAdapter,
-			ChannelTopic chatTopic) {
+			RedisMessageSubscriber redisMessageSubscriber,
+			ChannelTopic chatTopic,
+			MessageListenerAdapter membershipListenerAdapter,
+			ChannelTopic chatMembershipTopic,
+			ChatEphemeralSubscriber chatEphemeralSubscriber,
+			ChannelTopic chatEphemeralTopic,
+			SseNotificationSubscriber sseNotificationSubscriber,
+			ChannelTopic notificationSseTopic) {
 		
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 		container.setConnectionFactory(connectionFactory);
-		container.addMessageListener(listenerAdapter, chatTopic);
+		container.addMessageListener(redisMessageSubscriber, chatTopic);
+		container.addMessageListener(membershipListenerAdapter, chatMembershipTopic);
+		container.addMessageListener(chatEphemeralSubscriber, chatEphemeralTopic);
+		container.addMessageListener(sseNotificationSubscriber, notificationSseTopic);
 		return container;
 	}
 	
+	// 채팅방 멤버십 near-cache 무효화 메시지 수신
 	@Bean
-	public MessageListenerAdapter listenerAdapter(RedisMessageSubscriber subscriber) {
-		return new MessageListenerAdapter(subscriber, "onMessage");
+	public MessageListenerAdapter membershipListenerAdapter(ChatMembershipService chatMembershipService) {
+		return new MessageListenerAdapter(chatMembershipService, "evictLocal");
 	}
 
 	@Bean
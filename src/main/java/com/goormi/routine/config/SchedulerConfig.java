@@ -1,15 +1,52 @@
 package com.goormi.routine.config;
 
-import java.util.concurrent.Executors;
-
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
+/**
+ * 기본 스케줄러는 짧은 주기 작업(SSE 하트비트, 타이핑 플러시, 검색 인덱스 갱신, 읽음 커서 플러시 등)이 쓰고,
+ * 수 분 이상 걸릴 수 있는 배치 작업은 {@link #BATCH_SCHEDULER} 를 지정해 별도 스레드에서 실행한다.
+ * 배치 작업이 기본 스케줄러 스레드를 붙잡아 짧은 주기 작업이 밀리지 않게 하기 위함이다.
+ */
 @Configuration
 public class SchedulerConfig implements SchedulingConfigurer {
+
+	public static final String BATCH_SCHEDULER = "batchTaskScheduler";
+
+	@Value("${spring.task.scheduling.pool.size:5}")
+	private int poolSize;
+
+	@Value("${spring.task.scheduling.thread-name-prefix:routine-scheduler-}")
+	private String threadNamePrefix;
+
+	@Value("${scheduler.batch.pool-size:3}")
+	private int batchPoolSize;
+
 	@Override
 	public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
-		taskRegistrar.setScheduler(Executors.newScheduledThreadPool(3));
+		taskRegistrar.setTaskScheduler(taskScheduler());
+	}
+
+	@Bean
+	public ThreadPoolTaskScheduler taskScheduler() {
+		return scheduler(poolSize, threadNamePrefix);
+	}
+
+	@Bean(name = BATCH_SCHEDULER)
+	public ThreadPoolTaskScheduler batchTaskScheduler() {
+		return scheduler(batchPoolSize, "batch-scheduler-");
+	}
+
+	private ThreadPoolTaskScheduler scheduler(int size, String prefix) {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(size);
+		scheduler.setThreadNamePrefix(prefix);
+		scheduler.setWaitForTasksToCompleteOnShutdown(true);
+		scheduler.setAwaitTerminationSeconds(60);
+		return scheduler;
 	}
 }
@@ -5,9 +5,11 @@ import com.goormi.routine.domain.auth.handler.CustomAuthenticationEntryPoint;
 import com.goormi.routine.domain.auth.service.CustomOAuth2UserService;
 import com.goormi.routine.domain.auth.service.OAuth2SuccessHandler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -29,6 +31,32 @@ public class SecurityConfig {
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+    
+    /**
+     * 관리 포트로 들어온 요청 전용 (액추에이터는 관리 포트에서만 노출되고, 관리 포트는 외부에 공개하지 않는다)
+     * 헬스 체크와 Prometheus 스크랩만 허용하고 나머지는 거부한다.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain managementFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(request -> managementPort > 0 && managementPort != serverPort
+                && request.getLocalPort() == managementPort)
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                .anyRequest().denyAll()
+            );
+
+        return http.build();
+    }
     
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -0,0 +1,171 @@
+package com.goormi.routine.config;
+
+import com.goormi.routine.common.exception.ErrorResponse;
+import com.goormi.routine.domain.chat.repository.ChatRateLimitRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * inbound 채널의 SEND 프레임에 토큰 버킷 속도 제한을 적용한다.
+ * 세션 단위 제한은 인스턴스 메모리에서, 채팅방 단위 제한은 설정에 따라 메모리 또는 Redis 에서 검사한다.
+ * 제한을 넘은 프레임은 버리고 사용자 에러 큐(/user/queue/errors)로 알린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompRateLimitInterceptor implements ChannelInterceptor {
+
+    private static final String ERROR_DESTINATION = "/queue/errors";
+    private static final String RATE_LIMITED_MESSAGE = "메시지 전송 속도 제한을 초과했습니다";
+
+    private final Map<String, TokenBucket> sessionBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> roomBuckets = new ConcurrentHashMap<>();
+    private final Map<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+
+    private final StompRateLimitProperties properties;
+    private final ChatRateLimitRedisRepository chatRateLimitRedisRepository;
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (!properties.isEnabled()) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || !StompCommand.SEND.equals(accessor.getCommand()) || accessor.getDestination() == null) {
+            return message;
+        }
+
+        String destination = accessor.getDestination();
+        StompRateLimitProperties.Rule rule = findRule(destination);
+        if (rule == null) {
+            return message;
+        }
+
+        String sessionId = accessor.getSessionId();
+        if (rule.getSessionRate() > 0 && sessionId != null) {
+            TokenBucket bucket = sessionBuckets.computeIfAbsent(sessionId + ":" + rule.getName(),
+                    key -> new TokenBucket(rule.getSessionRate(), rule.getSessionBurst()));
+            if (!bucket.tryAcquire()) {
+                return reject(accessor.getUser(), rule, "session", destination);
+            }
+        }
+
+        String roomId = extractRoomId(destination);
+        if (rule.getRoomRate() > 0 && roomId != null && !tryAcquireRoom(rule, roomId)) {
+            return reject(accessor.getUser(), rule, "room", destination);
+        }
+
+        return message;
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        String prefix = event.getSessionId() + ":";
+        sessionBuckets.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    // 가득 찬 버킷은 새로 만든 버킷과 같으므로 지워도 제한 동작이 달라지지 않는다
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdleRoomBuckets() {
+        roomBuckets.values().removeIf(TokenBucket::isFull);
+    }
+
+    private boolean tryAcquireRoom(StompRateLimitProperties.Rule rule, String roomId) {
+        String bucketKey = rule.getName() + ":" + roomId;
+        if (properties.isGlobalEnabled()) {
+            try {
+                return chatRateLimitRedisRepository.tryAcquire(bucketKey, rule.getRoomRate(), rule.getRoomBurst());
+            } catch (Exception e) {
+                // Redis 장애 시 인스턴스 단위 제한으로 대체
+                log.debug("Redis 속도 제한 확인 실패, 로컬 제한 사용: {}", bucketKey, e);
+            }
+        }
+        return roomBuckets.computeIfAbsent(bucketKey, key -> new TokenBucket(rule.getRoomRate(), rule.getRoomBurst()))
+                .tryAcquire();
+    }
+
+    private Message<?> reject(Principal user, StompRateLimitProperties.Rule rule, String scope, String destination) {
+        throttledCounters.computeIfAbsent(rule.getName() + ":" + scope, key -> Counter.builder("websocket.inbound.throttled")
+                        .tag("rule", rule.getName())
+                        .tag("scope", scope)
+                        .register(meterRegistry))
+                .increment();
+        log.debug("STOMP 전송 제한: user={}, destination={}, scope={}", user != null ? user.getName() : null, destination, scope);
+
+        if (user != null) {
+            messagingTemplate.getObject().convertAndSendToUser(user.getName(), ERROR_DESTINATION,
+                    ErrorResponse.of(RATE_LIMITED_MESSAGE));
+        }
+        return null;
+    }
+
+    private StompRateLimitProperties.Rule findRule(String destination) {
+        for (StompRateLimitProperties.Rule rule : properties.getRules()) {
+            if (destination.startsWith(rule.getDestinationPrefix())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    // /app/chat.send/{roomId} 형태의 마지막 경로
+    private String extractRoomId(String destination) {
+        String last = destination.substring(destination.lastIndexOf('/') + 1);
+        return !last.isEmpty() && last.chars().allMatch(Character::isDigit) ? last : null;
+    }
+
+    static class TokenBucket {
+        private final double ratePerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefill;
+
+        TokenBucket(double ratePerSecond, int burst) {
+            this.ratePerNano = ratePerSecond / 1_000_000_000d;
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        synchronized boolean tryAcquire() {
+            refill();
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized boolean isFull() {
+            refill();
+            return tokens >= capacity;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * ratePerNano);
+            lastRefill = now;
+        }
+    }
+}
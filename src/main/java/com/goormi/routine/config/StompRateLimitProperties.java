@@ -0,0 +1,40 @@
+package com.goormi.routine.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * STOMP SEND 프레임 속도 제한 설정 (websocket.rate-limit.*)
+ * 목적지 prefix 별로 세션 단위, 채팅방 단위 토큰 버킷을 지정한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "websocket.rate-limit")
+public class StompRateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 채팅방 단위 제한을 Redis 로 인스턴스 간 공유
+    private boolean globalEnabled = false;
+
+    // 먼저 일치하는 규칙 적용
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        private String destinationPrefix;
+        // 초당 토큰 수 / 최대 버스트, 0 이하면 해당 단위 제한 없음
+        private double sessionRate;
+        private int sessionBurst;
+        private double roomRate;
+        private int roomBurst;
+    }
+}
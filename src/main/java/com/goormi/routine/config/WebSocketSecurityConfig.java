@@ -1,6 +1,7 @@
 package com.goormi.routine.config;
 
 import com.goormi.routine.domain.auth.service.JwtTokenProvider;
+import com.goormi.routine.domain.chat.service.ChatSessionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Configuration;
@@ -26,6 +27,7 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class WebSocketSecurityConfig implements WebSocketMessageBrokerConfigurer {
     
     private final JwtTokenProvider jwtTokenProvider;
+    private final ChatSessionService chatSessionService;
     
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
@@ -46,8 +48,13 @@ public class WebSocketSecurityConfig implements WebSocketMessageBrokerConfigurer
                                 new UsernamePasswordAuthenticationToken(userId, null, null);
                             SecurityContextHolder.getContext().setAuthentication(authentication);
                             accessor.setUser(authentication);
+
+                            // 세션 단위로 사용자 스냅샷을 보관하여 메시지마다 사용자 조회를 생략
+                            chatSessionService.registerSession(accessor, userId);
                         }
                     }
+                } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+                    chatSessionService.verifySubscription(accessor);
                 }
                 
                 return message;
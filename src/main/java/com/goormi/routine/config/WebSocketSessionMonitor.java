@@ -0,0 +1,187 @@
+package com.goormi.routine.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션별 outbound 대기 메시지 수를 추적하고, 기준을 넘긴 느린 소비자는 연결을 끊는다.
+ * 대기 메시지 수는 outbound 채널에 들어온 시점부터 소켓 쓰기가 끝날 때까지로 센다.
+ */
+@Slf4j
+@Component
+public class WebSocketSessionMonitor implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final String ENQUEUED_AT_HEADER = "outboundEnqueuedAt";
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> queueDepths = new ConcurrentHashMap<>();
+    private final AtomicInteger totalQueueDepth = new AtomicInteger();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter slowConsumerDrops;
+    private final Counter sendLimitDrops;
+
+    @Value("${websocket.outbound.max-session-queue-depth:200}")
+    private int maxSessionQueueDepth;
+
+    public WebSocketSessionMonitor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.slowConsumerDrops = Counter.builder("websocket.sessions.dropped")
+                .tag("reason", "slow_consumer")
+                .register(meterRegistry);
+        this.sendLimitDrops = Counter.builder("websocket.sessions.dropped")
+                .tag("reason", "send_limit")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions.active", sessions, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queue.depth", totalQueueDepth, AtomicInteger::get)
+                .tag("stat", "total")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queue.depth", this, WebSocketSessionMonitor::maxSessionQueueDepth)
+                .tag("stat", "max_session")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId == null || !sessions.containsKey(sessionId)) {
+            return message;
+        }
+
+        int depth = queueDepths.computeIfAbsent(sessionId, key -> new AtomicInteger()).incrementAndGet();
+        totalQueueDepth.incrementAndGet();
+        if (depth > maxSessionQueueDepth) {
+            release(sessionId);
+            disconnectSlowConsumer(sessionId, depth);
+            return null;
+        }
+
+        return withEnqueuedAt(message);
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // executor 가 작업을 거절하면 afterMessageHandled 가 호출되지 않는다
+        if (ex != null) {
+            release(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        release(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()));
+
+        Object enqueuedAt = message.getHeaders().get(ENQUEUED_AT_HEADER);
+        if (enqueuedAt instanceof Long start) {
+            Timer.builder("websocket.outbound.fanout.latency")
+                    .tag("destination", normalizeDestination(SimpMessageHeaderAccessor.getDestination(message.getHeaders())))
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                // 직접 끊은 느린 소비자는 이미 제거되어 있으므로 전송 제한 초과로 끊긴 경우만 집계
+                if (sessions.remove(session.getId()) != null && CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus)) {
+                    sendLimitDrops.increment();
+                    log.warn("전송 제한 초과로 WebSocket 세션 종료: sessionId={}", session.getId());
+                }
+                AtomicInteger depth = queueDepths.remove(session.getId());
+                if (depth != null) {
+                    totalQueueDepth.addAndGet(-depth.get());
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private void disconnectSlowConsumer(String sessionId, int depth) {
+        WebSocketSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+
+        slowConsumerDrops.increment();
+        log.warn("느린 소비자 WebSocket 세션 종료: sessionId={}, queueDepth={}", sessionId, depth);
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.debug("WebSocket 세션 종료 실패: sessionId={}", sessionId, e);
+        }
+    }
+
+    private void release(String sessionId) {
+        if (sessionId == null) {
+            return;
+        }
+        AtomicInteger depth = queueDepths.get(sessionId);
+        if (depth != null && depth.get() > 0) {
+            depth.decrementAndGet();
+            totalQueueDepth.decrementAndGet();
+        }
+    }
+
+    // 모든 세션의 outbound 대기 메시지 수
+    public int getTotalQueueDepth() {
+        return totalQueueDepth.get();
+    }
+
+    private double maxSessionQueueDepth() {
+        return queueDepths.values().stream()
+                .mapToInt(AtomicInteger::get)
+                .max()
+                .orElse(0);
+    }
+
+    private Message<?> withEnqueuedAt(Message<?> message) {
+        MessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, MessageHeaderAccessor.class);
+        if (accessor != null && accessor.isMutable()) {
+            accessor.setHeader(ENQUEUED_AT_HEADER, System.nanoTime());
+            return message;
+        }
+        return MessageBuilder.fromMessage(message)
+                .setHeader(ENQUEUED_AT_HEADER, System.nanoTime())
+                .build();
+    }
+
+    // 채팅방 id 등 숫자 경로는 묶어서 태그 수를 제한
+    private String normalizeDestination(String destination) {
+        if (destination == null) {
+            return "none";
+        }
+        return destination.replaceAll("/\\d+", "/{id}");
+    }
+}
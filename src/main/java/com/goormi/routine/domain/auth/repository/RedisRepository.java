@@ -46,6 +46,11 @@ public class RedisRepository {
 		}
 	}
 
+	// 키가 없을 때만 저장 (분산 락 용도)
+	public boolean saveDataIfAbsent(String key, String value, long expireSeconds) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, Duration.ofSeconds(expireSeconds)));
+	}
+
 	public String getData(String key) {
 		Object value = redisTemplate.opsForValue().get(key);
 		return value != null ? value.toString() : null;
@@ -1,9 +1,13 @@
 package com.goormi.routine.domain.chat.controller;
 
 import com.goormi.routine.domain.chat.dto.AddReactionRequest;
+import com.goormi.routine.domain.chat.dto.ChatEphemeralEvent.EphemeralType;
 import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
 import com.goormi.routine.domain.chat.dto.MessageReactionDto;
+import com.goormi.routine.domain.chat.service.ChatEphemeralService;
 import com.goormi.routine.domain.chat.service.ChatService;
+import com.goormi.routine.domain.chat.service.ChatSessionService;
 import com.goormi.routine.domain.chat.service.MessageReactionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +27,8 @@ import java.security.Principal;
 public class ChatController {
 
     private final ChatService chatService;
+    private final ChatEphemeralService chatEphemeralService;
+    private final ChatSessionService chatSessionService;
     private final MessageReactionService messageReactionService;
     private final SimpMessagingTemplate messagingTemplate;
     
@@ -30,14 +36,16 @@ public class ChatController {
     public void sendMessage(
             @DestinationVariable Long roomId,
             @Payload ChatMessageDto message,
+            SimpMessageHeaderAccessor headerAccessor,
             Principal principal) {
         
         log.info("Received message in room {}: {}", roomId, message.getMessage());
         
         message.setRoomId(roomId);
         Long userId = Long.parseLong(principal.getName());
+        ChatSessionContext session = chatSessionService.getContext(headerAccessor, userId);
         
-        chatService.saveAndSendMessage(message, userId);
+        chatService.saveAndSendMessage(message, session);
     }
     
     @MessageMapping("/chat.enter/{roomId}")
@@ -47,47 +55,70 @@ public class ChatController {
             SimpMessageHeaderAccessor headerAccessor,
             Principal principal) {
         
-        log.info("User {} entered room {}", principal.getName(), roomId);
+        log.debug("User {} entered room {}", principal.getName(), roomId);
         
         headerAccessor.getSessionAttributes().put("roomId", roomId);
         headerAccessor.getSessionAttributes().put("userId", principal.getName());
         
         Long userId = Long.parseLong(principal.getName());
-        chatService.handleUserEnter(roomId, userId);
+        chatEphemeralService.submit(roomId, chatSessionService.getContext(headerAccessor, userId), EphemeralType.ENTER);
     }
     
     @MessageMapping("/chat.leave/{roomId}")
     public void leaveRoom(
             @DestinationVariable Long roomId,
             @Payload ChatMessageDto message,
+            SimpMessageHeaderAccessor headerAccessor,
             Principal principal) {
         
-        log.info("User {} left room {}", principal.getName(), roomId);
+        log.debug("User {} left room {}", principal.getName(), roomId);
         
         Long userId = Long.parseLong(principal.getName());
-        chatService.handleUserLeave(roomId, userId);
+        chatEphemeralService.submit(roomId, chatSessionService.getContext(headerAccessor, userId), EphemeralType.LEAVE);
     }
     
     @MessageMapping("/chat.online/{roomId}")
     public void userOnline(
             @DestinationVariable Long roomId,
+            SimpMessageHeaderAccessor headerAccessor,
             Principal principal) {
         
         log.debug("User {} is now online in room {}", principal.getName(), roomId);
         
         Long userId = Long.parseLong(principal.getName());
-        chatService.handleUserOnline(roomId, userId);
+        chatEphemeralService.submit(roomId, chatSessionService.getContext(headerAccessor, userId), EphemeralType.ONLINE);
     }
     
     @MessageMapping("/chat.offline/{roomId}")
     public void userOffline(
             @DestinationVariable Long roomId,
+            SimpMessageHeaderAccessor headerAccessor,
             Principal principal) {
 
         log.debug("User {} is now offline in room {}", principal.getName(), roomId);
 
         Long userId = Long.parseLong(principal.getName());
-        chatService.handleUserOffline(roomId, userId);
+        chatEphemeralService.submit(roomId, chatSessionService.getContext(headerAccessor, userId), EphemeralType.OFFLINE);
+    }
+
+    @MessageMapping("/chat.typing/{roomId}")
+    public void typing(
+            @DestinationVariable Long roomId,
+            SimpMessageHeaderAccessor headerAccessor,
+            Principal principal) {
+
+        Long userId = Long.parseLong(principal.getName());
+        chatEphemeralService.submit(roomId, chatSessionService.getContext(headerAccessor, userId), EphemeralType.TYPING);
+    }
+
+    @MessageMapping("/chat.typing.stop/{roomId}")
+    public void typingStop(
+            @DestinationVariable Long roomId,
+            SimpMessageHeaderAccessor headerAccessor,
+            Principal principal) {
+
+        Long userId = Long.parseLong(principal.getName());
+        chatEphemeralService.submit(roomId, chatSessionService.getContext(headerAccessor, userId), EphemeralType.TYPING_STOP);
     }
 
     @MessageMapping("/chat.reaction.add/{roomId}")
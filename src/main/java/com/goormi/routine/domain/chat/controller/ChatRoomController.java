@@ -3,8 +3,11 @@ package com.goormi.routine.domain.chat.controller;
 import com.goormi.routine.common.response.ApiResponse;
 import com.goormi.routine.domain.chat.dto.ChatMessageDto;
 import com.goormi.routine.domain.chat.dto.ChatRoomDto;
+import com.goormi.routine.domain.chat.dto.ChatSearchResultDto;
+import com.goormi.routine.domain.chat.dto.ChatSyncResponseDto;
 import com.goormi.routine.domain.chat.dto.CreateChatRoomRequest;
 import com.goormi.routine.domain.chat.service.ChatRoomService;
+import com.goormi.routine.domain.chat.service.ChatSearchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -25,6 +28,7 @@ import java.util.List;
 public class ChatRoomController {
     
     private final ChatRoomService chatRoomService;
+    private final ChatSearchService chatSearchService;
     private final UserRepository userRepository;
     
     // 그룹 생성 시 자동으로 채팅방이 생성되므로 별도 채팅방 생성 API는 비활성화
@@ -119,4 +123,29 @@ public class ChatRoomController {
         Page<ChatMessageDto> messages = chatRoomService.getMessages(roomId, beforeMessageId, pageable, username);
         return ResponseEntity.ok(ApiResponse.success(messages));
     }
+
+    @Operation(summary = "메시지 동기화", description = "재연결 시 afterSeq 이후의 메시지만 조회합니다. hasMore 가 true 면 lastSeq 로 다시 요청합니다")
+    @GetMapping("/{roomId}/messages/sync")
+    public ResponseEntity<ApiResponse<ChatSyncResponseDto>> syncMessages(
+            @PathVariable Long roomId,
+            @RequestParam(defaultValue = "0") Long afterSeq,
+            @RequestParam(defaultValue = "100") int limit,
+            @AuthenticationPrincipal Long userId) {
+
+        ChatSyncResponseDto result = chatRoomService.syncMessages(roomId, afterSeq, limit, userId);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
+
+    @Operation(summary = "메시지 검색", description = "채팅방 메시지를 검색합니다. 다음 페이지는 nextCursor 를 beforeMessageId 로 전달합니다")
+    @GetMapping("/{roomId}/messages/search")
+    public ResponseEntity<ApiResponse<ChatSearchResultDto>> searchMessages(
+            @PathVariable Long roomId,
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long beforeMessageId,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal Long userId) {
+
+        ChatSearchResultDto result = chatSearchService.search(roomId, keyword, beforeMessageId, size, userId);
+        return ResponseEntity.ok(ApiResponse.success(result));
+    }
 }
\ No newline at end of file
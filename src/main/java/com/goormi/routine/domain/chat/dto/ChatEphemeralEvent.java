@@ -0,0 +1,35 @@
+package com.goormi.routine.domain.chat.dto;
+
+import lombok.*;
+
+/**
+ * 타이핑/접속 상태처럼 저장하지 않는 채팅 이벤트
+ * /topic/room/{roomId}/ephemeral 로 전달된다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatEphemeralEvent {
+
+    private Long roomId;
+    private Long userId;
+    private String senderNickname;
+    private EphemeralType type;
+    private Long timestamp;
+
+    public enum EphemeralType {
+        TYPING,
+        TYPING_STOP,
+        ONLINE,
+        OFFLINE,
+        ENTER,
+        LEAVE;
+
+        // 같은 분류의 이벤트끼리만 병합 (타이핑이 접속 상태를 덮어쓰지 않도록)
+        public boolean isTyping() {
+            return this == TYPING || this == TYPING_STOP;
+        }
+    }
+}
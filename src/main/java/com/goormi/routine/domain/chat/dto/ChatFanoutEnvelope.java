@@ -0,0 +1,65 @@
+package com.goormi.routine.domain.chat.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Redis 팬아웃 구간에서 사용하는 채팅 메시지 포맷
+ * "{roomId}|{messageType}\n" 라우팅 헤더 뒤에 STOMP 로 그대로 전달할 UTF-8 JSON 페이로드를 붙인다.
+ * 구독 측은 헤더만 읽고 페이로드 바이트는 역직렬화 없이 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class ChatFanoutEnvelope {
+
+    private static final byte HEADER_END = '\n';
+    private static final String HEADER_SEPARATOR = "|";
+
+    private final Long roomId;
+    private final MessageType messageType;
+    private final byte[] payload;
+
+    public static byte[] encode(ObjectMapper objectMapper, ChatMessageDto message) throws JsonProcessingException {
+        byte[] header = (message.getRoomId() + HEADER_SEPARATOR + message.getMessageType() + "\n")
+                .getBytes(StandardCharsets.US_ASCII);
+        byte[] payload = objectMapper.writeValueAsBytes(message);
+
+        byte[] encoded = Arrays.copyOf(header, header.length + payload.length);
+        System.arraycopy(payload, 0, encoded, header.length, payload.length);
+        return encoded;
+    }
+
+    /**
+     * @return 라우팅 헤더가 없는(이전 포맷) 메시지면 null
+     */
+    public static ChatFanoutEnvelope decode(byte[] encoded) {
+        int headerEnd = -1;
+        for (int i = 0; i < encoded.length; i++) {
+            if (encoded[i] == HEADER_END) {
+                headerEnd = i;
+                break;
+            }
+            if (encoded[i] == '{') {
+                return null;
+            }
+        }
+        if (headerEnd < 0) {
+            return null;
+        }
+
+        String header = new String(encoded, 0, headerEnd, StandardCharsets.US_ASCII);
+        int separator = header.indexOf(HEADER_SEPARATOR);
+        Long roomId = Long.valueOf(header.substring(0, separator));
+        String type = header.substring(separator + 1);
+        MessageType messageType = "null".equals(type) ? null : MessageType.valueOf(type);
+
+        byte[] payload = Arrays.copyOfRange(encoded, headerEnd + 1, encoded.length);
+        return new ChatFanoutEnvelope(roomId, messageType, payload);
+    }
+}
@@ -15,6 +15,8 @@ public class ChatMessageDto {
 
     private Long id;
     private Long roomId;
+    private Long seq;
+    private String clientMessageId;
     private Long userId;
     private String senderNickname;
     private String message;
@@ -0,0 +1,17 @@
+package com.goormi.routine.domain.chat.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSearchResultDto {
+
+    private List<ChatMessageDto> messages;
+    // 다음 페이지 조회 시 beforeMessageId 로 전달, 마지막 페이지면 null
+    private Long nextCursor;
+}
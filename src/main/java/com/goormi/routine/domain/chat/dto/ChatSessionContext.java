@@ -0,0 +1,73 @@
+package com.goormi.routine.domain.chat.dto;
+
+import com.goormi.routine.domain.user.entity.User;
+import com.goormi.routine.domain.user.entity.User.UserRole;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션 단위로 보관되는 사용자 컨텍스트
+ * CONNECT 시 프로필 스냅샷을, SUBSCRIBE 시 검증된 채팅방 멤버십을 채워두고
+ * 메시지 핸들러는 DB 조회 없이 이 값을 사용한다.
+ */
+@Getter
+public class ChatSessionContext {
+
+    public static final String SESSION_ATTRIBUTE = "chatSessionContext";
+
+    private final Long userId;
+    private volatile Profile profile;
+    private final Set<Long> verifiedRoomIds = ConcurrentHashMap.newKeySet();
+
+    public ChatSessionContext(Long userId) {
+        this.userId = userId;
+    }
+
+    public static ChatSessionContext of(User user) {
+        ChatSessionContext context = new ChatSessionContext(user.getId());
+        context.updateProfile(user);
+        return context;
+    }
+
+    public void updateProfile(User user) {
+        this.profile = new Profile(user.getNickname(), user.getRole());
+    }
+
+    public void invalidateProfile() {
+        this.profile = null;
+    }
+
+    public boolean hasProfile() {
+        return profile != null;
+    }
+
+    public String getNickname() {
+        return profile != null ? profile.getNickname() : null;
+    }
+
+    public UserRole getRole() {
+        return profile != null ? profile.getRole() : null;
+    }
+
+    public void addVerifiedRoom(Long roomId) {
+        verifiedRoomIds.add(roomId);
+    }
+
+    public void removeVerifiedRoom(Long roomId) {
+        verifiedRoomIds.remove(roomId);
+    }
+
+    public boolean isVerifiedMember(Long roomId) {
+        return roomId != null && verifiedRoomIds.contains(roomId);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Profile {
+        private final String nickname;
+        private final UserRole role;
+    }
+}
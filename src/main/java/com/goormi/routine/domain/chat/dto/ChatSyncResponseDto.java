@@ -0,0 +1,18 @@
+package com.goormi.routine.domain.chat.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatSyncResponseDto {
+
+    private List<ChatMessageDto> messages;
+    // 다음 동기화 시 afterSeq 로 전달
+    private Long lastSeq;
+    private boolean hasMore;
+}
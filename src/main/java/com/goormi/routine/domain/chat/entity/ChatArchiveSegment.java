@@ -0,0 +1,69 @@
+package com.goormi.routine.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방/월 단위 아카이브 세그먼트 메타데이터
+ * 세그먼트 파일(gzip NDJSON)은 ChatArchiveStore 에 append-only 로 쌓이고,
+ * 이 테이블은 조회 시 읽어야 할 세그먼트를 고르는 데 사용한다.
+ */
+@Entity
+@Table(name = "chat_archive_segments",
+    uniqueConstraints = {@UniqueConstraint(columnNames = {"room_id", "archive_month"})},
+    indexes = {
+        @Index(name = "idx_chat_archive_room_max", columnList = "room_id, max_message_id")
+    })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ChatArchiveSegment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    // yyyy-MM
+    @Column(name = "archive_month", nullable = false, length = 7)
+    private String archiveMonth;
+
+    @Column(name = "storage_key", nullable = false)
+    private String storageKey;
+
+    @Column(name = "message_count", nullable = false)
+    private Long messageCount;
+
+    @Column(name = "min_message_id", nullable = false)
+    private Long minMessageId;
+
+    @Column(name = "max_message_id", nullable = false)
+    private Long maxMessageId;
+
+    // 메시지가 모두 아카이브된 채팅방도 순번을 이어서 발급할 수 있도록 보관
+    @Column(name = "max_seq")
+    private Long maxSeq;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public void append(long count, Long minId, Long maxId, Long maxSeq) {
+        this.messageCount += count;
+        this.minMessageId = Math.min(this.minMessageId, minId);
+        this.maxMessageId = Math.max(this.maxMessageId, maxId);
+        if (maxSeq != null) {
+            this.maxSeq = this.maxSeq != null ? Math.max(this.maxSeq, maxSeq) : maxSeq;
+        }
+    }
+}
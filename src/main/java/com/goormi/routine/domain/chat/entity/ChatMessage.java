@@ -10,6 +10,10 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_chat_msg_room_created", columnList = "room_id, created_at DESC"),
         @Index(name = "idx_chat_msg_room_id", columnList = "room_id, id")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_msg_room_seq", columnNames = {"room_id", "seq"}),
+        @UniqueConstraint(name = "uk_chat_msg_client_id", columnNames = {"user_id", "client_message_id"})
     })
 @Getter
 @Setter
@@ -24,6 +28,14 @@ public class ChatMessage {
     
     @Column(name = "room_id", nullable = false)
     private Long roomId;
+
+    // 채팅방 내 순번 (동기화 커서)
+    @Column(name = "seq")
+    private Long seq;
+
+    // 클라이언트가 생성한 메시지 id (재전송 중복 방지)
+    @Column(name = "client_message_id", length = 64)
+    private String clientMessageId;
     
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -0,0 +1,37 @@
+package com.goormi.routine.domain.chat.repository;
+
+import com.goormi.routine.domain.chat.entity.ChatArchiveSegment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ChatArchiveSegmentRepository extends JpaRepository<ChatArchiveSegment, Long> {
+
+    Optional<ChatArchiveSegment> findByRoomIdAndArchiveMonth(Long roomId, String archiveMonth);
+
+    List<ChatArchiveSegment> findByRoomIdOrderByMaxMessageIdDesc(Long roomId);
+
+    List<ChatArchiveSegment> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(s.messageCount), 0) FROM ChatArchiveSegment s WHERE s.roomId = :roomId")
+    long sumMessageCountByRoomId(@Param("roomId") Long roomId);
+
+    @Query("SELECT COALESCE(MAX(s.maxSeq), 0) FROM ChatArchiveSegment s WHERE s.roomId = :roomId")
+    long findMaxSeqByRoomId(@Param("roomId") Long roomId);
+
+    // 커서보다 통째로 앞선 세그먼트의 메시지 수 (세그먼트 파일은 읽지 않는다)
+    @Query("SELECT COALESCE(SUM(s.messageCount), 0) FROM ChatArchiveSegment s " +
+            "WHERE s.roomId = :roomId AND s.maxMessageId < :beforeMessageId")
+    long sumMessageCountByRoomIdBefore(@Param("roomId") Long roomId, @Param("beforeMessageId") Long beforeMessageId);
+
+    // 커서가 id 범위 안에 걸친 세그먼트
+    @Query("SELECT s FROM ChatArchiveSegment s " +
+            "WHERE s.roomId = :roomId AND s.minMessageId < :beforeMessageId AND s.maxMessageId >= :beforeMessageId")
+    List<ChatArchiveSegment> findStraddling(@Param("roomId") Long roomId, @Param("beforeMessageId") Long beforeMessageId);
+}
@@ -0,0 +1,21 @@
+package com.goormi.routine.domain.chat.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 채팅 아카이브 세그먼트 저장소 (로컬 파일시스템, 추후 S3)
+ * 세그먼트는 append-only 이며, 한 번 쓴 바이트는 수정하지 않는다.
+ */
+public interface ChatArchiveStore {
+
+    /**
+     * 세그먼트 끝에 바이트를 덧붙이고, 반환 전에 영속화를 보장한다.
+     */
+    void append(String key, byte[] bytes) throws IOException;
+
+    /**
+     * @return 세그먼트가 없으면 null
+     */
+    InputStream open(String key) throws IOException;
+}
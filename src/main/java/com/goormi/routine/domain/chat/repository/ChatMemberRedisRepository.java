@@ -0,0 +1,103 @@
+package com.goormi.routine.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방별 활성 멤버 인덱스 (Redis Set)
+ * 로딩 여부를 구분하기 위해 센티널 값을 함께 저장한다.
+ * 멤버십이 바뀌면 인덱스를 지우고 버전을 올리며, 로딩은 DB 조회 전에 읽은 버전이 그대로일 때만
+ * 스크립트 안에서 한 번에 채워 변경 이전의 멤버 목록이 인덱스에 남지 않게 한다.
+ * 인덱스와 버전 키는 같은 해시 태그를 써서 스크립트가 한 슬롯 안에서만 동작한다.
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class ChatMemberRedisRepository {
+
+	private final StringRedisTemplate redisTemplate;
+
+	private static final String ROOM_MEMBERS_PREFIX = "chat:room:members:";
+	private static final String LOADED_SENTINEL = "_loaded";
+	private static final Duration INDEX_TTL = Duration.ofMinutes(30);
+
+	// 이미 로딩되어 있거나 조회 이후 멤버십이 바뀌었으면 채우지 않는다
+	private static final String LOAD_SCRIPT =
+		"if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+		"if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then return 0 end " +
+		"redis.call('SADD', KEYS[1], unpack(ARGV, 3)) " +
+		"redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+		"return 1";
+
+	// 버전 키는 인덱스보다 오래 남겨, 로딩 도중 만료되어 이전 버전과 같아 보이는 일이 없게 한다
+	private static final String INVALIDATE_SCRIPT =
+		"redis.call('DEL', KEYS[1]) " +
+		"redis.call('INCR', KEYS[2]) " +
+		"redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+		"return 1";
+
+	private static final DefaultRedisScript<Long> LOAD = new DefaultRedisScript<>(LOAD_SCRIPT, Long.class);
+	private static final DefaultRedisScript<Long> INVALIDATE = new DefaultRedisScript<>(INVALIDATE_SCRIPT, Long.class);
+
+	/**
+	 * @return 인덱스가 로딩되지 않았으면 null, 로딩되어 있으면 멤버 여부
+	 */
+	public Boolean isMember(Long roomId, Long userId) {
+		Map<Object, Boolean> result = redisTemplate.opsForSet()
+			.isMember(key(roomId), userId.toString(), LOADED_SENTINEL);
+		if (result == null || !Boolean.TRUE.equals(result.get(LOADED_SENTINEL))) {
+			return null;
+		}
+		return Boolean.TRUE.equals(result.get(userId.toString()));
+	}
+
+	/**
+	 * DB 에서 멤버 목록을 읽기 전에 조회해 {@link #loadMembers} 에 그대로 넘긴다
+	 */
+	public String getVersion(Long roomId) {
+		String version = redisTemplate.opsForValue().get(versionKey(roomId));
+		return version != null ? version : "0";
+	}
+
+	/**
+	 * @param version DB 조회 전에 {@link #getVersion} 으로 읽은 값
+	 * @return 인덱스를 채웠으면 true, 이미 로딩되어 있거나 그 사이 멤버십이 바뀌었으면 false
+	 */
+	public boolean loadMembers(Long roomId, Collection<Long> userIds, String version) {
+		List<String> args = new ArrayList<>(userIds.size() + 3);
+		args.add(version);
+		args.add(String.valueOf(INDEX_TTL.toSeconds()));
+		for (Long userId : userIds) {
+			args.add(userId.toString());
+		}
+		args.add(LOADED_SENTINEL);
+
+		Long loaded = redisTemplate.execute(LOAD, List.of(key(roomId), versionKey(roomId)), args.toArray());
+		boolean filled = loaded != null && loaded == 1L;
+		log.debug("채팅방 멤버 인덱스 로딩: roomId={}, members={}, filled={}", roomId, userIds.size(), filled);
+		return filled;
+	}
+
+	// 멤버십 변경 시 인덱스를 고치지 않고 지워, 다음 조회가 DB 에서 다시 로딩하게 한다
+	public void invalidate(Long roomId) {
+		redisTemplate.execute(INVALIDATE, List.of(key(roomId), versionKey(roomId)),
+			String.valueOf(INDEX_TTL.multipliedBy(2).toSeconds()));
+	}
+
+	private String key(Long roomId) {
+		return ROOM_MEMBERS_PREFIX + "{" + roomId + "}";
+	}
+
+	private String versionKey(Long roomId) {
+		return ROOM_MEMBERS_PREFIX + "{" + roomId + "}:version";
+	}
+}
@@ -27,8 +27,10 @@ public interface ChatMemberRepository extends JpaRepository<ChatMember, Long> {
     boolean existsByRoomIdAndUserIdAndIsActiveTrue(Long roomId, Long userId);
     
     @Modifying
-    @Query("UPDATE ChatMember cm SET cm.lastReadMessageId = :messageId WHERE cm.roomId = :roomId AND cm.userId = :userId")
-    void updateLastReadMessage(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("messageId") Long messageId);
+    @Query("UPDATE ChatMember cm SET cm.lastReadMessageId = :messageId " +
+           "WHERE cm.roomId = :roomId AND cm.userId = :userId " +
+           "AND (cm.lastReadMessageId IS NULL OR cm.lastReadMessageId < :messageId)")
+    int advanceLastReadMessage(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("messageId") Long messageId);
 
     @Query("SELECT cm.roomId as roomId, COUNT(cm) as count FROM ChatMember cm " +
            "WHERE cm.roomId IN :roomIds AND cm.isActive = true " +
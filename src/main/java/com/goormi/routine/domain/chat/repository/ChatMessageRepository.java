@@ -1,15 +1,19 @@
 package com.goormi.routine.domain.chat.repository;
 
 import com.goormi.routine.domain.chat.entity.ChatMessage;
+import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
@@ -26,5 +30,24 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     @Query("SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.roomId = :roomId")
     long countByRoomId(@Param("roomId") Long roomId);
     
-    void deleteByRoomIdAndCreatedAtBefore(Long roomId, LocalDateTime before);
+    // 재연결 시 누락분 동기화
+    List<ChatMessage> findByRoomIdAndSeqGreaterThanOrderBySeqAsc(Long roomId, Long seq, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(cm.seq), 0) FROM ChatMessage cm WHERE cm.roomId = :roomId")
+    long findMaxSeqByRoomId(@Param("roomId") Long roomId);
+
+    Optional<ChatMessage> findByUserIdAndClientMessageId(Long userId, String clientMessageId);
+
+    // 검색 인덱스 재생성용
+    List<ChatMessage> findByIdGreaterThanAndMessageTypeInOrderByIdAsc(Long id, Collection<MessageType> messageTypes, Pageable pageable);
+
+    // 아카이브 대상 조회
+    @Query("SELECT DISTINCT cm.roomId FROM ChatMessage cm WHERE cm.createdAt < :before")
+    List<Long> findRoomIdsWithMessagesBefore(@Param("before") LocalDateTime before);
+
+    List<ChatMessage> findByRoomIdAndCreatedAtBeforeOrderByIdAsc(Long roomId, LocalDateTime before, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ChatMessage cm WHERE cm.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
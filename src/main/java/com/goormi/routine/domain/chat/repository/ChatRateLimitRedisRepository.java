@@ -0,0 +1,43 @@
+package com.goormi.routine.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 인스턴스 간 공유되는 토큰 버킷 (Redis Hash + Lua)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatRateLimitRedisRepository {
+
+	private final StringRedisTemplate redisTemplate;
+
+	private static final String RATE_LIMIT_PREFIX = "chat:ratelimit:";
+
+	private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+		"local rate = tonumber(ARGV[1]) " +
+		"local burst = tonumber(ARGV[2]) " +
+		"local now = tonumber(ARGV[3]) " +
+		"local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+		"local tokens = tonumber(state[1]) " +
+		"local ts = tonumber(state[2]) " +
+		"if tokens == nil then tokens = burst ts = now end " +
+		"tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000) " +
+		"local allowed = 0 " +
+		"if tokens >= 1 then tokens = tokens - 1 allowed = 1 end " +
+		"redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+		"redis.call('PEXPIRE', KEYS[1], math.ceil(burst / rate * 1000) + 1000) " +
+		"return allowed",
+		Long.class);
+
+	public boolean tryAcquire(String bucket, double rate, int burst) {
+		Long allowed = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(RATE_LIMIT_PREFIX + bucket),
+			String.valueOf(rate), String.valueOf(burst), String.valueOf(System.currentTimeMillis()));
+		return allowed == null || allowed == 1L;
+	}
+}
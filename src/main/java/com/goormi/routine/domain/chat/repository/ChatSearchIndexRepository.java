@@ -0,0 +1,352 @@
+package com.goormi.routine.domain.chat.repository;
+
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 채팅 메시지 전문 검색용 Lucene 인덱스
+ * 한국어는 CJK bigram 으로 분석하고, 채팅방 필터 + 메시지 id 내림차순 정렬로 커서 페이징한다.
+ * index-dir 이 비어 있으면 메모리 인덱스를 사용한다 (테스트용).
+ * 인덱스는 이 인스턴스의 로컬 디렉터리에만 있고 같은 인스턴스에서 저장된 메시지만 색인하므로,
+ * 채팅 검색은 단일 인스턴스 배포를 전제로 한다.
+ *
+ * 재생성은 별도 디렉터리의 임시 인덱스에 만든 뒤 성공하면 운영 인덱스와 교체한다.
+ * 재생성 중 들어온 메시지는 두 인덱스에 모두 색인해 교체 후에도 빠지지 않게 한다.
+ */
+@Slf4j
+@Repository
+public class ChatSearchIndexRepository implements DisposableBean {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_ID_RANGE = "idRange";
+    private static final String FIELD_ID_SORT = "idSort";
+    private static final String FIELD_ROOM_ID = "roomId";
+    private static final String FIELD_USER_ID = "userId";
+    private static final String FIELD_NICKNAME = "senderNickname";
+    private static final String FIELD_MESSAGE = "message";
+    private static final String FIELD_IMAGE_URL = "imageUrl";
+    private static final String FIELD_MESSAGE_TYPE = "messageType";
+    private static final String FIELD_SENT_AT = "sentAt";
+
+    private static final Sort ID_DESC = new Sort(new SortField(FIELD_ID_SORT, SortField.Type.LONG, true));
+
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+    private final Path rebuildPath;
+    private final Directory directory;
+    private volatile IndexWriter indexWriter;
+    private volatile SearcherManager searcherManager;
+
+    // 운영 인덱스 교체 중에는 색인/갱신을 막는다 (교체 중간 상태가 검색되지 않도록)
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private Directory rebuildDirectory;
+    private volatile IndexWriter rebuildWriter;
+
+    public ChatSearchIndexRepository(@Value("${chat.search.index-dir:}") String indexDir) throws IOException {
+        if (indexDir == null || indexDir.isBlank()) {
+            this.rebuildPath = null;
+            this.directory = new ByteBuffersDirectory();
+        } else {
+            Path path = Paths.get(indexDir).toAbsolutePath().normalize();
+            Files.createDirectories(path);
+            this.rebuildPath = path.resolveSibling(path.getFileName() + "-rebuild");
+            this.directory = FSDirectory.open(path);
+        }
+
+        openWriter();
+    }
+
+    // 같은 id 문서는 교체되므로 재색인해도 중복되지 않는다
+    public void index(ChatMessageDto message) throws IOException {
+        swapLock.readLock().lock();
+        try {
+            Term id = new Term(FIELD_ID, String.valueOf(message.getId()));
+            Document document = toDocument(message);
+            indexWriter.updateDocument(id, document);
+            IndexWriter rebuilding = rebuildWriter;
+            if (rebuilding != null) {
+                rebuilding.updateDocument(id, document);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public void refresh() throws IOException {
+        swapLock.readLock().lock();
+        try {
+            searcherManager.maybeRefresh();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public void commit() throws IOException {
+        swapLock.readLock().lock();
+        try {
+            if (indexWriter.hasUncommittedChanges()) {
+                indexWriter.commit();
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 빈 임시 인덱스를 열고, 이후 {@link #index} 로 들어오는 메시지를 임시 인덱스에도 색인한다.
+     */
+    public void beginRebuild() throws IOException {
+        swapLock.writeLock().lock();
+        try {
+            if (rebuildWriter != null) {
+                throw new IllegalStateException("채팅 검색 인덱스 재생성이 이미 진행 중입니다");
+            }
+            if (rebuildPath != null) {
+                deleteDirectory(rebuildPath);
+                Files.createDirectories(rebuildPath);
+                rebuildDirectory = FSDirectory.open(rebuildPath);
+            } else {
+                rebuildDirectory = new ByteBuffersDirectory();
+            }
+            IndexWriterConfig config = new IndexWriterConfig(analyzer);
+            config.setOpenMode(IndexWriterConfig.OpenMode.CREATE);
+            config.setRAMBufferSizeMB(64);
+            rebuildWriter = new IndexWriter(rebuildDirectory, config);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    public void indexForRebuild(Collection<ChatMessageDto> messages) throws IOException {
+        IndexWriter rebuilding = rebuildWriter;
+        if (rebuilding == null) {
+            throw new IllegalStateException("진행 중인 채팅 검색 인덱스 재생성이 없습니다");
+        }
+        for (ChatMessageDto message : messages) {
+            rebuilding.updateDocument(new Term(FIELD_ID, String.valueOf(message.getId())), toDocument(message));
+        }
+    }
+
+    /**
+     * 임시 인덱스로 운영 인덱스를 교체하고 커밋한 뒤 검색에 반영한다.
+     */
+    public void completeRebuild() throws IOException {
+        swapLock.writeLock().lock();
+        try {
+            if (rebuildWriter == null) {
+                throw new IllegalStateException("진행 중인 채팅 검색 인덱스 재생성이 없습니다");
+            }
+            rebuildWriter.commit();
+            rebuildWriter.close();
+            rebuildWriter = null;
+
+            // 교체 전 상태를 커밋해 두고, 교체가 실패하면 그 커밋으로 되돌려 빈 인덱스가 검색되지 않게 한다
+            indexWriter.commit();
+            try {
+                indexWriter.deleteAll();
+                indexWriter.addIndexes(rebuildDirectory);
+                indexWriter.commit();
+            } catch (IOException | RuntimeException e) {
+                indexWriter.rollback();
+                searcherManager.close();
+                openWriter();
+                throw e;
+            }
+            searcherManager.maybeRefreshBlocking();
+        } finally {
+            closeRebuildDirectory();
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    // 운영 인덱스는 건드리지 않고 임시 인덱스만 버린다
+    public void abortRebuild() {
+        swapLock.writeLock().lock();
+        try {
+            if (rebuildWriter != null) {
+                rebuildWriter.rollback();
+            }
+        } catch (IOException e) {
+            log.warn("채팅 검색 임시 인덱스 정리 실패", e);
+        } finally {
+            rebuildWriter = null;
+            closeRebuildDirectory();
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공백으로 나눈 각 단어를 구문으로 검색하고 모두 포함된 메시지만 반환한다.
+     *
+     * @param beforeMessageId 이 id 보다 작은 메시지만 조회 (null 이면 최신부터)
+     */
+    public List<ChatMessageDto> search(Long roomId, String keyword, Long beforeMessageId, int limit) throws IOException {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(FIELD_ROOM_ID, String.valueOf(roomId))), BooleanClause.Occur.FILTER);
+
+        boolean hasTerm = false;
+        for (String word : keyword.trim().split("\\s+")) {
+            Query phrase = queryBuilder.createPhraseQuery(FIELD_MESSAGE, word);
+            if (phrase != null) {
+                builder.add(phrase, BooleanClause.Occur.MUST);
+                hasTerm = true;
+            }
+        }
+        if (!hasTerm) {
+            return List.of();
+        }
+
+        if (beforeMessageId != null) {
+            builder.add(LongPoint.newRangeQuery(FIELD_ID_RANGE, Long.MIN_VALUE, beforeMessageId - 1), BooleanClause.Occur.FILTER);
+        }
+
+        swapLock.readLock().lock();
+        try {
+            SearcherManager manager = searcherManager;
+            IndexSearcher searcher = manager.acquire();
+            try {
+                TopFieldDocs topDocs = searcher.search(builder.build(), limit, ID_DESC);
+                StoredFields storedFields = searcher.storedFields();
+                List<ChatMessageDto> result = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    result.add(toDto(storedFields.document(scoreDoc.doc)));
+                }
+                return result;
+            } finally {
+                manager.release(searcher);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        abortRebuild();
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private void openWriter() throws IOException {
+        IndexWriterConfig config = new IndexWriterConfig(analyzer);
+        config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        config.setRAMBufferSizeMB(64);
+        this.indexWriter = new IndexWriter(directory, config);
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    private void closeRebuildDirectory() {
+        if (rebuildDirectory == null) {
+            return;
+        }
+        try {
+            rebuildDirectory.close();
+            if (rebuildPath != null) {
+                deleteDirectory(rebuildPath);
+            }
+        } catch (IOException e) {
+            log.warn("채팅 검색 임시 인덱스 삭제 실패: {}", rebuildPath, e);
+        } finally {
+            rebuildDirectory = null;
+        }
+    }
+
+    private void deleteDirectory(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    private Document toDocument(ChatMessageDto message) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(message.getId()), Field.Store.YES));
+        document.add(new LongPoint(FIELD_ID_RANGE, message.getId()));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, message.getId()));
+        document.add(new StringField(FIELD_ROOM_ID, String.valueOf(message.getRoomId()), Field.Store.YES));
+        // 시스템 메시지는 보낸 사람이 없을 수 있다
+        if (message.getUserId() != null) {
+            document.add(new StoredField(FIELD_USER_ID, message.getUserId()));
+        }
+        if (message.getSenderNickname() != null) {
+            document.add(new StoredField(FIELD_NICKNAME, message.getSenderNickname()));
+        }
+        document.add(new TextField(FIELD_MESSAGE, message.getMessage(), Field.Store.YES));
+        document.add(new StoredField(FIELD_MESSAGE_TYPE, message.getMessageType().name()));
+        if (message.getImageUrl() != null) {
+            document.add(new StoredField(FIELD_IMAGE_URL, message.getImageUrl()));
+        }
+        if (message.getSentAt() != null) {
+            document.add(new StoredField(FIELD_SENT_AT, message.getSentAt().toInstant(ZoneOffset.UTC).toEpochMilli()));
+        }
+        return document;
+    }
+
+    private ChatMessageDto toDto(Document document) {
+        Number userId = document.getField(FIELD_USER_ID) != null ? document.getField(FIELD_USER_ID).numericValue() : null;
+        Number sentAt = document.getField(FIELD_SENT_AT) != null ? document.getField(FIELD_SENT_AT).numericValue() : null;
+        return ChatMessageDto.builder()
+                .id(Long.valueOf(document.get(FIELD_ID)))
+                .roomId(Long.valueOf(document.get(FIELD_ROOM_ID)))
+                .userId(userId != null ? userId.longValue() : null)
+                .senderNickname(document.get(FIELD_NICKNAME))
+                .message(document.get(FIELD_MESSAGE))
+                .imageUrl(document.get(FIELD_IMAGE_URL))
+                .messageType(MessageType.valueOf(document.get(FIELD_MESSAGE_TYPE)))
+                .sentAt(sentAt != null
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(sentAt.longValue()), ZoneOffset.UTC)
+                        : null)
+                .build();
+    }
+}
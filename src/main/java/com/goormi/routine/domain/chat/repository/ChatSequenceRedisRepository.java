@@ -0,0 +1,38 @@
+package com.goormi.routine.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채팅방별 메시지 순번 (Redis INCR)
+ * 키가 없으면(최초 사용, Redis 유실) DB 의 최대 순번으로 초기화한 뒤 증가시킨다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatSequenceRedisRepository {
+
+	private final StringRedisTemplate redisTemplate;
+
+	private static final String ROOM_SEQ_PREFIX = "chat:room:seq:";
+
+	public boolean exists(Long roomId) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(key(roomId)));
+	}
+
+	public void initializeIfAbsent(Long roomId, long currentSeq) {
+		redisTemplate.opsForValue().setIfAbsent(key(roomId), String.valueOf(currentSeq));
+	}
+
+	public long next(Long roomId) {
+		Long seq = redisTemplate.opsForValue().increment(key(roomId));
+		if (seq == null) {
+			throw new IllegalStateException("채팅방 메시지 순번 발급 실패: roomId=" + roomId);
+		}
+		return seq;
+	}
+
+	private String key(Long roomId) {
+		return ROOM_SEQ_PREFIX + roomId;
+	}
+}
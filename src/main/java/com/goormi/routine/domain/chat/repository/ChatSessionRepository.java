@@ -0,0 +1,11 @@
+package com.goormi.routine.domain.chat.repository;
+
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
+
+import java.util.Collection;
+
+public interface ChatSessionRepository {
+    ChatSessionContext save(String sessionId, ChatSessionContext context);
+    Collection<ChatSessionContext> findAllByUserId(Long userId);
+    void deleteBySessionId(String sessionId);
+}
@@ -0,0 +1,49 @@
+package com.goormi.routine.domain.chat.repository;
+
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Repository
+public class ChatSessionRepositoryImpl implements ChatSessionRepository {
+    // userId -> (sessionId -> context)
+    private final Map<Long, Map<String, ChatSessionContext>> sessionsByUser = new ConcurrentHashMap<>();
+    // sessionId -> userId
+    private final Map<String, Long> userIdBySession = new ConcurrentHashMap<>();
+
+    @Override
+    public ChatSessionContext save(String sessionId, ChatSessionContext context) {
+        Long previousUserId = userIdBySession.put(sessionId, context.getUserId());
+        if (previousUserId != null && !previousUserId.equals(context.getUserId())) {
+            removeSession(previousUserId, sessionId);
+        }
+        sessionsByUser.computeIfAbsent(context.getUserId(), key -> new ConcurrentHashMap<>())
+                .put(sessionId, context);
+        return context;
+    }
+
+    @Override
+    public Collection<ChatSessionContext> findAllByUserId(Long userId) {
+        Map<String, ChatSessionContext> sessions = sessionsByUser.get(userId);
+        return sessions != null ? List.copyOf(sessions.values()) : List.of();
+    }
+
+    @Override
+    public void deleteBySessionId(String sessionId) {
+        Long userId = userIdBySession.remove(sessionId);
+        if (userId != null) {
+            removeSession(userId, sessionId);
+        }
+    }
+
+    private void removeSession(Long userId, String sessionId) {
+        sessionsByUser.computeIfPresent(userId, (key, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+}
@@ -0,0 +1,56 @@
+package com.goormi.routine.domain.chat.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+@Repository
+@ConditionalOnProperty(name = "chat.archive.store", havingValue = "local", matchIfMissing = true)
+public class LocalChatArchiveStore implements ChatArchiveStore {
+
+    private final Path baseDir;
+
+    public LocalChatArchiveStore(@Value("${chat.archive.local.base-dir:data/chat-archive}") String baseDir) {
+        this.baseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void append(String key, byte[] bytes) throws IOException {
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Path path = resolve(key);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        return Files.newInputStream(path);
+    }
+
+    private Path resolve(String key) {
+        Path path = baseDir.resolve(key).normalize();
+        if (!path.startsWith(baseDir)) {
+            throw new IllegalArgumentException("잘못된 아카이브 경로입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -2,6 +2,7 @@ package com.goormi.routine.domain.chat.repository;
 
 import com.goormi.routine.domain.chat.entity.MessageReaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -24,4 +25,8 @@ public interface MessageReactionRepository extends JpaRepository<MessageReaction
 
     @Query("SELECT COUNT(r) FROM MessageReaction r WHERE r.messageId = :messageId AND r.emoji = :emoji")
     int countByMessageIdAndEmoji(@Param("messageId") Long messageId, @Param("emoji") String emoji);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM MessageReaction r WHERE r.messageId IN :messageIds")
+    int deleteAllByMessageIdIn(@Param("messageIds") List<Long> messageIds);
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ChatArchiveService {
+
+    // 보관 기간이 지난 메시지를 전체 채팅방에 대해 아카이브
+    void archiveExpiredMessages();
+
+    // 한 채팅방의 cutoff 이전 메시지를 아카이브하고 hot 테이블에서 삭제
+    long archiveRoom(Long roomId, LocalDateTime cutoff);
+
+    // beforeMessageId 가 null 이면 전체 아카이브 메시지 수 (커서가 걸친 세그먼트만 파일을 읽는다)
+    long countArchivedMessages(Long roomId, Long beforeMessageId);
+
+    // id 내림차순으로 offset 만큼 건너뛴 뒤 limit 개 반환
+    List<ChatMessageDto> findArchivedMessages(Long roomId, Long beforeMessageId, long offset, int limit);
+
+    // 전체 세그먼트를 하나씩 읽어 넘긴다 (검색 인덱스 재생성용)
+    void forEachArchivedSegment(Consumer<List<ChatMessageDto>> consumer);
+}
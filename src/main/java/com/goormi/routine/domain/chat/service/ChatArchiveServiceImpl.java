@@ -0,0 +1,325 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.common.scheduler.repository.SchedulerRedisRepository;
+import com.goormi.routine.config.SchedulerConfig;
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.dto.ReactionSummaryDto;
+import com.goormi.routine.domain.chat.entity.ChatArchiveSegment;
+import com.goormi.routine.domain.chat.entity.ChatMessage;
+import com.goormi.routine.domain.chat.repository.ChatArchiveSegmentRepository;
+import com.goormi.routine.domain.chat.repository.ChatArchiveStore;
+import com.goormi.routine.domain.chat.repository.ChatMessageRepository;
+import com.goormi.routine.domain.chat.repository.MessageReactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 오래된 채팅 메시지를 채팅방/월 단위 gzip NDJSON 세그먼트로 옮기고 hot 테이블에서 삭제한다.
+ * 한 번의 실행이 쓰는 바이트는 독립된 gzip 멤버로 세그먼트 끝에 덧붙으므로
+ * 세그먼트 전체는 GZIPInputStream 으로 이어서 읽을 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatArchiveServiceImpl implements ChatArchiveService {
+
+    private static final String SCHEDULER_NAME = "chat_archive";
+    // 청크마다 연장하므로 짧게 두어 실행 중 죽은 인스턴스의 락이 빨리 풀리게 한다
+    private static final long LOCK_EXPIRE_SECONDS = 10 * 60;
+    private static final int SEGMENT_PAGE_SIZE = 100;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM");
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final MessageReactionRepository messageReactionRepository;
+    private final ChatArchiveSegmentRepository chatArchiveSegmentRepository;
+    private final MessageReactionService messageReactionService;
+    private final ChatArchiveStore chatArchiveStore;
+    private final SchedulerRedisRepository schedulerRedisRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${chat.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.archive.retention-days:180}")
+    private int retentionDays;
+
+    @Value("${chat.archive.batch-size:500}")
+    private int batchSize;
+
+    // 매일 04:00 보관 기간이 지난 메시지 아카이브
+    @Override
+    @Scheduled(cron = "${chat.archive.cron:0 0 4 * * ?}", zone = "Asia/Seoul",
+            scheduler = SchedulerConfig.BATCH_SCHEDULER)
+    public void archiveExpiredMessages() {
+        if (!enabled || !schedulerRedisRepository.tryLock(SCHEDULER_NAME, LOCK_EXPIRE_SECONDS)) {
+            return;
+        }
+
+        try {
+            schedulerRedisRepository.updateSchedulerStatus(SCHEDULER_NAME, "RUNNING", "채팅 아카이브 시작");
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+            long archivedCount = 0;
+            int failedRooms = 0;
+            for (Long roomId : chatMessageRepository.findRoomIdsWithMessagesBefore(cutoff)) {
+                try {
+                    archivedCount += archiveRoom(roomId, cutoff, true);
+                } catch (Exception e) {
+                    failedRooms++;
+                    log.error("채팅방 아카이브 실패: roomId={}", roomId, e);
+                }
+            }
+
+            String message = String.format("채팅 아카이브 완료: %d건, 실패 채팅방 %d개", archivedCount, failedRooms);
+            schedulerRedisRepository.updateSchedulerStatus(SCHEDULER_NAME, failedRooms == 0 ? "SUCCESS" : "FAILED", message);
+            log.info(message);
+        } catch (Exception e) {
+            schedulerRedisRepository.updateSchedulerStatus(SCHEDULER_NAME, "FAILED", "채팅 아카이브 실패: " + e.getMessage());
+            log.error("채팅 아카이브 실패", e);
+        } finally {
+            schedulerRedisRepository.unlock(SCHEDULER_NAME);
+        }
+    }
+
+    @Override
+    public long archiveRoom(Long roomId, LocalDateTime cutoff) {
+        return archiveRoom(roomId, cutoff, false);
+    }
+
+    private long archiveRoom(Long roomId, LocalDateTime cutoff, boolean holdingLock) {
+        long archivedCount = 0;
+
+        while (true) {
+            if (holdingLock) {
+                schedulerRedisRepository.extendLock(SCHEDULER_NAME, LOCK_EXPIRE_SECONDS);
+            }
+            List<ChatMessage> chunk = chatMessageRepository.findByRoomIdAndCreatedAtBeforeOrderByIdAsc(
+                    roomId, cutoff, PageRequest.of(0, batchSize));
+            if (chunk.isEmpty()) {
+                return archivedCount;
+            }
+
+            Map<String, List<ChatMessageDto>> byMonth = groupByMonth(chunk);
+            for (Map.Entry<String, List<ChatMessageDto>> entry : byMonth.entrySet()) {
+                writeSegment(roomId, entry.getKey(), entry.getValue());
+            }
+
+            // 겹쳐 돈 다른 실행이 먼저 옮긴 메시지는 세그먼트에 중복으로만 남으므로(읽을 때 제거) 실제 삭제된 수만 센다
+            // 벌크 삭제가 영속성 컨텍스트를 비우므로 삭제를 모두 마친 뒤에 세그먼트를 갱신한다
+            Long deletedCount = transactionTemplate.execute(status -> {
+                Map<String, Integer> deletedByMonth = new TreeMap<>();
+                for (Map.Entry<String, List<ChatMessageDto>> entry : byMonth.entrySet()) {
+                    List<Long> monthIds = entry.getValue().stream().map(ChatMessageDto::getId).collect(Collectors.toList());
+                    messageReactionRepository.deleteAllByMessageIdIn(monthIds);
+                    deletedByMonth.put(entry.getKey(), chatMessageRepository.deleteAllByIdIn(monthIds));
+                }
+                deletedByMonth.forEach((month, deleted) -> updateSegment(roomId, month, byMonth.get(month), deleted));
+                return deletedByMonth.values().stream().mapToLong(Integer::longValue).sum();
+            });
+
+            archivedCount += deletedCount != null ? deletedCount : 0;
+            if (chunk.size() < batchSize) {
+                return archivedCount;
+            }
+        }
+    }
+
+    // 세그먼트 메타데이터의 메시지 수로 센다. 아카이브는 hot 테이블보다 오래된 메시지만 담으므로
+    // 커서가 아카이브 범위 안에 있을 때만 걸친 세그먼트가 생기고, 그 세그먼트만 읽어서 센다
+    @Override
+    public long countArchivedMessages(Long roomId, Long beforeMessageId) {
+        if (beforeMessageId == null) {
+            return chatArchiveSegmentRepository.sumMessageCountByRoomId(roomId);
+        }
+
+        long count = chatArchiveSegmentRepository.sumMessageCountByRoomIdBefore(roomId, beforeMessageId);
+        for (ChatArchiveSegment segment : chatArchiveSegmentRepository.findStraddling(roomId, beforeMessageId)) {
+            count += readSegment(segment).stream()
+                    .filter(message -> message.getId() < beforeMessageId)
+                    .count();
+        }
+        return count;
+    }
+
+    @Override
+    public List<ChatMessageDto> findArchivedMessages(Long roomId, Long beforeMessageId, long offset, int limit) {
+        List<ChatMessageDto> result = new ArrayList<>();
+        long remainingOffset = offset;
+
+        for (ChatArchiveSegment segment : chatArchiveSegmentRepository.findByRoomIdOrderByMaxMessageIdDesc(roomId)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (beforeMessageId != null && segment.getMinMessageId() >= beforeMessageId) {
+                continue;
+            }
+            // 통째로 건너뛸 수 있는 세그먼트는 읽지 않는다
+            boolean fullyBeforeCursor = beforeMessageId == null || segment.getMaxMessageId() < beforeMessageId;
+            if (fullyBeforeCursor && remainingOffset >= segment.getMessageCount()) {
+                remainingOffset -= segment.getMessageCount();
+                continue;
+            }
+
+            List<ChatMessageDto> messages = readSegment(segment).stream()
+                    .filter(message -> beforeMessageId == null || message.getId() < beforeMessageId)
+                    .sorted(Comparator.comparing(ChatMessageDto::getId).reversed())
+                    .collect(Collectors.toList());
+
+            int from = (int) Math.min(remainingOffset, messages.size());
+            remainingOffset -= from;
+            int to = Math.min(messages.size(), from + (limit - result.size()));
+            result.addAll(messages.subList(from, to));
+        }
+        return result;
+    }
+
+    // 한 번에 세그먼트 하나만 메모리에 올린다
+    @Override
+    public void forEachArchivedSegment(Consumer<List<ChatMessageDto>> consumer) {
+        Long lastId = 0L;
+        while (true) {
+            List<ChatArchiveSegment> segments = chatArchiveSegmentRepository.findByIdGreaterThanOrderByIdAsc(
+                    lastId, PageRequest.of(0, SEGMENT_PAGE_SIZE));
+            if (segments.isEmpty()) {
+                return;
+            }
+            for (ChatArchiveSegment segment : segments) {
+                consumer.accept(readSegment(segment));
+            }
+            lastId = segments.get(segments.size() - 1).getId();
+        }
+    }
+
+    private Map<String, List<ChatMessageDto>> groupByMonth(List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> messageIds = messages.stream().map(ChatMessage::getId).collect(Collectors.toList());
+        Map<Long, List<ReactionSummaryDto>> reactionsMap = messageReactionService.getReactionsByMessageIds(messageIds);
+
+        Map<String, List<ChatMessageDto>> byMonth = new TreeMap<>();
+        for (ChatMessage message : messages) {
+            String month = YearMonth.from(message.getCreatedAt()).format(MONTH_FORMAT);
+            byMonth.computeIfAbsent(month, key -> new ArrayList<>())
+                    .add(toDto(message, reactionsMap.get(message.getId())));
+        }
+        return byMonth;
+    }
+
+    private void writeSegment(Long roomId, String month, List<ChatMessageDto> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (ChatMessageDto message : messages) {
+                gzip.write(objectMapper.writeValueAsBytes(message));
+                gzip.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 인코딩 실패", e);
+        }
+
+        try {
+            chatArchiveStore.append(storageKey(roomId, month), bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 저장 실패: roomId=" + roomId + ", month=" + month, e);
+        }
+    }
+
+    private void updateSegment(Long roomId, String month, List<ChatMessageDto> messages, int deletedCount) {
+        if (deletedCount == 0) {
+            return;
+        }
+        long minId = messages.get(0).getId();
+        long maxId = messages.get(messages.size() - 1).getId();
+        Long maxSeq = messages.stream()
+                .map(ChatMessageDto::getSeq)
+                .filter(Objects::nonNull)
+                .max(Long::compare)
+                .orElse(null);
+
+        chatArchiveSegmentRepository.findByRoomIdAndArchiveMonth(roomId, month)
+                .ifPresentOrElse(
+                        segment -> segment.append(deletedCount, minId, maxId, maxSeq),
+                        () -> chatArchiveSegmentRepository.save(ChatArchiveSegment.builder()
+                                .roomId(roomId)
+                                .archiveMonth(month)
+                                .storageKey(storageKey(roomId, month))
+                                .messageCount((long) deletedCount)
+                                .minMessageId(minId)
+                                .maxMessageId(maxId)
+                                .maxSeq(maxSeq)
+                                .build()));
+    }
+
+    // 세그먼트 기록 후 삭제 커밋 전에 중단되면 같은 메시지가 다시 기록되므로 id 로 중복 제거
+    private List<ChatMessageDto> readSegment(ChatArchiveSegment segment) {
+        Map<Long, ChatMessageDto> messages = new LinkedHashMap<>();
+        try (InputStream in = chatArchiveStore.open(segment.getStorageKey())) {
+            if (in == null) {
+                log.warn("아카이브 세그먼트가 없습니다: {}", segment.getStorageKey());
+                return List.of();
+            }
+            BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(new GZIPInputStream(in), StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    ChatMessageDto message = objectMapper.readValue(line, ChatMessageDto.class);
+                    messages.putIfAbsent(message.getId(), message);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 읽기 실패: " + segment.getStorageKey(), e);
+        }
+        return new ArrayList<>(messages.values());
+    }
+
+    private String storageKey(Long roomId, String month) {
+        return roomId + "/" + month + ".ndjson.gz";
+    }
+
+    private ChatMessageDto toDto(ChatMessage message, List<ReactionSummaryDto> reactions) {
+        return ChatMessageDto.builder()
+                .id(message.getId())
+                .roomId(message.getRoomId())
+                .seq(message.getSeq())
+                .userId(message.getUserId())
+                .senderNickname(message.getSenderNickname())
+                .message(message.getMessage())
+                .imageUrl(message.getImageUrl())
+                .messageType(message.getMessageType())
+                .sentAt(message.getCreatedAt())
+                .isApproved(message.getIsApproved() != null && message.getIsApproved())
+                .reactions(reactions != null ? reactions : List.of())
+                .build();
+    }
+}
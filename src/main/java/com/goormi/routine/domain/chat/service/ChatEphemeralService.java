@@ -0,0 +1,10 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatEphemeralEvent.EphemeralType;
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
+
+public interface ChatEphemeralService {
+
+    // 저장하지 않는 이벤트 전송 요청 (짧은 구간 동안 사용자/채팅방 단위로 병합)
+    void submit(Long roomId, ChatSessionContext session, EphemeralType type);
+}
@@ -0,0 +1,126 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.domain.chat.dto.ChatEphemeralEvent;
+import com.goormi.routine.domain.chat.dto.ChatEphemeralEvent.EphemeralType;
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타이핑/접속 상태 이벤트 전용 경로
+ * DB 에 저장하지 않고, 채팅방/사용자/분류 단위로 마지막 이벤트만 남겨 flush 주기마다 한 번에 발행한다.
+ * 대기 이벤트가 한도를 넘으면 새 이벤트는 버린다.
+ */
+@Slf4j
+@Service
+public class ChatEphemeralServiceImpl implements ChatEphemeralService {
+
+    private static final String ONLINE_KEY_FORMAT = "room:%d:online";
+
+    private final Map<String, ChatEphemeralEvent> pending = new ConcurrentHashMap<>();
+
+    private final RedisTemplate<String, byte[]> chatFanoutRedisTemplate;
+    private final RedisTemplate<String, Object> chatRedisTemplate;
+    private final ChannelTopic chatEphemeralTopic;
+    private final ChatMembershipService chatMembershipService;
+    private final ObjectMapper objectMapper;
+    private final Counter coalescedCounter;
+    private final Counter submitDroppedCounter;
+    private final Counter publishDroppedCounter;
+
+    @Value("${chat.ephemeral.max-pending:10000}")
+    private int maxPending;
+
+    public ChatEphemeralServiceImpl(RedisTemplate<String, byte[]> chatFanoutRedisTemplate,
+                                    RedisTemplate<String, Object> chatRedisTemplate,
+                                    ChannelTopic chatEphemeralTopic,
+                                    ChatMembershipService chatMembershipService,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.chatFanoutRedisTemplate = chatFanoutRedisTemplate;
+        this.chatRedisTemplate = chatRedisTemplate;
+        this.chatEphemeralTopic = chatEphemeralTopic;
+        this.chatMembershipService = chatMembershipService;
+        this.objectMapper = objectMapper;
+        this.coalescedCounter = Counter.builder("chat.ephemeral.coalesced").register(meterRegistry);
+        this.submitDroppedCounter = Counter.builder("chat.ephemeral.dropped").tag("stage", "submit").register(meterRegistry);
+        this.publishDroppedCounter = Counter.builder("chat.ephemeral.dropped").tag("stage", "publish").register(meterRegistry);
+    }
+
+    @Override
+    public void submit(Long roomId, ChatSessionContext session, EphemeralType type) {
+        Long userId = session.getUserId();
+        if (!session.isVerifiedMember(roomId) && !chatMembershipService.isMember(roomId, userId)) {
+            log.debug("채팅방 멤버가 아닌 사용자의 이벤트 무시: roomId={}, userId={}", roomId, userId);
+            return;
+        }
+
+        String key = roomId + ":" + userId + ":" + (type.isTyping() ? "typing" : "presence");
+        if (pending.size() >= maxPending && !pending.containsKey(key)) {
+            submitDroppedCounter.increment();
+            return;
+        }
+
+        ChatEphemeralEvent event = ChatEphemeralEvent.builder()
+                .roomId(roomId)
+                .userId(userId)
+                .senderNickname(session.getNickname())
+                .type(type)
+                .timestamp(System.currentTimeMillis())
+                .build();
+        if (pending.put(key, event) != null) {
+            coalescedCounter.increment();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.ephemeral.flush-interval-ms:200}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<ChatEphemeralEvent> batch = new ArrayList<>(pending.size());
+        for (String key : pending.keySet()) {
+            ChatEphemeralEvent event = pending.remove(key);
+            if (event != null) {
+                batch.add(event);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            updateOnlineUsers(batch);
+            chatFanoutRedisTemplate.convertAndSend(chatEphemeralTopic.getTopic(), objectMapper.writeValueAsBytes(batch));
+        } catch (Exception e) {
+            // 재시도하지 않는다: 다음 타이핑/접속 이벤트가 곧 상태를 다시 알린다
+            publishDroppedCounter.increment(batch.size());
+            log.warn("채팅 임시 이벤트 발행 실패: {}건 폐기", batch.size(), e);
+        }
+    }
+
+    private void updateOnlineUsers(List<ChatEphemeralEvent> batch) {
+        for (ChatEphemeralEvent event : batch) {
+            String key = String.format(ONLINE_KEY_FORMAT, event.getRoomId());
+            switch (event.getType()) {
+                case ONLINE, ENTER -> chatRedisTemplate.opsForSet().add(key, event.getUserId().toString());
+                case OFFLINE, LEAVE -> chatRedisTemplate.opsForSet().remove(key, event.getUserId().toString());
+                default -> {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.config.WebSocketSessionMonitor;
+import com.goormi.routine.domain.chat.dto.ChatEphemeralEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 임시 이벤트 배치를 받아 각 채팅방의 ephemeral 목적지로 전달한다.
+ * outbound 대기열이 밀려 있으면 실제 메시지 전달을 위해 배치를 버린다.
+ */
+@Slf4j
+@Service
+public class ChatEphemeralSubscriber implements MessageListener {
+
+    private static final TypeReference<List<ChatEphemeralEvent>> BATCH_TYPE = new TypeReference<>() {};
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+    private final ObjectMapper objectMapper;
+    private final Counter droppedCounter;
+
+    @Value("${chat.ephemeral.drop-queue-depth:1000}")
+    private int dropQueueDepth;
+
+    public ChatEphemeralSubscriber(SimpMessagingTemplate messagingTemplate,
+                                   WebSocketSessionMonitor webSocketSessionMonitor,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.webSocketSessionMonitor = webSocketSessionMonitor;
+        this.objectMapper = objectMapper;
+        this.droppedCounter = Counter.builder("chat.ephemeral.dropped").tag("stage", "deliver").register(meterRegistry);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            List<ChatEphemeralEvent> batch = objectMapper.readValue(message.getBody(), BATCH_TYPE);
+            if (webSocketSessionMonitor.getTotalQueueDepth() > dropQueueDepth) {
+                droppedCounter.increment(batch.size());
+                return;
+            }
+
+            for (ChatEphemeralEvent event : batch) {
+                messagingTemplate.convertAndSend("/topic/room/" + event.getRoomId() + "/ephemeral", event);
+            }
+        } catch (Exception e) {
+            log.error("채팅 임시 이벤트 처리 실패", e);
+        }
+    }
+}
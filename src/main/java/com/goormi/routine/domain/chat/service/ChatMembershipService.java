@@ -0,0 +1,10 @@
+package com.goormi.routine.domain.chat.service;
+
+public interface ChatMembershipService {
+
+    // 채팅 권한 검증용 멤버십 조회 (near-cache -> Redis -> DB)
+    boolean isMember(Long roomId, Long userId);
+
+    // 다른 인스턴스에서 전파된 near-cache 및 세션 검증 기록 무효화 메시지 처리 (roomId:userId)
+    void evictLocal(String message);
+}
@@ -0,0 +1,124 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.entity.ChatMember;
+import com.goormi.routine.domain.chat.repository.ChatMemberRedisRepository;
+import com.goormi.routine.domain.chat.repository.ChatMemberRepository;
+import com.goormi.routine.domain.chat.repository.ChatSessionRepository;
+import com.goormi.routine.domain.chat.service.ChatSessionService.ChatMembershipChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMembershipServiceImpl implements ChatMembershipService {
+
+    private static final long NEAR_CACHE_TTL_MILLIS = 10_000L;
+    private static final int NEAR_CACHE_MAX_SIZE = 100_000;
+
+    private final ChatMemberRepository chatMemberRepository;
+    private final ChatMemberRedisRepository chatMemberRedisRepository;
+    private final ChatSessionRepository chatSessionRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    @Qualifier("chatMembershipTopic")
+    private final ChannelTopic chatMembershipTopic;
+
+    // roomId:userId -> 멤버 여부 (짧은 TTL의 로컬 캐시)
+    private final Map<String, CachedMembership> nearCache = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isMember(Long roomId, Long userId) {
+        if (roomId == null || userId == null) {
+            return false;
+        }
+
+        String cacheKey = cacheKey(roomId, userId);
+        CachedMembership cached = nearCache.get(cacheKey);
+        long now = System.currentTimeMillis();
+        if (cached != null && cached.expiresAt > now) {
+            return cached.member;
+        }
+
+        boolean member = lookup(roomId, userId);
+        if (nearCache.size() >= NEAR_CACHE_MAX_SIZE) {
+            nearCache.clear();
+        }
+        nearCache.put(cacheKey, new CachedMembership(member, now + NEAR_CACHE_TTL_MILLIS));
+        return member;
+    }
+
+    /**
+     * 멤버십 변경 시 near-cache 와 함께 이 인스턴스에 붙은 세션의 검증된 채팅방 기록도 제거
+     * (다른 인스턴스에서 탈퇴 처리된 사용자가 세션에 남은 검증 기록으로 계속 전송하지 못하도록)
+     */
+    @Override
+    public void evictLocal(String message) {
+        nearCache.remove(message);
+
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            Long roomId = Long.valueOf(message.substring(0, separator));
+            Long userId = Long.valueOf(message.substring(separator + 1));
+            chatSessionRepository.findAllByUserId(userId)
+                    .forEach(context -> context.removeVerifiedRoom(roomId));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 멤버십 무효화 메시지: {}", message);
+        }
+    }
+
+    /**
+     * 멤버십 변경이 커밋된 뒤 인덱스 무효화 및 near-cache 무효화 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChatMembershipChange(ChatMembershipChangeEvent event) {
+        String cacheKey = cacheKey(event.getRoomId(), event.getUserId());
+        nearCache.remove(cacheKey);
+
+        try {
+            chatMemberRedisRepository.invalidate(event.getRoomId());
+            stringRedisTemplate.convertAndSend(chatMembershipTopic.getTopic(), cacheKey);
+        } catch (Exception e) {
+            log.error("채팅방 멤버 인덱스 갱신 실패: roomId={}, userId={}", event.getRoomId(), event.getUserId(), e);
+        }
+    }
+
+    private boolean lookup(Long roomId, Long userId) {
+        try {
+            Boolean indexed = chatMemberRedisRepository.isMember(roomId, userId);
+            if (indexed != null) {
+                return indexed;
+            }
+
+            // 버전을 먼저 읽어, DB 조회 도중 바뀐 멤버십이 이전 목록으로 덮이지 않게 한다
+            String version = chatMemberRedisRepository.getVersion(roomId);
+            List<Long> memberIds = chatMemberRepository.findByRoomIdAndIsActiveTrue(roomId).stream()
+                    .map(ChatMember::getUserId)
+                    .toList();
+            chatMemberRedisRepository.loadMembers(roomId, memberIds, version);
+            return memberIds.contains(userId);
+        } catch (Exception e) {
+            log.warn("채팅방 멤버 인덱스 조회 실패, DB로 확인합니다: roomId={}, userId={}", roomId, userId, e);
+            return chatMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
+        }
+    }
+
+    private String cacheKey(Long roomId, Long userId) {
+        return roomId + ":" + userId;
+    }
+
+    private record CachedMembership(boolean member, long expiresAt) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.goormi.routine.domain.chat.service;
+
+public interface ChatReadCursorService {
+
+    // 읽음 위치 갱신 요청 (메모리에 최대 메시지 id 만 보관했다가 주기적으로 반영)
+    void markRead(Long roomId, Long userId, Long messageId);
+
+    void flush();
+
+    void flushUser(Long userId);
+}
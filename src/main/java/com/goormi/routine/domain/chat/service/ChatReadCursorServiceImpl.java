@@ -0,0 +1,103 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.repository.ChatMemberRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 읽음 위치를 (채팅방, 사용자) 단위로 모아 최대 메시지 id 만 반영한다.
+ * 바쁜 채팅방에서 메시지마다 발생하던 UPDATE 를 flush 주기당 한 번으로 줄인다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatReadCursorServiceImpl implements ChatReadCursorService {
+
+    private final Map<ReadCursorKey, Long> pending = new ConcurrentHashMap<>();
+
+    private final ChatMemberRepository chatMemberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void markRead(Long roomId, Long userId, Long messageId) {
+        pending.merge(new ReadCursorKey(roomId, userId), messageId, Math::max);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${chat.read-cursor.flush-interval-ms:3000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<ReadCursorKey, Long> batch = new HashMap<>();
+        for (ReadCursorKey key : pending.keySet()) {
+            Long messageId = pending.remove(key);
+            if (messageId != null) {
+                batch.put(key, messageId);
+            }
+        }
+        write(batch);
+    }
+
+    @Override
+    public void flushUser(Long userId) {
+        Map<ReadCursorKey, Long> batch = new HashMap<>();
+        for (ReadCursorKey key : pending.keySet()) {
+            if (key.userId().equals(userId)) {
+                Long messageId = pending.remove(key);
+                if (messageId != null) {
+                    batch.put(key, messageId);
+                }
+            }
+        }
+        write(batch);
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        Principal user = event.getUser();
+        if (user == null) {
+            return;
+        }
+        try {
+            flushUser(Long.parseLong(user.getName()));
+        } catch (NumberFormatException e) {
+            log.debug("읽음 위치 flush 대상이 아닌 세션: {}", user.getName());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void write(Map<ReadCursorKey, Long> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 다른 인스턴스가 더 큰 값을 먼저 반영했을 수 있으므로 증가하는 경우에만 갱신
+            transactionTemplate.executeWithoutResult(status -> batch.forEach((key, messageId) ->
+                    chatMemberRepository.advanceLastReadMessage(key.roomId(), key.userId(), messageId)));
+        } catch (Exception e) {
+            log.error("읽음 위치 반영 실패: {}건, 다음 주기에 재시도", batch.size(), e);
+            batch.forEach((key, messageId) -> pending.merge(key, messageId, Math::max));
+        }
+    }
+
+    private record ReadCursorKey(Long roomId, Long userId) {
+    }
+}
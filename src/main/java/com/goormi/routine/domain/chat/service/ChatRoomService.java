@@ -2,6 +2,7 @@ package com.goormi.routine.domain.chat.service;
 
 import com.goormi.routine.domain.chat.dto.ChatMessageDto;
 import com.goormi.routine.domain.chat.dto.ChatRoomDto;
+import com.goormi.routine.domain.chat.dto.ChatSyncResponseDto;
 import com.goormi.routine.domain.chat.dto.CreateChatRoomRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -25,4 +26,7 @@ public interface ChatRoomService {
     void leaveRoom(Long roomId, String username);
     
     Page<ChatMessageDto> getMessages(Long roomId, Long beforeMessageId, Pageable pageable, String username);
+
+    // 재연결 시 afterSeq 이후 메시지만 조회
+    ChatSyncResponseDto syncMessages(Long roomId, Long afterSeq, int limit, Long userId);
 }
\ No newline at end of file
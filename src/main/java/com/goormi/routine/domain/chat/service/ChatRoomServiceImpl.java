@@ -2,6 +2,7 @@ package com.goormi.routine.domain.chat.service;
 
 import com.goormi.routine.domain.chat.dto.ChatMessageDto;
 import com.goormi.routine.domain.chat.dto.ChatRoomDto;
+import com.goormi.routine.domain.chat.dto.ChatSyncResponseDto;
 import com.goormi.routine.domain.chat.dto.CreateChatRoomRequest;
 import com.goormi.routine.domain.chat.dto.ReactionSummaryDto;
 import com.goormi.routine.domain.chat.entity.ChatMember;
@@ -11,6 +12,7 @@ import com.goormi.routine.domain.chat.entity.ChatRoom;
 import com.goormi.routine.domain.chat.repository.ChatMemberRepository;
 import com.goormi.routine.domain.chat.repository.ChatMessageRepository;
 import com.goormi.routine.domain.chat.repository.ChatRoomRepository;
+import com.goormi.routine.domain.chat.service.ChatSessionService.ChatMembershipChangeEvent;
 import com.goormi.routine.domain.group.entity.GroupMember;
 import com.goormi.routine.domain.group.repository.GroupMemberRepository;
 import com.goormi.routine.domain.user.entity.User;
@@ -19,12 +21,17 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -35,12 +42,18 @@ import java.util.stream.Collectors;
 @Transactional
 public class ChatRoomServiceImpl implements ChatRoomService {
 
+    private static final int MAX_SYNC_SIZE = 200;
+    private static final Duration SEQ_GAP_GRACE = Duration.ofSeconds(5);
+
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMemberRepository chatMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final MessageReactionService messageReactionService;
+    private final ChatMembershipService chatMembershipService;
+    private final ChatArchiveService chatArchiveService;
+    private final ApplicationEventPublisher applicationEventPublisher;
     
     @Override
     public ChatRoomDto createRoom(CreateChatRoomRequest request, String username) {
@@ -73,6 +86,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 .build();
         
         chatMemberRepository.save(creator);
+        applicationEventPublisher.publishEvent(new ChatMembershipChangeEvent(savedRoom.getId(), user.getId(), true));
         
         return convertToDto(savedRoom, user.getNickname(), 1);
     }
@@ -224,6 +238,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                 chatMemberRepository.save(newMember);
             }
         );
+        applicationEventPublisher.publishEvent(new ChatMembershipChangeEvent(roomId, user.getId(), true));
     }
     
     @Override
@@ -238,6 +253,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         member.setIsActive(false);
         member.setLeftAt(LocalDateTime.now());
         chatMemberRepository.save(member);
+        applicationEventPublisher.publishEvent(new ChatMembershipChangeEvent(roomId, user.getId(), false));
     }
     
     @Override
@@ -246,7 +262,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
 
-        if (!chatMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, user.getId())) {
+        if (!chatMembershipService.isMember(roomId, user.getId())) {
             throw new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다");
         }
 
@@ -264,7 +280,61 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
         Map<Long, List<ReactionSummaryDto>> reactionsMap = messageReactionService.getReactionsByMessageIds(messageIds);
 
-        return messages.map(message -> convertMessageToDto(message, reactionsMap.get(message.getId())));
+        List<ChatMessageDto> content = messages.getContent().stream()
+                .map(message -> convertMessageToDto(message, reactionsMap.get(message.getId())))
+                .collect(Collectors.toList());
+
+        // hot 테이블에서 페이지를 다 채우지 못했을 때만 아카이브 세그먼트에서 이어서 조회
+        if (content.size() < pageable.getPageSize()) {
+            long archiveOffset = Math.max(0, pageable.getOffset() - messages.getTotalElements());
+            content.addAll(chatArchiveService.findArchivedMessages(
+                    roomId, beforeMessageId, archiveOffset, pageable.getPageSize() - content.size()));
+        }
+
+        // 전체 수는 세그먼트 메타데이터로 계산 (hot 페이지가 찬 경우 세그먼트 파일은 읽지 않는다)
+        long archivedTotal = chatArchiveService.countArchivedMessages(roomId, beforeMessageId);
+        return new PageImpl<>(content, pageable, messages.getTotalElements() + archivedTotal);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ChatSyncResponseDto syncMessages(Long roomId, Long afterSeq, int limit, Long userId) {
+        if (!chatMembershipService.isMember(roomId, userId)) {
+            throw new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다");
+        }
+
+        long cursor = afterSeq != null ? afterSeq : 0L;
+        int size = Math.max(1, Math.min(limit, MAX_SYNC_SIZE));
+        List<ChatMessage> messages = chatMessageRepository.findByRoomIdAndSeqGreaterThanOrderBySeqAsc(
+                roomId, cursor, PageRequest.of(0, size + 1));
+        boolean hasMore = messages.size() > size;
+
+        // 순번은 커밋 전에 발급되므로, 최근 메시지 앞의 빈 순번은 아직 커밋 중일 수 있다.
+        // 빈 순번 직전까지만 반환해 클라이언트가 그 위치부터 다시 동기화하도록 한다.
+        LocalDateTime pendingThreshold = LocalDateTime.now().minus(SEQ_GAP_GRACE);
+        List<ChatMessage> contiguous = new ArrayList<>();
+        long expectedSeq = cursor + 1;
+        for (ChatMessage message : messages.subList(0, Math.min(size, messages.size()))) {
+            if (message.getSeq() != expectedSeq && message.getCreatedAt().isAfter(pendingThreshold)) {
+                hasMore = true;
+                break;
+            }
+            contiguous.add(message);
+            expectedSeq = message.getSeq() + 1;
+        }
+
+        List<Long> messageIds = contiguous.stream()
+                .map(ChatMessage::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ReactionSummaryDto>> reactionsMap = messageReactionService.getReactionsByMessageIds(messageIds);
+
+        return ChatSyncResponseDto.builder()
+                .messages(contiguous.stream()
+                        .map(message -> convertMessageToDto(message, reactionsMap.get(message.getId())))
+                        .collect(Collectors.toList()))
+                .lastSeq(expectedSeq - 1)
+                .hasMore(hasMore)
+                .build();
     }
     
     private ChatRoomDto convertToDto(ChatRoom room, String creatorNickname, int participantCount) {
@@ -286,6 +356,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         return ChatMessageDto.builder()
                 .id(message.getId())
                 .roomId(message.getRoomId())
+                .seq(message.getSeq())
                 .userId(message.getUserId())
                 .senderNickname(message.getSenderNickname())
                 .message(message.getMessage())
@@ -300,6 +371,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         return ChatMessageDto.builder()
                 .id(message.getId())
                 .roomId(message.getRoomId())
+                .seq(message.getSeq())
                 .userId(message.getUserId())
                 .senderNickname(message.getSenderNickname())
                 .message(message.getMessage())
@@ -0,0 +1,27 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.dto.ChatSearchResultDto;
+
+public interface ChatSearchService {
+
+    ChatSearchResultDto search(Long roomId, String keyword, Long beforeMessageId, int size, Long userId);
+
+    // DB 의 메시지로 인덱스를 다시 만든다 (비동기, 완료 전까지 기존 인덱스로 검색)
+    // 인덱스는 인스턴스 로컬이므로 채팅 검색은 단일 인스턴스 배포에서만 전체 메시지를 찾는다
+    void rebuildIndex();
+
+    boolean isRebuilding();
+
+    class ChatMessageSavedEvent {
+        private final ChatMessageDto message;
+
+        public ChatMessageSavedEvent(ChatMessageDto message) {
+            this.message = message;
+        }
+
+        public ChatMessageDto getMessage() {
+            return message;
+        }
+    }
+}
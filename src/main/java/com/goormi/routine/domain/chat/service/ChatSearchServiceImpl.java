@@ -0,0 +1,210 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.dto.ChatSearchResultDto;
+import com.goormi.routine.domain.chat.entity.ChatMessage;
+import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
+import com.goormi.routine.domain.chat.repository.ChatMessageRepository;
+import com.goormi.routine.domain.chat.repository.ChatSearchIndexRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class ChatSearchServiceImpl implements ChatSearchService {
+
+    private static final List<MessageType> SEARCHABLE_TYPES = List.of(MessageType.TALK, MessageType.NOTICE);
+    private static final int MAX_KEYWORD_LENGTH = 100;
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ChatSearchIndexRepository chatSearchIndexRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMembershipService chatMembershipService;
+    private final ChatArchiveService chatArchiveService;
+    private final ExecutorService executorService;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    // 재생성은 한 번에 하나만 돌므로 전용 스레드 하나로 충분하고, 다른 풀의 스레드나 요청 스레드를 붙잡지 않는다
+    @Autowired
+    public ChatSearchServiceImpl(ChatSearchIndexRepository chatSearchIndexRepository,
+                                 ChatMessageRepository chatMessageRepository,
+                                 ChatMembershipService chatMembershipService,
+                                 ChatArchiveService chatArchiveService) {
+        this(chatSearchIndexRepository, chatMessageRepository, chatMembershipService, chatArchiveService,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "chat-search-rebuild");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ChatSearchServiceImpl(ChatSearchIndexRepository chatSearchIndexRepository,
+                          ChatMessageRepository chatMessageRepository,
+                          ChatMembershipService chatMembershipService,
+                          ChatArchiveService chatArchiveService,
+                          ExecutorService executorService) {
+        this.chatSearchIndexRepository = chatSearchIndexRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMembershipService = chatMembershipService;
+        this.chatArchiveService = chatArchiveService;
+        this.executorService = executorService;
+    }
+
+    @Override
+    public ChatSearchResultDto search(Long roomId, String keyword, Long beforeMessageId, int size, Long userId) {
+        if (!chatMembershipService.isMember(roomId, userId)) {
+            throw new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다");
+        }
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하로 입력해주세요");
+        }
+
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<ChatMessageDto> messages;
+        try {
+            messages = chatSearchIndexRepository.search(roomId, keyword, beforeMessageId, limit);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 검색 실패", e);
+        }
+
+        Long nextCursor = messages.size() == limit ? messages.get(messages.size() - 1).getId() : null;
+        return ChatSearchResultDto.builder()
+                .messages(messages)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 커밋된 메시지만 색인
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChatMessageSaved(ChatMessageSavedEvent event) {
+        ChatMessageDto message = event.getMessage();
+        if (!SEARCHABLE_TYPES.contains(message.getMessageType()) || message.getMessage() == null) {
+            return;
+        }
+        try {
+            chatSearchIndexRepository.index(message);
+        } catch (Exception e) {
+            log.error("채팅 메시지 색인 실패: messageId={}", message.getId(), e);
+        }
+    }
+
+    @Override
+    public void rebuildIndex() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("채팅 검색 인덱스 재생성이 이미 진행 중입니다");
+            return;
+        }
+
+        executorService.execute(this::rebuild);
+    }
+
+    // 임시 인덱스에 모두 색인한 뒤에만 운영 인덱스와 교체하고, 실패하면 운영 인덱스는 그대로 둔다
+    private void rebuild() {
+        long startTime = System.currentTimeMillis();
+        long indexedCount = 0;
+        try {
+            chatSearchIndexRepository.beginRebuild();
+
+            Long lastId = 0L;
+            while (true) {
+                List<ChatMessage> batch = chatMessageRepository.findByIdGreaterThanAndMessageTypeInOrderByIdAsc(
+                        lastId, SEARCHABLE_TYPES, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                chatSearchIndexRepository.indexForRebuild(batch.stream().map(this::toDto).collect(Collectors.toList()));
+                indexedCount += batch.size();
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+
+            // hot 테이블 다음에 읽어야 그 사이 아카이브로 옮겨진 메시지도 빠지지 않는다 (중복은 id 로 교체됨)
+            indexedCount += indexArchivedMessages();
+
+            chatSearchIndexRepository.completeRebuild();
+            log.info("채팅 검색 인덱스 재생성 완료: {}건, {}ms", indexedCount, System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            chatSearchIndexRepository.abortRebuild();
+            log.error("채팅 검색 인덱스 재생성 실패: {}건 처리 후 중단, 기존 인덱스를 유지합니다", indexedCount, e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private long indexArchivedMessages() {
+        AtomicLong indexedCount = new AtomicLong();
+        chatArchiveService.forEachArchivedSegment(messages -> {
+            List<ChatMessageDto> searchable = messages.stream()
+                    .filter(message -> SEARCHABLE_TYPES.contains(message.getMessageType()) && message.getMessage() != null)
+                    .collect(Collectors.toList());
+            try {
+                chatSearchIndexRepository.indexForRebuild(searchable);
+            } catch (IOException e) {
+                throw new UncheckedIOException("아카이브 메시지 색인 실패", e);
+            }
+            indexedCount.addAndGet(searchable.size());
+        });
+        return indexedCount.get();
+    }
+
+    @Override
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    // 진행 중인 재생성은 중단되고 운영 인덱스는 그대로 남는다
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void refreshIndex() {
+        try {
+            chatSearchIndexRepository.refresh();
+        } catch (Exception e) {
+            log.error("채팅 검색 인덱스 갱신 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 30000)
+    public void commitIndex() {
+        try {
+            chatSearchIndexRepository.commit();
+        } catch (Exception e) {
+            log.error("채팅 검색 인덱스 커밋 실패", e);
+        }
+    }
+
+    private ChatMessageDto toDto(ChatMessage message) {
+        return ChatMessageDto.builder()
+                .id(message.getId())
+                .roomId(message.getRoomId())
+                .userId(message.getUserId())
+                .senderNickname(message.getSenderNickname())
+                .message(message.getMessage())
+                .imageUrl(message.getImageUrl())
+                .messageType(message.getMessageType())
+                .sentAt(message.getCreatedAt())
+                .build();
+    }
+}
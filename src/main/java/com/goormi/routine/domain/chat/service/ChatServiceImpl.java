@@ -1,13 +1,14 @@
 package com.goormi.routine.domain.chat.service;
 
 import com.goormi.routine.domain.chat.dto.ChatMessageDto;
-import com.goormi.routine.domain.chat.entity.ChatMember;
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
 import com.goormi.routine.domain.chat.entity.ChatMessage;
 import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
 import com.goormi.routine.domain.chat.entity.ChatRoom;
-import com.goormi.routine.domain.chat.repository.ChatMemberRepository;
+import com.goormi.routine.domain.chat.repository.ChatArchiveSegmentRepository;
 import com.goormi.routine.domain.chat.repository.ChatMessageRepository;
 import com.goormi.routine.domain.chat.repository.ChatRoomRepository;
+import com.goormi.routine.domain.chat.repository.ChatSequenceRedisRepository;
 import com.goormi.routine.domain.group.entity.Group;
 import com.goormi.routine.domain.group.repository.GroupRepository;
 import com.goormi.routine.domain.notification.entity.NotificationType;
@@ -16,41 +17,87 @@ import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ChatServiceImpl implements ChatService {
+
+    private static final int MAX_CLIENT_MESSAGE_ID_LENGTH = 64;
     
     private final ChatMessageRepository chatMessageRepository;
-    private final ChatMemberRepository chatMemberRepository;
+    private final ChatSequenceRedisRepository chatSequenceRedisRepository;
+    private final ChatArchiveSegmentRepository chatArchiveSegmentRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final RedisMessagePublisher redisMessagePublisher;
+    private final ChatMembershipService chatMembershipService;
+    private final ChatReadCursorService chatReadCursorService;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     private final NotificationService notificationService;
-    private final RedisTemplate<String, Object> redisTemplate;
     
+    // 같은 clientMessageId 의 재전송이 동시에 도착하면 유니크 제약(uk_chat_msg_client_id)에 걸린 쪽은
+    // 자기 트랜잭션만 롤백하고 먼저 저장된 메시지를 반환하도록, 저장은 별도 트랜잭션에서 수행한다
     @Override
-    public ChatMessageDto saveAndSendMessage(ChatMessageDto messageDto, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        
-        ChatMember member = chatMemberRepository.findByRoomIdAndUserIdAndIsActiveTrue(messageDto.getRoomId(), user.getId())
-                .orElseThrow(() -> new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다"));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatMessageDto saveAndSendMessage(ChatMessageDto messageDto, ChatSessionContext session) {
+        try {
+            return transactionTemplate.execute(status -> saveAndPublish(messageDto, session));
+        } catch (DataIntegrityViolationException e) {
+            String clientMessageId = messageDto.getClientMessageId();
+            if (clientMessageId == null) {
+                throw e;
+            }
+            ChatMessage duplicate = chatMessageRepository.findByUserIdAndClientMessageId(session.getUserId(), clientMessageId)
+                    .orElseThrow(() -> e);
+            log.debug("동시 재전송 메시지 무시: userId={}, clientMessageId={}", session.getUserId(), clientMessageId);
+            return convertToDto(duplicate);
+        }
+    }
+
+    private ChatMessageDto saveAndPublish(ChatMessageDto messageDto, ChatSessionContext session) {
+        Long userId = session.getUserId();
+
+        // SUBSCRIBE 시 검증된 채팅방은 멤버십 조회 생략
+        if (!session.isVerifiedMember(messageDto.getRoomId())
+                && !chatMembershipService.isMember(messageDto.getRoomId(), userId)) {
+            throw new IllegalArgumentException("채팅방에 참여하지 않은 사용자입니다");
+        }
 
         if (messageDto.getMessageType() != MessageType.TALK &&  messageDto.getMessageType() != MessageType.NOTICE) {
             throw new IllegalArgumentException("Invalid message type");
         }
+
+        // 재전송된 메시지는 새로 저장하지 않고 기존 메시지 반환 (최초 전송 시 이미 브로드캐스트됨)
+        String clientMessageId = messageDto.getClientMessageId();
+        if (clientMessageId != null) {
+            if (clientMessageId.length() > MAX_CLIENT_MESSAGE_ID_LENGTH) {
+                throw new IllegalArgumentException("clientMessageId 는 " + MAX_CLIENT_MESSAGE_ID_LENGTH + "자 이하여야 합니다");
+            }
+            ChatMessage duplicate = chatMessageRepository.findByUserIdAndClientMessageId(userId, clientMessageId)
+                    .orElse(null);
+            if (duplicate != null) {
+                log.debug("재전송 메시지 무시: userId={}, clientMessageId={}", userId, clientMessageId);
+                return convertToDto(duplicate);
+            }
+        }
+
         ChatMessage message = ChatMessage.builder()
                 .roomId(messageDto.getRoomId())
-                .userId(user.getId())
-                .senderNickname(user.getNickname())
+                .seq(nextSeq(messageDto.getRoomId()))
+                .clientMessageId(clientMessageId)
+                .userId(userId)
+                .senderNickname(session.getNickname())
                 .message(messageDto.getMessage())
                 .messageType(messageDto.getMessageType())
                 .imageUrl(messageDto.getImageUrl())
@@ -68,52 +115,11 @@ public class ChatServiceImpl implements ChatService {
                     NotificationType.GROUP_TODAY_AUTH_REQUEST, userId, group.getLeader().getId(), group.getGroupId());
             savedMessage.rejectMessage();
         }
-        chatMemberRepository.updateLastReadMessage(messageDto.getRoomId(), user.getId(), savedMessage.getId());
-        
-        ChatMessageDto dto = convertToDto(savedMessage);
-        redisMessagePublisher.publish(dto);
-        
-        return dto;
-    }
-    
-    @Override
-    public ChatMessageDto handleUserEnter(Long roomId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        
-        ChatMessage message = ChatMessage.builder()
-                .roomId(roomId)
-                .userId(user.getId())
-                .senderNickname(user.getNickname())
-                .message(user.getNickname() + "님이 입장하셨습니다.")
-                .messageType(MessageType.ENTER)
-                .build();
-        
-        ChatMessage savedMessage = chatMessageRepository.save(message);
-        
-        ChatMessageDto dto = convertToDto(savedMessage);
-        redisMessagePublisher.publish(dto);
-        
-        return dto;
-    }
-    
-    @Override
-    public ChatMessageDto handleUserLeave(Long roomId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        
-        ChatMessage message = ChatMessage.builder()
-                .roomId(roomId)
-                .userId(user.getId())
-                .senderNickname(user.getNickname())
-                .message(user.getNickname() + "님이 퇴장하셨습니다.")
-                .messageType(MessageType.LEAVE)
-                .build();
-        
-        ChatMessage savedMessage = chatMessageRepository.save(message);
+        chatReadCursorService.markRead(messageDto.getRoomId(), userId, savedMessage.getId());
         
         ChatMessageDto dto = convertToDto(savedMessage);
         redisMessagePublisher.publish(dto);
+        applicationEventPublisher.publishEvent(new ChatSearchService.ChatMessageSavedEvent(dto));
         
         return dto;
     }
@@ -125,6 +131,7 @@ public class ChatServiceImpl implements ChatService {
         
         ChatMessage message = ChatMessage.builder()
                 .roomId(roomId)
+                .seq(nextSeq(roomId))
                 .userId(user.getId())
                 .senderNickname(user.getNickname())
                 .message(user.getNickname() + "님이 그룹에 참여했습니다.")
@@ -146,6 +153,7 @@ public class ChatServiceImpl implements ChatService {
         
         ChatMessage message = ChatMessage.builder()
                 .roomId(roomId)
+                .seq(nextSeq(roomId))
                 .userId(user.getId())
                 .senderNickname(user.getNickname())
                 .message(user.getNickname() + "님이 그룹을 나갔습니다.")
@@ -160,50 +168,22 @@ public class ChatServiceImpl implements ChatService {
         return dto;
     }
     
-    @Override
-    public void handleUserOnline(Long roomId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        
-        // Redis에 온라인 상태 저장 (DB 저장 안함)
-        redisTemplate.opsForSet().add("room:" + roomId + ":online", userId.toString());
-        
-        // 실시간으로만 전송 (DB 저장 안함)
-        ChatMessageDto dto = ChatMessageDto.builder()
-                .roomId(roomId)
-                .userId(userId)
-                .senderNickname(user.getNickname())
-                .messageType(MessageType.ONLINE)
-                .build();
-        
-        redisMessagePublisher.publish(dto);
-        log.debug("User {} is now online in room {}", user.getNickname(), roomId);
-    }
-    
-    @Override
-    public void handleUserOffline(Long roomId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-        
-        // Redis에서 온라인 상태 제거
-        redisTemplate.opsForSet().remove("room:" + roomId + ":online", userId.toString());
-        
-        // 실시간으로만 전송 (DB 저장 안함)
-        ChatMessageDto dto = ChatMessageDto.builder()
-                .roomId(roomId)
-                .userId(userId)
-                .senderNickname(user.getNickname())
-                .messageType(MessageType.OFFLINE)
-                .build();
-        
-        redisMessagePublisher.publish(dto);
-        log.debug("User {} is now offline in room {}", user.getNickname(), roomId);
+    // Redis 키가 없으면 DB 의 최대 순번부터 이어서 발급 (아카이브로 옮겨진 메시지의 순번까지 포함)
+    private long nextSeq(Long roomId) {
+        if (!chatSequenceRedisRepository.exists(roomId)) {
+            long maxSeq = Math.max(chatMessageRepository.findMaxSeqByRoomId(roomId),
+                    chatArchiveSegmentRepository.findMaxSeqByRoomId(roomId));
+            chatSequenceRedisRepository.initializeIfAbsent(roomId, maxSeq);
+        }
+        return chatSequenceRedisRepository.next(roomId);
     }
-    
+
     private ChatMessageDto convertToDto(ChatMessage message) {
         return ChatMessageDto.builder()
                 .id(message.getId())
                 .roomId(message.getRoomId())
+                .seq(message.getSeq())
+                .clientMessageId(message.getClientMessageId())
                 .userId(message.getUserId())
                 .senderNickname(message.getSenderNickname())
                 .message(message.getMessage())
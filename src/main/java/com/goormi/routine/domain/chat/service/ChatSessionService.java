@@ -0,0 +1,45 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+public interface ChatSessionService {
+
+    // CONNECT 시 사용자 프로필 스냅샷을 세션 속성에 저장
+    ChatSessionContext registerSession(SimpMessageHeaderAccessor accessor, Long userId);
+
+    // SUBSCRIBE 시 채팅방 멤버십을 검증하여 세션에 기록
+    void verifySubscription(SimpMessageHeaderAccessor accessor);
+
+    // 메시지 핸들러에서 사용하는 세션 컨텍스트 (없거나 무효화된 경우에만 DB 조회)
+    ChatSessionContext getContext(SimpMessageHeaderAccessor accessor, Long userId);
+
+    /**
+     * 이벤트 클래스들
+     */
+    class UserProfileChangeEvent {
+        private final Long userId;
+
+        public UserProfileChangeEvent(Long userId) {
+            this.userId = userId;
+        }
+
+        public Long getUserId() { return userId; }
+    }
+
+    class ChatMembershipChangeEvent {
+        private final Long roomId;
+        private final Long userId;
+        private final boolean active;
+
+        public ChatMembershipChangeEvent(Long roomId, Long userId, boolean active) {
+            this.roomId = roomId;
+            this.userId = userId;
+            this.active = active;
+        }
+
+        public Long getRoomId() { return roomId; }
+        public Long getUserId() { return userId; }
+        public boolean isActive() { return active; }
+    }
+}
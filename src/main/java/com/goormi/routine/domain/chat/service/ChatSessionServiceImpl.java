@@ -0,0 +1,131 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
+import com.goormi.routine.domain.chat.repository.ChatSessionRepository;
+import com.goormi.routine.domain.user.entity.User;
+import com.goormi.routine.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatSessionServiceImpl implements ChatSessionService {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/topic/room/(\\d+)(/.*)?$");
+
+    private final ChatSessionRepository chatSessionRepository;
+    private final UserRepository userRepository;
+    private final ChatMembershipService chatMembershipService;
+
+    @Override
+    public ChatSessionContext registerSession(SimpMessageHeaderAccessor accessor, Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            log.warn("세션 등록 실패 - 사용자를 찾을 수 없습니다: userId={}", userId);
+            return null;
+        }
+
+        ChatSessionContext context = ChatSessionContext.of(user);
+        storeContext(accessor, context);
+        log.debug("STOMP 세션 컨텍스트 등록: sessionId={}, userId={}", accessor.getSessionId(), userId);
+        return context;
+    }
+
+    @Override
+    public void verifySubscription(SimpMessageHeaderAccessor accessor) {
+        Long roomId = extractRoomId(accessor.getDestination());
+        ChatSessionContext context = findContext(accessor);
+        if (roomId == null || context == null || context.isVerifiedMember(roomId)) {
+            return;
+        }
+
+        if (chatMembershipService.isMember(roomId, context.getUserId())) {
+            context.addVerifiedRoom(roomId);
+            log.debug("채팅방 구독 멤버십 검증 완료: roomId={}, userId={}", roomId, context.getUserId());
+        }
+    }
+
+    @Override
+    public ChatSessionContext getContext(SimpMessageHeaderAccessor accessor, Long userId) {
+        ChatSessionContext context = findContext(accessor);
+        if (context == null || !context.getUserId().equals(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+            context = ChatSessionContext.of(user);
+            storeContext(accessor, context);
+            return context;
+        }
+
+        if (!context.hasProfile()) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+            context.updateProfile(user);
+        }
+        return context;
+    }
+
+    /**
+     * 프로필 변경 시 해당 사용자의 모든 세션 스냅샷 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUserProfileChange(UserProfileChangeEvent event) {
+        chatSessionRepository.findAllByUserId(event.getUserId())
+                .forEach(ChatSessionContext::invalidateProfile);
+        log.debug("세션 프로필 스냅샷 무효화: userId={}", event.getUserId());
+    }
+
+    /**
+     * 채팅방 탈퇴 시 세션에 기록된 멤버십 제거
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleChatMembershipChange(ChatMembershipChangeEvent event) {
+        if (event.isActive()) {
+            return;
+        }
+        chatSessionRepository.findAllByUserId(event.getUserId())
+                .forEach(context -> context.removeVerifiedRoom(event.getRoomId()));
+        log.debug("세션 채팅방 멤버십 제거: roomId={}, userId={}", event.getRoomId(), event.getUserId());
+    }
+
+    @EventListener
+    public void handleSessionDisconnect(SessionDisconnectEvent event) {
+        chatSessionRepository.deleteBySessionId(event.getSessionId());
+    }
+
+    private ChatSessionContext findContext(SimpMessageHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object context = attributes.get(ChatSessionContext.SESSION_ATTRIBUTE);
+        return context instanceof ChatSessionContext ? (ChatSessionContext) context : null;
+    }
+
+    private void storeContext(SimpMessageHeaderAccessor accessor, ChatSessionContext context) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null || accessor.getSessionId() == null) {
+            return;
+        }
+        attributes.put(ChatSessionContext.SESSION_ATTRIBUTE, context);
+        chatSessionRepository.save(accessor.getSessionId(), context);
+    }
+
+    private Long extractRoomId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = ROOM_DESTINATION.matcher(destination);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
@@ -1,5 +1,8 @@
 package com.goormi.routine.domain.chat.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.domain.chat.dto.ChatFanoutEnvelope;
 import com.goormi.routine.domain.chat.dto.ChatMessageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,11 +15,19 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class RedisMessagePublisher {
     
-    private final RedisTemplate<String, Object> chatRedisTemplate;
+    private final RedisTemplate<String, byte[]> chatFanoutRedisTemplate;
     private final ChannelTopic chatTopic;
+    private final ObjectMapper objectMapper;
     
     public void publish(ChatMessageDto message) {
         log.info("Publishing message to Redis: roomId={}, message={}", message.getRoomId(), message.getMessage());
-        chatRedisTemplate.convertAndSend(chatTopic.getTopic(), message);
+        try {
+            // STOMP 로 전달될 최종 JSON 을 여기서 한 번만 직렬화
+            byte[] encoded = ChatFanoutEnvelope.encode(objectMapper, message);
+            chatFanoutRedisTemplate.convertAndSend(chatTopic.getTopic(), encoded);
+        } catch (JsonProcessingException e) {
+            log.error("채팅 메시지 직렬화 실패: roomId={}", message.getRoomId(), e);
+            throw new IllegalStateException("채팅 메시지 직렬화 실패", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,54 @@
 package com.goormi.routine.domain.chat.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.domain.chat.dto.ChatFanoutEnvelope;
 import com.goormi.routine.domain.chat.dto.ChatMessageDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class RedisMessageSubscriber {
+public class RedisMessageSubscriber implements MessageListener {
     
     private final SimpMessagingTemplate messagingTemplate;
     private final ObjectMapper objectMapper;
     
-    public void onMessage(String message) {
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
         try {
-            ChatMessageDto chatMessage = objectMapper.readValue(message, ChatMessageDto.class);
-            log.info("Received message from Redis: roomId={}, message={}", chatMessage.getRoomId(), chatMessage.getMessage());
-            
-            messagingTemplate.convertAndSend("/topic/room/" + chatMessage.getRoomId(), chatMessage);
+            ChatFanoutEnvelope envelope = ChatFanoutEnvelope.decode(message.getBody());
+            if (envelope == null) {
+                onLegacyMessage(message.getBody());
+                return;
+            }
+            log.debug("Received message from Redis: roomId={}, type={}", envelope.getRoomId(), envelope.getMessageType());
+
+            // 페이로드는 이미 최종 JSON 이므로 객체 변환 없이 그대로 브로커에 전달
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+
+            messagingTemplate.send("/topic/room/" + envelope.getRoomId(),
+                    MessageBuilder.createMessage(envelope.getPayload(), accessor.getMessageHeaders()));
         } catch (Exception e) {
             log.error("Error processing Redis message", e);
         }
     }
-}
\ No newline at end of file
+
+    // 배포 중 이전 버전 인스턴스가 발행한 메시지 처리
+    private void onLegacyMessage(byte[] body) throws Exception {
+        ChatMessageDto chatMessage = objectMapper.readValue(body, ChatMessageDto.class);
+        log.info("Received legacy message from Redis: roomId={}, message={}", chatMessage.getRoomId(), chatMessage.getMessage());
+
+        messagingTemplate.convertAndSend("/topic/room/" + chatMessage.getRoomId(), chatMessage);
+    }
+}
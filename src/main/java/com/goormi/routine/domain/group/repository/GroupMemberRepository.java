@@ -14,6 +14,7 @@ import java.util.Optional;
 @Repository
 public interface GroupMemberRepository extends JpaRepository<GroupMember, Long> {
     Optional<GroupMember> findByGroupAndUser(Group group, User user);
+    List<GroupMember> findAllByGroupAndUser_IdIn(Group group, Collection<Long> userIds);
     List<GroupMember> findAllByGroupAndRole(Group group, GroupMemberRole role);
     List<GroupMember> findAllByGroupAndStatus(Group group, GroupMemberStatus status);
 
@@ -21,6 +21,7 @@ import com.goormi.routine.domain.chat.entity.ChatMember.MemberRole;
 import com.goormi.routine.domain.chat.repository.ChatRoomRepository;
 import com.goormi.routine.domain.chat.repository.ChatMemberRepository;
 import com.goormi.routine.domain.chat.service.ChatService;
+import com.goormi.routine.domain.chat.service.ChatSessionService.ChatMembershipChangeEvent;
 import com.goormi.routine.domain.userActivity.dto.UserActivityRequest;
 import com.goormi.routine.domain.userActivity.service.UserActivityService;
 import com.goormi.routine.domain.calendar.service.CalendarIntegrationService.GroupMemberStatusChangeEvent;
@@ -118,6 +119,7 @@ public class GroupMemberServiceImpl implements GroupMemberService {
                         .isActive(true)
                         .build();
                 chatMemberRepository.save(chatMember);
+                applicationEventPublisher.publishEvent(new ChatMembershipChangeEvent(chatRoom.getId(), userId, true));
                 
                 // 채팅방에 그룹 멤버 가입 알림 전송
                 chatService.notifyMemberJoin(chatRoom.getId(), userId);
@@ -234,6 +236,8 @@ public class GroupMemberServiceImpl implements GroupMemberService {
                             .isActive(true)
                             .build();
                     chatMemberRepository.save(chatMember);
+                    applicationEventPublisher.publishEvent(
+                            new ChatMembershipChangeEvent(chatRoom.getId(), groupMember.getUser().getId(), true));
                     
                     // 채팅방에 그룹 멤버 가입 알림 전송
                     chatService.notifyMemberJoin(chatRoom.getId(), groupMember.getUser().getId());
@@ -257,6 +261,8 @@ public class GroupMemberServiceImpl implements GroupMemberService {
                 ChatMember chatMember = existingChatMember.get();
                 chatMember.setIsActive(false);
                 chatMemberRepository.save(chatMember);
+                applicationEventPublisher.publishEvent(
+                        new ChatMembershipChangeEvent(chatRoom.getId(), groupMember.getUser().getId(), false));
                 
                 // 채팅방에 그룹 멤버 탈퇴 알림 전송
                 chatService.notifyMemberLeave(chatRoom.getId(), groupMember.getUser().getId());
@@ -417,6 +423,7 @@ public class GroupMemberServiceImpl implements GroupMemberService {
             chatMember.setIsActive(false);
             chatMember.setLeftAt(java.time.LocalDateTime.now());
             chatMemberRepository.save(chatMember);
+            applicationEventPublisher.publishEvent(new ChatMembershipChangeEvent(chatRoom.getId(), userId, false));
             
             // 채팅방에 그룹 멤버 탈퇴 알림 전송
             chatService.notifyMemberLeave(chatRoom.getId(), userId);
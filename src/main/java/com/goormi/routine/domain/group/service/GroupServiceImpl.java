@@ -18,6 +18,7 @@ import com.goormi.routine.domain.chat.entity.ChatMember;
 import com.goormi.routine.domain.chat.entity.ChatMember.MemberRole;
 import com.goormi.routine.domain.chat.repository.ChatRoomRepository;
 import com.goormi.routine.domain.chat.repository.ChatMemberRepository;
+import com.goormi.routine.domain.chat.service.ChatSessionService.ChatMembershipChangeEvent;
 import com.goormi.routine.domain.calendar.service.CalendarIntegrationService.GroupInfoUpdateEvent;
 import com.goormi.routine.domain.calendar.service.CalendarIntegrationService.GroupDeletionEvent;
 import com.goormi.routine.domain.calendar.service.CalendarIntegrationService.GroupMemberStatusChangeEvent;
@@ -100,6 +101,8 @@ public class GroupServiceImpl implements GroupService {
                 .build();
         
         chatMemberRepository.save(chatMember);
+        applicationEventPublisher.publishEvent(
+                new ChatMembershipChangeEvent(savedChatRoom.getId(), leader.getId(), true));
         
         return GroupResponse.from(saved);
     }
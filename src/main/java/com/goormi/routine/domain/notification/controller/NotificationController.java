@@ -1,8 +1,11 @@
 package com.goormi.routine.domain.notification.controller;
 
+import com.goormi.routine.domain.notification.dto.NotificationCursorResponse;
 import com.goormi.routine.domain.notification.dto.NotificationResponse;
+import com.goormi.routine.domain.notification.dto.UnreadCountResponse;
 import com.goormi.routine.domain.notification.entity.NotificationType;
 import com.goormi.routine.domain.notification.service.NotificationService;
+import com.goormi.routine.domain.notification.service.NotificationUnreadCountService;
 import com.goormi.routine.domain.notification.service.SseEmitterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -27,6 +30,7 @@ import java.util.List;
 public class NotificationController {
     private final NotificationService notificationService;
     private final SseEmitterService sseEmitterService;
+    private final NotificationUnreadCountService notificationUnreadCountService;
 
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     @Operation(summary = "알림 구독 (SSE)", description = "SSE를 통해 실시간으로 알림을 구독합니다.")
@@ -36,8 +40,8 @@ public class NotificationController {
     })
     public ResponseEntity<SseEmitter> subscribe(
             @AuthenticationPrincipal Long userId,
-            @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "") String lastEmitterId) {
-        return ResponseEntity.ok(sseEmitterService.subscribe(userId, lastEmitterId));
+            @RequestHeader(value = "Last-Event-ID", required = false, defaultValue = "") String lastEventId) {
+        return ResponseEntity.ok(sseEmitterService.subscribe(userId, lastEventId));
     }
 
     @GetMapping()
@@ -53,6 +57,20 @@ public class NotificationController {
         return ResponseEntity.ok(notifications);
     }
 
+    @GetMapping("/cursor")
+    @Operation(summary = "유저의 알림 커서 조회", description = "알림 ID 커서로 알림을 최신순 조회합니다. 다음 페이지는 nextCursor 를 before 로 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "알림 목록 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    public ResponseEntity<NotificationCursorResponse> getNotificationsByCursor(
+            @AuthenticationPrincipal Long receiverId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) NotificationType notificationType,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getNotificationsBefore(receiverId, notificationType, before, size));
+    }
+
     @GetMapping("/type")
     @Operation(summary = "유저의 알림타입 별 조회", description = "인증된 사용자의 알림을 타입별로 조회합니다.")
     @ApiResponses(value = {
@@ -82,4 +100,25 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/unread-count")
+    @Operation(summary = "읽지 않은 알림 수 조회", description = "배지 표시용으로 인증된 사용자의 읽지 않은 알림 수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    public ResponseEntity<UnreadCountResponse> getUnreadCount(@AuthenticationPrincipal Long userId) {
+        return ResponseEntity.ok(UnreadCountResponse.of(notificationUnreadCountService.getUnreadCount(userId)));
+    }
+
+    @PutMapping("/read-all")
+    @Operation(summary = "유저의 알림 전체 읽음 표시", description = "인증된 사용자의 읽지 않은 알림을 모두 읽음 처리합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "읽음 처리 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")
+    })
+    public ResponseEntity<Void> readAllNotifications(@AuthenticationPrincipal Long userId) {
+        notificationService.markAllAsRead(userId);
+        return ResponseEntity.ok().build();
+    }
+
 }
@@ -0,0 +1,18 @@
+package com.goormi.routine.domain.notification.dto;
+
+import com.goormi.routine.domain.notification.entity.NotificationType;
+
+import java.time.LocalDateTime;
+
+// 보관 기간 정리 시 아카이브 파일에 기록하는 알림 한 건 (NDJSON 한 줄)
+public record NotificationArchiveRecord(
+        Long id,
+        Long receiverId,
+        Long senderId,
+        Long groupId,
+        NotificationType notificationType,
+        String content,
+        boolean isRead,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,17 @@
+package com.goormi.routine.domain.notification.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationCursorResponse {
+
+    private List<NotificationResponse> notifications;
+    // 다음 페이지 조회 시 before 로 전달, 마지막 페이지면 null
+    private Long nextCursor;
+}
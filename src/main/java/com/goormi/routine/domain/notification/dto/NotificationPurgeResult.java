@@ -0,0 +1,14 @@
+package com.goormi.routine.domain.notification.dto;
+
+// 보관 기간 정리 1회 실행 결과
+public record NotificationPurgeResult(
+        long readPurged,
+        long expiredPurged,
+        long archived,
+        int batches,
+        Long lastScannedId
+) {
+    public long totalPurged() {
+        return readPurged + expiredPurged;
+    }
+}
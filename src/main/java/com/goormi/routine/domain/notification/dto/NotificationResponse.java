@@ -7,7 +7,7 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class NotificationResponse {
     private Long id;
@@ -21,6 +21,26 @@ public class NotificationResponse {
     private boolean isRead;
     private LocalDateTime createdAt;
 
+    // 합쳐진 알림 수 (합쳐지지 않았으면 1)
+    private int aggregateCount;
+
+    // SSE 로 전달할 때만 채우는 수신자의 읽지 않은 알림 수, 알 수 없으면 null
+    private Long unreadCount;
+
+    public static NotificationResponse from(NotificationSummary summary) {
+        return NotificationResponse.builder()
+                .id(summary.id())
+                .content(summary.content())
+                .notificationType(summary.notificationType())
+                .senderName(summary.senderName())
+                .receiverName(summary.receiverName())
+                .groupName(summary.groupName())
+                .isRead(summary.isRead())
+                .createdAt(summary.createdAt())
+                .aggregateCount(summary.aggregateCount())
+                .build();
+    }
+
     public static NotificationResponse from(Notification notification) {
         String senderName = null;
         String groupName = null;
@@ -42,6 +62,7 @@ public class NotificationResponse {
                 .groupName(groupName)
                 .isRead(notification.isRead())
                 .createdAt(notification.getCreatedAt())
+                .aggregateCount(notification.getAggregateCount())
                 .build();
     }
 
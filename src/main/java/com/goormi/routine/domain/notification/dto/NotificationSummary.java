@@ -0,0 +1,19 @@
+package com.goormi.routine.domain.notification.dto;
+
+import com.goormi.routine.domain.notification.entity.NotificationType;
+
+import java.time.LocalDateTime;
+
+// 알림 목록 조회용 프로젝션. 발신자/수신자/그룹 표시 필드를 한 번의 조회로 가져온다
+public record NotificationSummary(
+        Long id,
+        String content,
+        NotificationType notificationType,
+        String senderName,
+        String receiverName,
+        String groupName,
+        boolean isRead,
+        LocalDateTime createdAt,
+        int aggregateCount
+) {
+}
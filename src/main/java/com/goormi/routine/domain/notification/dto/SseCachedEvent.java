@@ -0,0 +1,8 @@
+package com.goormi.routine.domain.notification.dto;
+
+/**
+ * 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내기 위해 버퍼에 보관하는 SSE 이벤트.
+ * eventId 는 알림 ID 이다.
+ */
+public record SseCachedEvent(Long eventId, Object data) {
+}
@@ -0,0 +1,58 @@
+package com.goormi.routine.domain.notification.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 노드 간 SSE 알림 팬아웃 포맷
+ * "{userId}|{notificationId}\n" 라우팅 헤더 뒤에 SSE data 로 그대로 보낼 UTF-8 JSON 페이로드를 붙인다.
+ * 구독 측은 헤더만 읽고 페이로드는 역직렬화 없이 emitter 로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class SseNotificationEnvelope {
+
+    private static final byte HEADER_END = '\n';
+    private static final String HEADER_SEPARATOR = "|";
+
+    private final Long userId;
+    private final Long eventId;
+    private final String payload;
+
+    public static byte[] encode(ObjectMapper objectMapper, Long userId, NotificationResponse notification)
+            throws JsonProcessingException {
+        byte[] header = (userId + HEADER_SEPARATOR + notification.getId() + "\n")
+                .getBytes(StandardCharsets.US_ASCII);
+        byte[] payload = objectMapper.writeValueAsBytes(notification);
+
+        byte[] encoded = Arrays.copyOf(header, header.length + payload.length);
+        System.arraycopy(payload, 0, encoded, header.length, payload.length);
+        return encoded;
+    }
+
+    public static SseNotificationEnvelope decode(byte[] encoded) {
+        int headerEnd = -1;
+        for (int i = 0; i < encoded.length; i++) {
+            if (encoded[i] == HEADER_END) {
+                headerEnd = i;
+                break;
+            }
+        }
+        if (headerEnd < 0) {
+            throw new IllegalArgumentException("SSE 알림 라우팅 헤더가 없습니다");
+        }
+
+        String header = new String(encoded, 0, headerEnd, StandardCharsets.US_ASCII);
+        int separator = header.indexOf(HEADER_SEPARATOR);
+        Long userId = Long.valueOf(header.substring(0, separator));
+        String eventId = header.substring(separator + 1);
+
+        String payload = new String(encoded, headerEnd + 1, encoded.length - headerEnd - 1, StandardCharsets.UTF_8);
+        return new SseNotificationEnvelope(userId, "null".equals(eventId) ? null : Long.valueOf(eventId), payload);
+    }
+}
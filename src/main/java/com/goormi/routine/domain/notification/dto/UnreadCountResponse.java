@@ -0,0 +1,9 @@
+package com.goormi.routine.domain.notification.dto;
+
+public record UnreadCountResponse(
+        long unreadCount
+) {
+    public static UnreadCountResponse of(long unreadCount) {
+        return new UnreadCountResponse(unreadCount);
+    }
+}
@@ -7,10 +7,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "notification",
+    indexes = {
+        @Index(name = "idx_notification_receiver_id", columnList = "receiver_id, id DESC"),
+        @Index(name = "idx_notification_receiver_type_id", columnList = "receiver_id, notification_type, id DESC")
+    })
 @Getter
 @Builder
 @NoArgsConstructor
@@ -44,6 +50,12 @@ public class Notification {
 
     private LocalDateTime createdAt;
 
+    // 합쳐진 알림 수 (합쳐지지 않았으면 1)
+    @Builder.Default
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    private int aggregateCount = 1;
+
     public static Notification createNotification(String content, NotificationType type,
                                                   User sender, User receiver, Group group) {
         return Notification.builder()
@@ -61,6 +73,13 @@ public class Notification {
         this.isRead = isRead;
     }
 
+    // 같은 타입/그룹/수신자의 알림을 합친다. 발신자는 가장 최근 발신자로 바꾼다
+    public void coalesce(User sender, String content) {
+        this.aggregateCount++;
+        this.sender = sender;
+        this.content = content;
+    }
+
 
 
 }
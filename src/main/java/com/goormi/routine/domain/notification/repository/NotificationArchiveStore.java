@@ -0,0 +1,49 @@
+package com.goormi.routine.domain.notification.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 보관 기간이 지나 삭제되는 알림의 아카이브 파일 (로컬 파일시스템, append-only)
+ */
+@Repository
+public class NotificationArchiveStore {
+
+    private final Path baseDir;
+
+    public NotificationArchiveStore(@Value("${notification.retention.archive.base-dir:data/notification-archive}") String baseDir) {
+        this.baseDir = Paths.get(baseDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 파일 끝에 바이트를 덧붙이고, 반환 전에 영속화를 보장한다.
+     */
+    public void append(String key, byte[] bytes) throws IOException {
+        Path path = resolve(key);
+        Files.createDirectories(path.getParent());
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private Path resolve(String key) {
+        Path path = baseDir.resolve(key).normalize();
+        if (!path.startsWith(baseDir)) {
+            throw new IllegalArgumentException("잘못된 아카이브 경로입니다: " + key);
+        }
+        return path;
+    }
+}
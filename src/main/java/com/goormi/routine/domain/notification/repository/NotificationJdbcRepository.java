@@ -0,0 +1,83 @@
+package com.goormi.routine.domain.notification.repository;
+
+import com.goormi.routine.domain.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 대량 저장. IDENTITY 전략에서는 Hibernate 가 insert 배치를 하지 않으므로 JDBC 배치로 직접 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notification "
+            + "(content, notification_type, sender_id, receiver_id, group_id, is_read, created_at, aggregate_count) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${notification.bulk.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * @return 입력 순서대로 생성된 알림 ID
+     */
+    public List<Long> insertAll(List<Notification> notifications) {
+        List<Long> ids = new ArrayList<>(notifications.size());
+        for (int from = 0; from < notifications.size(); from += batchSize) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + batchSize, notifications.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            Notification notification = chunk.get(i);
+                            ps.setString(1, notification.getContent());
+                            ps.setString(2, notification.getNotificationType().name());
+                            setNullableLong(ps, 3, notification.getSender() != null ? notification.getSender().getId() : null);
+                            ps.setLong(4, notification.getReceiver().getId());
+                            setNullableLong(ps, 5, notification.getGroup() != null ? notification.getGroup().getGroupId() : null);
+                            ps.setBoolean(6, notification.isRead());
+                            ps.setTimestamp(7, Timestamp.valueOf(notification.getCreatedAt()));
+                            ps.setInt(8, notification.getAggregateCount());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return chunk.size();
+                        }
+                    },
+                    keyHolder);
+
+            for (Map<String, Object> keys : keyHolder.getKeyList()) {
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
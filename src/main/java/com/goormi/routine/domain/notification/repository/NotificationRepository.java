@@ -1,14 +1,20 @@
 package com.goormi.routine.domain.notification.repository;
 
+import com.goormi.routine.domain.notification.dto.NotificationArchiveRecord;
+import com.goormi.routine.domain.notification.dto.NotificationSummary;
 import com.goormi.routine.domain.notification.entity.Notification;
 import com.goormi.routine.domain.notification.entity.NotificationType;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -16,11 +22,60 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n " +
             "JOIN FETCH n.sender " +
             "LEFT JOIN FETCH n.group " +
-            "WHERE n.receiver.id = :receiverId ORDER BY n.createdAt DESC")
+            "WHERE n.receiver.id = :receiverId ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.receiver.id = :receiverId")
     Page<Notification> findByReceiver_IdOrderByCreatedAtDesc(@Param("receiverId") Long receiverId, Pageable pageable);
     @Query("SELECT n FROM Notification n " +
             "JOIN FETCH n.sender " +
             "LEFT JOIN FETCH n.group " +
-            "WHERE n.receiver.id = :receiverId AND n.notificationType = :type ORDER BY n.createdAt DESC")
+            "WHERE n.receiver.id = :receiverId AND n.notificationType = :type ORDER BY n.createdAt DESC",
+            countQuery = "SELECT COUNT(n) FROM Notification n WHERE n.receiver.id = :receiverId AND n.notificationType = :type")
     Page<Notification> findByReceiver_IdAndNotificationType(@Param("receiverId") Long receiverId, @Param("type") NotificationType type, Pageable pageable);
+    @Query("SELECT n FROM Notification n " +
+            "JOIN FETCH n.receiver " +
+            "LEFT JOIN FETCH n.sender " +
+            "LEFT JOIN FETCH n.group " +
+            "WHERE n.receiver.id = :receiverId AND n.id > :lastId ORDER BY n.id ASC")
+    List<Notification> findByReceiver_IdAndIdGreaterThanOrderByIdAsc(@Param("receiverId") Long receiverId, @Param("lastId") Long lastId, Pageable pageable);
+    // 커서(before) 기반 목록 조회. (receiver_id, id) 인덱스를 역순으로 읽으며 count 쿼리는 실행하지 않는다
+    @Query("SELECT new com.goormi.routine.domain.notification.dto.NotificationSummary(" +
+            "n.id, n.content, n.notificationType, s.nickname, r.nickname, g.groupName, n.isRead, n.createdAt, n.aggregateCount) " +
+            "FROM Notification n " +
+            "JOIN n.receiver r " +
+            "LEFT JOIN n.sender s " +
+            "LEFT JOIN n.group g " +
+            "WHERE n.receiver.id = :receiverId AND n.id < :beforeId ORDER BY n.id DESC")
+    List<NotificationSummary> findSummariesByReceiverIdBefore(@Param("receiverId") Long receiverId, @Param("beforeId") Long beforeId, Pageable pageable);
+    @Query("SELECT new com.goormi.routine.domain.notification.dto.NotificationSummary(" +
+            "n.id, n.content, n.notificationType, s.nickname, r.nickname, g.groupName, n.isRead, n.createdAt, n.aggregateCount) " +
+            "FROM Notification n " +
+            "JOIN n.receiver r " +
+            "LEFT JOIN n.sender s " +
+            "LEFT JOIN n.group g " +
+            "WHERE n.receiver.id = :receiverId AND n.notificationType = :type AND n.id < :beforeId ORDER BY n.id DESC")
+    List<NotificationSummary> findSummariesByReceiverIdAndTypeBefore(@Param("receiverId") Long receiverId, @Param("type") NotificationType type, @Param("beforeId") Long beforeId, Pageable pageable);
+    long countByReceiver_IdAndIsReadFalse(Long receiverId);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.receiver.id = :receiverId AND n.isRead = false")
+    int markAllAsReadByReceiverId(@Param("receiverId") Long receiverId);
+
+    // 보관 기간 정리용. id 순으로 lastId 이후 한 배치를 읽는다
+    @Query("SELECT new com.goormi.routine.domain.notification.dto.NotificationArchiveRecord(" +
+            "n.id, n.receiver.id, s.id, g.groupId, n.notificationType, n.content, n.isRead, n.createdAt) " +
+            "FROM Notification n " +
+            "LEFT JOIN n.sender s " +
+            "LEFT JOIN n.group g " +
+            "WHERE n.id > :lastId ORDER BY n.id ASC")
+    List<NotificationArchiveRecord> findArchiveRecordsAfter(@Param("lastId") Long lastId, Pageable pageable);
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+    // 합칠 대상 알림. 동시에 합치는 요청이 개수를 덮어쓰지 않도록 행을 잠근다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n " +
+            "WHERE n.receiver.id = :receiverId AND n.notificationType = :type AND n.group.groupId = :groupId " +
+            "AND n.isRead = false AND n.createdAt >= :since ORDER BY n.id DESC")
+    List<Notification> findCoalesceTargets(@Param("receiverId") Long receiverId, @Param("type") NotificationType type,
+                                           @Param("groupId") Long groupId, @Param("since") LocalDateTime since, Pageable pageable);
 }
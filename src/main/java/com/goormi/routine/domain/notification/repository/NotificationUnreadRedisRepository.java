@@ -0,0 +1,86 @@
+package com.goormi.routine.domain.notification.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 읽지 않은 알림 수 (Redis)
+ * 키가 없으면 값이 없는 것으로 보고 DB 에서 다시 채운다. TTL 이 지나면 자연스럽게 DB 와 재동기화된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadRedisRepository {
+
+	private final StringRedisTemplate redisTemplate;
+
+	private static final String UNREAD_PREFIX = "notification:unread:";
+	private static final long MISSING = -1L;
+
+	// 키가 있을 때만 더하고, 0 아래로 내려가지 않도록 보정한다. 키가 없으면 -1
+	private static final String ADD_IF_PRESENT_SCRIPT =
+		"if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+		"local count = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+		"if count < 0 then count = redis.call('INCRBY', KEYS[1], -count) end " +
+		"return count";
+
+	private static final DefaultRedisScript<Long> ADD_IF_PRESENT =
+		new DefaultRedisScript<>(ADD_IF_PRESENT_SCRIPT, Long.class);
+
+	public Long find(Long userId) {
+		String value = redisTemplate.opsForValue().get(key(userId));
+		return value != null ? Long.valueOf(value) : null;
+	}
+
+	public void saveIfAbsent(Long userId, long count, Duration ttl) {
+		redisTemplate.opsForValue().setIfAbsent(key(userId), String.valueOf(count), ttl);
+	}
+
+	/**
+	 * @return 변경된 값, 키가 없으면 null
+	 */
+	public Long addIfPresent(Long userId, long delta) {
+		Long count = redisTemplate.execute(ADD_IF_PRESENT, List.of(key(userId)), String.valueOf(delta));
+		return count == null || count == MISSING ? null : count;
+	}
+
+	/**
+	 * 여러 사용자의 값을 파이프라인으로 1씩 올린다.
+	 * @return 입력 순서대로 변경된 값, 키가 없던 사용자는 null
+	 */
+	public List<Long> incrementAllIfPresent(List<Long> userIds) {
+		byte[] script = ADD_IF_PRESENT_SCRIPT.getBytes(StandardCharsets.UTF_8);
+		byte[] delta = "1".getBytes(StandardCharsets.UTF_8);
+
+		List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Long userId : userIds) {
+				connection.scriptingCommands().eval(script, ReturnType.INTEGER,
+					1, key(userId).getBytes(StandardCharsets.UTF_8), delta);
+			}
+			return null;
+		});
+
+		List<Long> counts = new ArrayList<>(results.size());
+		for (Object result : results) {
+			long count = result instanceof Number number ? number.longValue() : MISSING;
+			counts.add(count == MISSING ? null : count);
+		}
+		return counts;
+	}
+
+	public void delete(Long userId) {
+		redisTemplate.delete(key(userId));
+	}
+
+	private String key(Long userId) {
+		return UNREAD_PREFIX + userId;
+	}
+}
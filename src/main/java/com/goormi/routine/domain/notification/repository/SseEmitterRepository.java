@@ -1,16 +1,27 @@
 package com.goormi.routine.domain.notification.repository;
 
+import com.goormi.routine.domain.notification.dto.SseCachedEvent;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public interface SseEmitterRepository {
-    SseEmitter save(String emitterId, SseEmitter sseEmitter);
-    void saveEventCache(String emitterId, Object event);
-    Map<String, SseEmitter> findAllEmitters();
-    Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId);
-    Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId);
-    void deleteById(String id);
-    void deleteAllEmitterStartWithId(String memberId);
-    void deleteAllEventCacheStartWithId(String memberId);
+    SseEmitter save(Long userId, String emitterId, SseEmitter sseEmitter);
+    void saveEvent(Long userId, Long eventId, Object event);
+    Map<Long, Map<String, SseEmitter>> findAllEmitters();
+    Map<String, SseEmitter> findAllByUserId(Long userId);
+
+    /**
+     * lastEventId 이후 이벤트를 버퍼에서 찾는다.
+     * 버퍼가 그 사이 이벤트를 모두 보관하고 있다고 보장할 수 없으면 빈 Optional 을 반환한다.
+     */
+    Optional<List<SseCachedEvent>> findEventsAfter(Long userId, Long lastEventId);
+    void deleteById(Long userId, String emitterId, SseEmitter sseEmitter);
+    void deleteAllByUserId(Long userId);
+    void evictExpiredEvents();
+    int countEmitters();
+    int countConnectedUsers();
+    int countBufferedEvents();
 }
@@ -1,61 +1,245 @@
 package com.goormi.routine.domain.notification.repository;
 
-import lombok.RequiredArgsConstructor;
+import com.goormi.routine.domain.notification.dto.SseCachedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Repository
-@RequiredArgsConstructor
 public class SseEmitterRepositoryImpl implements SseEmitterRepository {
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
-    private final Map<String, Object> eventCache = new ConcurrentHashMap<>();
+    // userId -> (emitterId -> emitter)
+    private final Map<Long, Map<String, SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger emitterCount = new AtomicInteger();
+
+    // userId -> 최근 이벤트 링 버퍼
+    private final Map<Long, ReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+    // 전역 삽입 순서. TTL 이 지났거나 전체 상한을 넘으면 가장 오래된 이벤트부터 제거한다
+    private final Queue<BufferedEvent> evictionQueue = new ConcurrentLinkedQueue<>();
+    // 사용자별 상한으로 이미 밀려난 이벤트도 큐에서 빠지기 전까지는 포함하므로, 이 값으로 전체 메모리 상한을 건다
+    private final AtomicInteger queuedEventCount = new AtomicInteger();
+    private final AtomicInteger bufferedEventCount = new AtomicInteger();
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    @Value("${sse.replay.per-user-size:20}")
+    private int replayPerUserSize;
+
+    @Value("${sse.replay.ttl-ms:600000}")
+    private long replayTtlMillis;
+
+    @Value("${sse.replay.max-events:100000}")
+    private int replayMaxEvents;
+
+    public SseEmitterRepositoryImpl(MeterRegistry meterRegistry) {
+        Gauge.builder("sse.emitters.active", emitterCount, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("sse.emitters.users", emittersByUser, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("sse.replay.buffered.events", bufferedEventCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
 
     @Override
-    public SseEmitter save(String emitterId, SseEmitter sseEmitter) {
-        emitters.put(emitterId, sseEmitter);
+    public SseEmitter save(Long userId, String emitterId, SseEmitter sseEmitter) {
+        // 사용자 맵 생성과 등록을 같은 compute 안에서 처리해 동시 삭제로 빈 맵이 제거되는 경쟁을 막는다
+        emittersByUser.compute(userId, (key, emitters) -> {
+            Map<String, SseEmitter> userEmitters = emitters != null ? emitters : new ConcurrentHashMap<>();
+            if (userEmitters.put(emitterId, sseEmitter) == null) {
+                emitterCount.incrementAndGet();
+            }
+            return userEmitters;
+        });
         return sseEmitter;
     }
 
     @Override
-    public void saveEventCache(String emitterId, Object event) {
-        eventCache.put(emitterId, event);
+    public void saveEvent(Long userId, Long eventId, Object event) {
+        long now = System.currentTimeMillis();
+        BufferedEvent buffered = new BufferedEvent(userId, new SseCachedEvent(eventId, event), now);
+
+        replayBuffers.compute(userId, (key, buffer) -> {
+            ReplayBuffer target = buffer != null ? buffer : new ReplayBuffer(eventId);
+            target.add(buffered);
+            bufferedEventCount.incrementAndGet();
+            while (target.size() > replayPerUserSize) {
+                target.evictOldest();
+                bufferedEventCount.decrementAndGet();
+            }
+            return target;
+        });
+        evictionQueue.add(buffered);
+        queuedEventCount.incrementAndGet();
+
+        trimEvents(now);
+    }
+
+    @Override
+    public Map<Long, Map<String, SseEmitter>> findAllEmitters() {
+        return Collections.unmodifiableMap(emittersByUser);
+    }
+
+    @Override
+    public Map<String, SseEmitter> findAllByUserId(Long userId) {
+        Map<String, SseEmitter> emitters = emittersByUser.get(userId);
+        return emitters != null ? Map.copyOf(emitters) : Map.of();
+    }
+
+    @Override
+    public Optional<List<SseCachedEvent>> findEventsAfter(Long userId, Long lastEventId) {
+        ReplayBuffer buffer = replayBuffers.get(userId);
+        return buffer != null ? buffer.findAfter(lastEventId) : Optional.empty();
     }
 
+    /**
+     * 같은 ID로 다시 등록된 emitter 를 이전 emitter 의 완료 콜백이 지우지 않도록 값까지 일치할 때만 삭제한다.
+     */
     @Override
-    public Map<String, SseEmitter> findAllEmitters() {
-        return emitters;
+    public void deleteById(Long userId, String emitterId, SseEmitter sseEmitter) {
+        emittersByUser.computeIfPresent(userId, (key, emitters) -> {
+            if (emitters.remove(emitterId, sseEmitter)) {
+                emitterCount.decrementAndGet();
+            }
+            return emitters.isEmpty() ? null : emitters;
+        });
     }
 
     @Override
-    public Map<String, SseEmitter> findAllEmitterStartWithByMemberId(String memberId) {
-        return emitters.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public void deleteAllByUserId(Long userId) {
+        Map<String, SseEmitter> removed = emittersByUser.remove(userId);
+        if (removed != null) {
+            emitterCount.addAndGet(-removed.size());
+        }
     }
 
     @Override
-    public Map<String, Object> findAllEventCacheStartWithByMemberId(String memberId) {
-        return eventCache.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith(memberId))
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    public void evictExpiredEvents() {
+        trimEvents(System.currentTimeMillis());
     }
 
     @Override
-    public void deleteById(String id) {
-        emitters.remove(id);
+    public int countEmitters() {
+        return emitterCount.get();
     }
 
     @Override
-    public void deleteAllEmitterStartWithId(String memberId) {
-        emitters.keySet().removeIf(key -> key.startsWith(memberId));
+    public int countConnectedUsers() {
+        return emittersByUser.size();
     }
 
     @Override
-    public void deleteAllEventCacheStartWithId(String memberId) {
-        eventCache.keySet().removeIf(key -> key.startsWith(memberId));
+    public int countBufferedEvents() {
+        return bufferedEventCount.get();
+    }
+
+    /**
+     * 전역 큐 앞에서부터 이미 밀려난 이벤트, TTL 이 지난 이벤트, 전체 상한을 넘는 이벤트를 제거한다.
+     * 한 번에 한 스레드만 정리하고 나머지는 건너뛴다.
+     */
+    private void trimEvents(long now) {
+        if (!trimLock.tryLock()) {
+            return;
+        }
+        try {
+            BufferedEvent head;
+            while ((head = evictionQueue.peek()) != null) {
+                boolean expired = now - head.createdAt > replayTtlMillis;
+                boolean overCapacity = queuedEventCount.get() > replayMaxEvents;
+                if (!head.removed && !expired && !overCapacity) {
+                    break;
+                }
+
+                evictionQueue.poll();
+                queuedEventCount.decrementAndGet();
+                if (!head.removed) {
+                    BufferedEvent target = head;
+                    replayBuffers.computeIfPresent(target.userId, (key, buffer) -> {
+                        if (buffer.remove(target)) {
+                            bufferedEventCount.decrementAndGet();
+                        }
+                        return buffer.isEmpty() ? null : buffer;
+                    });
+                }
+            }
+        } finally {
+            trimLock.unlock();
+        }
+    }
+
+    private static final class BufferedEvent {
+        private final Long userId;
+        private final SseCachedEvent event;
+        private final long createdAt;
+        private volatile boolean removed;
+
+        private BufferedEvent(Long userId, SseCachedEvent event, long createdAt) {
+            this.userId = userId;
+            this.event = event;
+            this.createdAt = createdAt;
+        }
+    }
+
+    private static final class ReplayBuffer {
+        private final Deque<BufferedEvent> events = new ArrayDeque<>();
+        // 이 ID 이상인 이 사용자의 이벤트는 모두 버퍼에 있다
+        private long coveredFrom;
+
+        private ReplayBuffer(long firstEventId) {
+            this.coveredFrom = firstEventId;
+        }
+
+        private synchronized void add(BufferedEvent event) {
+            events.addLast(event);
+        }
+
+        private synchronized int size() {
+            return events.size();
+        }
+
+        private synchronized boolean isEmpty() {
+            return events.isEmpty();
+        }
+
+        private synchronized void evictOldest() {
+            BufferedEvent oldest = events.pollFirst();
+            if (oldest != null) {
+                markRemoved(oldest);
+            }
+        }
+
+        private synchronized boolean remove(BufferedEvent event) {
+            if (!events.remove(event)) {
+                return false;
+            }
+            markRemoved(event);
+            return true;
+        }
+
+        private synchronized Optional<List<SseCachedEvent>> findAfter(long lastEventId) {
+            if (lastEventId + 1 < coveredFrom) {
+                return Optional.empty();
+            }
+            return Optional.of(events.stream()
+                    .map(buffered -> buffered.event)
+                    .filter(event -> event.eventId() > lastEventId)
+                    .toList());
+        }
+
+        private void markRemoved(BufferedEvent event) {
+            event.removed = true;
+            coveredFrom = Math.max(coveredFrom, event.event.eventId() + 1);
+        }
     }
 }
@@ -0,0 +1,14 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.goormi.routine.domain.notification.dto.NotificationPurgeResult;
+
+import java.time.LocalDateTime;
+
+public interface NotificationRetentionService {
+
+    // 보관 정책에 따라 오래된 알림을 정리 (스케줄러)
+    void purgeExpiredNotifications();
+
+    // readCutoff 이전의 읽은 알림과 expireCutoff 이전의 모든 알림을 id 순 배치로 삭제 (이전 실행의 체크포인트부터 이어서 읽음)
+    NotificationPurgeResult purge(LocalDateTime readCutoff, LocalDateTime expireCutoff);
+}
@@ -0,0 +1,234 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.common.scheduler.repository.SchedulerRedisRepository;
+import com.goormi.routine.config.SchedulerConfig;
+import com.goormi.routine.domain.notification.dto.NotificationArchiveRecord;
+import com.goormi.routine.domain.notification.dto.NotificationPurgeResult;
+import com.goormi.routine.domain.notification.repository.NotificationArchiveStore;
+import com.goormi.routine.domain.notification.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 알림 보관 정책: 읽은 알림은 read-days, 모든 알림은 max-days 가 지나면 삭제한다.
+ * id 오름차순으로 한 배치씩 읽고 해당 배치의 대상만 PK 로 삭제해, 트랜잭션과 락 범위를 배치 크기로 제한한다.
+ * 알림 id 는 생성 순서이므로 read-days 보다 최근 알림을 만나면 그 뒤로는 대상이 없어 스캔을 멈춘다.
+ * 한 번의 실행은 max-rows-per-run 건까지만 읽고, 다 읽지 못하면 마지막 id 를 체크포인트로 남겨 다음 실행이 이어서 읽는다.
+ * 최근 알림에 도달해 한 바퀴를 마치면 체크포인트를 지워, 그동안 읽음 처리되거나 만료된 앞쪽 알림을 다음 실행에서 다시 본다.
+ */
+@Slf4j
+@Service
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private static final String SCHEDULER_NAME = "notification_retention";
+    private static final long LOCK_EXPIRE_SECONDS = 60 * 60;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveStore notificationArchiveStore;
+    private final SchedulerRedisRepository schedulerRedisRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter readPurgedCounter;
+    private final Counter expiredPurgedCounter;
+
+    @Value("${notification.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${notification.retention.read-days:90}")
+    private int readRetentionDays;
+
+    @Value("${notification.retention.max-days:365}")
+    private int maxRetentionDays;
+
+    @Value("${notification.retention.batch-size:500}")
+    private int batchSize;
+
+    @Value("${notification.retention.batch-pause-ms:50}")
+    private long batchPauseMillis;
+
+    @Value("${notification.retention.max-rows-per-run:1000000}")
+    private long maxRowsPerRun;
+
+    @Value("${notification.retention.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    public NotificationRetentionServiceImpl(NotificationRepository notificationRepository,
+                                            NotificationArchiveStore notificationArchiveStore,
+                                            SchedulerRedisRepository schedulerRedisRepository,
+                                            ApplicationEventPublisher applicationEventPublisher,
+                                            ObjectMapper objectMapper,
+                                            TransactionTemplate transactionTemplate,
+                                            MeterRegistry meterRegistry) {
+        this.notificationRepository = notificationRepository;
+        this.notificationArchiveStore = notificationArchiveStore;
+        this.schedulerRedisRepository = schedulerRedisRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.readPurgedCounter = Counter.builder("notification.retention.purged")
+                .tag("rule", "read")
+                .register(meterRegistry);
+        this.expiredPurgedCounter = Counter.builder("notification.retention.purged")
+                .tag("rule", "expired")
+                .register(meterRegistry);
+    }
+
+    // 매일 04:30 보관 기간이 지난 알림 정리
+    @Override
+    @Scheduled(cron = "${notification.retention.cron:0 30 4 * * ?}", zone = "Asia/Seoul",
+            scheduler = SchedulerConfig.BATCH_SCHEDULER)
+    public void purgeExpiredNotifications() {
+        if (!enabled || !schedulerRedisRepository.tryLock(SCHEDULER_NAME, LOCK_EXPIRE_SECONDS)) {
+            return;
+        }
+
+        try {
+            schedulerRedisRepository.updateSchedulerStatus(SCHEDULER_NAME, "RUNNING", "알림 정리 시작");
+            LocalDateTime now = LocalDateTime.now();
+            NotificationPurgeResult result = purge(now.minusDays(readRetentionDays), now.minusDays(maxRetentionDays));
+
+            String message = String.format("알림 정리 완료: 읽은 알림 %d건, 만료 알림 %d건, 아카이브 %d건, 배치 %d회, 마지막 id=%s",
+                    result.readPurged(), result.expiredPurged(), result.archived(), result.batches(), result.lastScannedId());
+            schedulerRedisRepository.updateSchedulerStatus(SCHEDULER_NAME, "SUCCESS", message);
+            log.info(message);
+        } catch (Exception e) {
+            schedulerRedisRepository.updateSchedulerStatus(SCHEDULER_NAME, "FAILED", "알림 정리 실패: " + e.getMessage());
+            log.error("알림 정리 실패", e);
+        } finally {
+            schedulerRedisRepository.unlock(SCHEDULER_NAME);
+        }
+    }
+
+    @Override
+    public NotificationPurgeResult purge(LocalDateTime readCutoff, LocalDateTime expireCutoff) {
+        String archiveKey = LocalDate.now() + ".ndjson.gz";
+        long readPurged = 0;
+        long expiredPurged = 0;
+        long archived = 0;
+        int batches = 0;
+        long scanned = 0;
+        Long checkpoint = schedulerRedisRepository.getCheckpoint(SCHEDULER_NAME);
+        long lastId = checkpoint != null ? checkpoint : 0L;
+        boolean passCompleted = false;
+
+        while (scanned < maxRowsPerRun) {
+            int limit = (int) Math.min(batchSize, maxRowsPerRun - scanned);
+            List<NotificationArchiveRecord> chunk = notificationRepository.findArchiveRecordsAfter(
+                    lastId, PageRequest.of(0, limit));
+            if (chunk.isEmpty()) {
+                passCompleted = true;
+                break;
+            }
+            scanned += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).id();
+
+            List<NotificationArchiveRecord> targets = new ArrayList<>();
+            boolean reachedRecent = false;
+            for (NotificationArchiveRecord record : chunk) {
+                if (!record.createdAt().isBefore(readCutoff)) {
+                    reachedRecent = true;
+                    break;
+                }
+                if (record.createdAt().isBefore(expireCutoff) || record.isRead()) {
+                    targets.add(record);
+                }
+            }
+
+            if (!targets.isEmpty()) {
+                if (archiveEnabled) {
+                    writeArchive(archiveKey, targets);
+                    archived += targets.size();
+                }
+                deleteChunk(targets);
+                batches++;
+
+                long expired = targets.stream().filter(record -> record.createdAt().isBefore(expireCutoff)).count();
+                expiredPurged += expired;
+                readPurged += targets.size() - expired;
+                expiredPurgedCounter.increment(expired);
+                readPurgedCounter.increment(targets.size() - expired);
+                pauseBetweenBatches();
+            }
+
+            if (reachedRecent || chunk.size() < limit) {
+                passCompleted = true;
+                break;
+            }
+        }
+
+        if (passCompleted) {
+            schedulerRedisRepository.deleteCheckpoint(SCHEDULER_NAME);
+        } else {
+            schedulerRedisRepository.saveCheckpoint(SCHEDULER_NAME, lastId);
+        }
+        return new NotificationPurgeResult(readPurged, expiredPurged, archived, batches, lastId == 0L ? null : lastId);
+    }
+
+    // 읽지 않은 알림이 지워진 수신자는 배지 캐시를 지워 다음 조회 때 DB 기준으로 다시 채운다
+    private void deleteChunk(List<NotificationArchiveRecord> targets) {
+        List<Long> ids = targets.stream().map(NotificationArchiveRecord::id).toList();
+        Set<Long> unreadReceivers = new LinkedHashSet<>();
+        targets.stream()
+                .filter(record -> !record.isRead())
+                .forEach(record -> unreadReceivers.add(record.receiverId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            notificationRepository.deleteAllByIdIn(ids);
+            unreadReceivers.forEach(receiverId -> applicationEventPublisher.publishEvent(
+                    NotificationUnreadCountService.UnreadCountChangedEvent.reset(receiverId)));
+        });
+    }
+
+    // 배치마다 독립된 gzip 멤버로 덧붙이므로 파일 전체를 GZIPInputStream 으로 이어서 읽을 수 있다
+    private void writeArchive(String key, List<NotificationArchiveRecord> records) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (NotificationArchiveRecord record : records) {
+                gzip.write(objectMapper.writeValueAsBytes(record));
+                gzip.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 아카이브 인코딩 실패", e);
+        }
+
+        try {
+            notificationArchiveStore.append(key, bytes.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 아카이브 저장 실패: " + key, e);
+        }
+    }
+
+    // 복제 지연과 락 경합을 줄이기 위해 배치 사이에 잠시 쉰다
+    private void pauseBetweenBatches() {
+        if (batchPauseMillis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(batchPauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("알림 정리가 중단되었습니다", e);
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package com.goormi.routine.domain.notification.service;
 
+import com.goormi.routine.domain.notification.dto.NotificationCursorResponse;
 import com.goormi.routine.domain.notification.dto.NotificationResponse;
 import com.goormi.routine.domain.notification.entity.NotificationType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface NotificationService {
     NotificationResponse createNotification(NotificationType notificationType,
                                             Long senderId, Long receiverId, Long groupId);
 
+    // 여러 수신자에게 일괄 생성한다. 알림 합치기는 적용하지 않는다
+    List<NotificationResponse> createNotifications(NotificationType notificationType,
+                                                   Long senderId, Long groupId, Collection<Long> receiverIds);
+
     Page<NotificationResponse> getNotificationsByReceiver(Long receiverId, Pageable pageable);
 
     Page<NotificationResponse> getNotificationsByNotificationType(Long receiverId, NotificationType notificationType, Pageable pageable);
 
+    NotificationCursorResponse getNotificationsBefore(Long receiverId, NotificationType notificationType, Long beforeId, int size);
+
     void updateIsRead(Long notificationId, Long receiverId, boolean isRead);
+
+    int markAllAsRead(Long receiverId);
 }
@@ -1,27 +1,43 @@
 package com.goormi.routine.domain.notification.service;
 
+import com.goormi.routine.config.NotificationCoalesceProperties;
 import com.goormi.routine.domain.group.entity.Group;
 import com.goormi.routine.domain.group.entity.GroupMember;
 import com.goormi.routine.domain.group.repository.GroupMemberRepository;
 import com.goormi.routine.domain.group.repository.GroupRepository;
+import com.goormi.routine.domain.notification.dto.NotificationCursorResponse;
 import com.goormi.routine.domain.notification.dto.NotificationResponse;
+import com.goormi.routine.domain.notification.dto.NotificationSummary;
 import com.goormi.routine.domain.notification.entity.Notification;
 import com.goormi.routine.domain.notification.entity.NotificationType;
+import com.goormi.routine.domain.notification.repository.NotificationJdbcRepository;
 import com.goormi.routine.domain.notification.repository.NotificationRepository;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -30,7 +46,12 @@ public class NotificationServiceImpl implements NotificationService {
     private final UserRepository userRepository;
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
-    private final SseEmitterService sseEmitterService;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final NotificationCoalesceProperties notificationCoalesceProperties;
+    private final MeterRegistry meterRegistry;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     @Override
     public NotificationResponse createNotification(NotificationType notificationType,
@@ -39,11 +60,9 @@ public class NotificationServiceImpl implements NotificationService {
             User receiver = userRepository.findById(receiverId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-            String currentMonth = LocalDate.now().minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy년 MM월"));
-
             Notification notification = Notification.builder()
                 .notificationType(notificationType)
-                .content(currentMonth + " 월간 회고가 준비되었습니다! 확인해보세요.")
+                .content(buildMonthlyReviewContent())
                 .receiver(receiver)
                 .sender(receiver)
                 .group(null)
@@ -53,7 +72,7 @@ public class NotificationServiceImpl implements NotificationService {
 
             notificationRepository.save(notification);
             NotificationResponse response = NotificationResponse.from(notification);
-            sseEmitterService.sendNotification(receiver, response);
+            applicationEventPublisher.publishEvent(new SseEmitterService.NotificationCreatedEvent(receiver.getId(), response));
             return response;
         }
 
@@ -69,29 +88,17 @@ public class NotificationServiceImpl implements NotificationService {
         GroupMember groupMember = groupMemberRepository.findByGroupAndUser(group, receiver)
                 .orElseThrow(() -> new IllegalArgumentException("GroupMember not found"));
 
-        String content = "";
-
-        if (notificationType == NotificationType.GROUP_JOIN_REQUEST) {
-            content = sender.getNickname() + "님이 "
-                    + group.getGroupName() +"에 그룹 가입 요청을 보냈습니다.";
-        } else if (notificationType == NotificationType.GROUP_MEMBER_ROLE_UPDATED){
-            content = receiver.getNickname() + "님의 "
-                    + group.getGroupName() +"의 멤버 역할이 "
-                    + groupMember.getStatus()+"으로 변경되었습니다.";
-        } else if (notificationType == NotificationType.GROUP_MEMBER_STATUS_UPDATED) {
-            content = receiver.getNickname() + "님의 "
-                    + group.getGroupName() +"의 멤버 상태가 "
-                    + groupMember.getRole()+"으로 변경되었습니다.";
-        } else if (notificationType == NotificationType.GROUP_TODAY_AUTH_COMPLETED) {
-            content = sender.getNickname() + "님이 " + receiver.getNickname() + "님의 "
-                    + group.getGroupName() +"의 그룹 인증을 수락했습니다.";
-        } else if (notificationType == NotificationType.GROUP_TODAY_AUTH_REJECTED) {
-            content = sender.getNickname() + "님이 " + receiver.getNickname() + "님의 "
-                    + group.getGroupName() +"의 그룹 인증을 반려했습니다.";
-        } else if (notificationType == NotificationType.GROUP_TODAY_AUTH_REQUEST) {
-            content = sender.getNickname() + "님이 "
-                    + group.getGroupName() +"의 그룹 인증을 요청했습니다.";
+        Optional<Notification> coalesceTarget = findCoalesceTarget(notificationType, receiver, group);
+        if (coalesceTarget.isPresent()) {
+            // 이미 전달된 읽지 않은 알림에 합치므로 SSE 는 다시 보내지 않고, 읽지 않은 알림 수도 변하지 않는다
+            Notification target = coalesceTarget.get();
+            target.coalesce(sender, buildCoalescedContent(notificationType, sender, receiver, group, groupMember,
+                    target.getAggregateCount()));
+            meterRegistry.counter("notification.coalesced", "type", notificationType.name()).increment();
+            return NotificationResponse.from(target);
         }
+
+        String content = buildContent(notificationType, sender, receiver, group, groupMember);
       
         Notification notification =
                 Notification.createNotification(content, notificationType, sender, receiver, group);
@@ -99,11 +106,82 @@ public class NotificationServiceImpl implements NotificationService {
         Notification saved = notificationRepository.save(notification);
 
         NotificationResponse response = NotificationResponse.from(saved);
-        sseEmitterService.sendNotification(receiver, response);
+        applicationEventPublisher.publishEvent(new SseEmitterService.NotificationCreatedEvent(receiver.getId(), response));
 
         return response;
     }
 
+    /**
+     * 같은 알림을 여러 수신자에게 보낸다. 발신자/그룹/수신자/그룹 멤버는 한 번씩만 조회하고
+     * JDBC 배치로 저장한 뒤, SSE 전달은 커밋 이후 한 번에 넘긴다.
+     * 월간 회고 청크 전송에서 사용한다. 알림 합치기(notification.coalesce.*)는 적용하지 않으므로,
+     * 합치기가 필요한 그룹 알림은 {@link #createNotification} 을 사용한다.
+     */
+    @Override
+    public List<NotificationResponse> createNotifications(NotificationType notificationType,
+                                                          Long senderId, Long groupId, Collection<Long> receiverIds) {
+        List<Long> distinctReceiverIds = receiverIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distinctReceiverIds.isEmpty()) {
+            return List.of();
+        }
+
+        boolean monthlyReview = notificationType == NotificationType.MONTHLY_REVIEW;
+        User sender = monthlyReview ? null : userRepository.findById(senderId)
+                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        Group group = monthlyReview ? null : groupRepository.findById(groupId)
+                .orElseThrow(() -> new IllegalArgumentException("Group not found"));
+
+        Map<Long, User> receivers = userRepository.findAllById(distinctReceiverIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, GroupMember> groupMembers = group == null ? Map.of()
+                : groupMemberRepository.findAllByGroupAndUser_IdIn(group, distinctReceiverIds).stream()
+                        .collect(Collectors.toMap(member -> member.getUser().getId(), Function.identity()));
+
+        String monthlyReviewContent = monthlyReview ? buildMonthlyReviewContent() : null;
+        List<Notification> notifications = new ArrayList<>(distinctReceiverIds.size());
+        for (Long receiverId : distinctReceiverIds) {
+            User receiver = receivers.get(receiverId);
+            if (receiver == null) {
+                log.warn("알림 수신자를 찾을 수 없어 건너뜁니다: receiverId={}", receiverId);
+                continue;
+            }
+            if (monthlyReview) {
+                notifications.add(Notification.createNotification(
+                        monthlyReviewContent, notificationType, receiver, receiver, null));
+                continue;
+            }
+
+            GroupMember groupMember = groupMembers.get(receiverId);
+            if (groupMember == null) {
+                log.warn("그룹 멤버가 아니어서 알림을 건너뜁니다: groupId={}, receiverId={}", groupId, receiverId);
+                continue;
+            }
+            String content = buildContent(notificationType, sender, receiver, group, groupMember);
+            notifications.add(Notification.createNotification(content, notificationType, sender, receiver, group));
+        }
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = notificationJdbcRepository.insertAll(notifications);
+        List<NotificationResponse> responses = new ArrayList<>(notifications.size());
+        List<SseEmitterService.NotificationCreatedEvent> deliveries = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            NotificationResponse response = NotificationResponse.from(notification).toBuilder()
+                    .id(ids.get(i))
+                    .build();
+            responses.add(response);
+            deliveries.add(new SseEmitterService.NotificationCreatedEvent(notification.getReceiver().getId(), response));
+        }
+        applicationEventPublisher.publishEvent(new SseEmitterService.NotificationsCreatedEvent(deliveries));
+
+        return responses;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<NotificationResponse> getNotificationsByReceiver(Long receiverId, Pageable pageable) {
@@ -118,6 +196,34 @@ public class NotificationServiceImpl implements NotificationService {
         return notifications.map(NotificationResponse::from);
     }
 
+    /**
+     * 알림 ID 커서 기반 조회. offset 을 건너뛰지 않고 count 쿼리도 없으며, 다음 페이지 여부는 한 건 더 읽어 판단한다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public NotificationCursorResponse getNotificationsBefore(Long receiverId, NotificationType notificationType,
+                                                             Long beforeId, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        long cursor = beforeId != null ? beforeId : Long.MAX_VALUE;
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+
+        List<NotificationSummary> summaries = notificationType == null
+                ? notificationRepository.findSummariesByReceiverIdBefore(receiverId, cursor, pageRequest)
+                : notificationRepository.findSummariesByReceiverIdAndTypeBefore(receiverId, notificationType, cursor, pageRequest);
+
+        boolean hasNext = summaries.size() > limit;
+        List<NotificationResponse> notifications = summaries.stream()
+                .limit(limit)
+                .map(NotificationResponse::from)
+                .toList();
+        Long nextCursor = hasNext ? notifications.get(notifications.size() - 1).getId() : null;
+
+        return NotificationCursorResponse.builder()
+                .notifications(notifications)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
     public void updateIsRead(Long notificationId, Long receiverId, boolean isRead) {
         User receiver = userRepository.findById(receiverId)
@@ -130,7 +236,80 @@ public class NotificationServiceImpl implements NotificationService {
             throw new IllegalArgumentException("user id not equals to receiver id");
         }
 
+        if (notification.isRead() == isRead) {
+            return;
+        }
         notification.updateIsRead(isRead);
+        applicationEventPublisher.publishEvent(NotificationUnreadCountService.UnreadCountChangedEvent
+                .delta(receiverId, isRead ? -1 : 1));
+    }
+
+    @Override
+    public int markAllAsRead(Long receiverId) {
+        int updated = notificationRepository.markAllAsReadByReceiverId(receiverId);
+        if (updated > 0) {
+            applicationEventPublisher.publishEvent(NotificationUnreadCountService.UnreadCountChangedEvent.reset(receiverId));
+        }
+        return updated;
+    }
+
+    private Optional<Notification> findCoalesceTarget(NotificationType notificationType, User receiver, Group group) {
+        Duration window = notificationCoalesceProperties.windowOf(notificationType);
+        if (window == null) {
+            return Optional.empty();
+        }
+        return notificationRepository.findCoalesceTargets(receiver.getId(), notificationType, group.getGroupId(),
+                        LocalDateTime.now().minus(window), PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
+    }
+
+    // aggregateCount 는 합치기 전 개수다. 같은 사람이 여러 번 요청할 수 있어 인원이 아닌 요청 건수로 표시한다
+    private String buildCoalescedContent(NotificationType notificationType, User sender, User receiver,
+                                         Group group, GroupMember groupMember, int aggregateCount) {
+        int total = aggregateCount + 1;
+        if (notificationType == NotificationType.GROUP_JOIN_REQUEST) {
+            return group.getGroupName() + "에 그룹 가입 요청 " + total + "건이 있습니다. (최근: "
+                    + sender.getNickname() + "님)";
+        } else if (notificationType == NotificationType.GROUP_TODAY_AUTH_REQUEST) {
+            return group.getGroupName() + "의 그룹 인증 요청 " + total + "건이 있습니다. (최근: "
+                    + sender.getNickname() + "님)";
+        }
+        return buildContent(notificationType, sender, receiver, group, groupMember)
+                + " (외 " + aggregateCount + "건)";
+    }
+
+    private String buildMonthlyReviewContent() {
+        String currentMonth = LocalDate.now().minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy년 MM월"));
+        return currentMonth + " 월간 회고가 준비되었습니다! 확인해보세요.";
+    }
+
+    private String buildContent(NotificationType notificationType, User sender, User receiver,
+                                Group group, GroupMember groupMember) {
+        String content = "";
+
+        if (notificationType == NotificationType.GROUP_JOIN_REQUEST) {
+            content = sender.getNickname() + "님이 "
+                    + group.getGroupName() +"에 그룹 가입 요청을 보냈습니다.";
+        } else if (notificationType == NotificationType.GROUP_MEMBER_ROLE_UPDATED){
+            content = receiver.getNickname() + "님의 "
+                    + group.getGroupName() +"의 멤버 역할이 "
+                    + groupMember.getStatus()+"으로 변경되었습니다.";
+        } else if (notificationType == NotificationType.GROUP_MEMBER_STATUS_UPDATED) {
+            content = receiver.getNickname() + "님의 "
+                    + group.getGroupName() +"의 멤버 상태가 "
+                    + groupMember.getRole()+"으로 변경되었습니다.";
+        } else if (notificationType == NotificationType.GROUP_TODAY_AUTH_COMPLETED) {
+            content = sender.getNickname() + "님이 " + receiver.getNickname() + "님의 "
+                    + group.getGroupName() +"의 그룹 인증을 수락했습니다.";
+        } else if (notificationType == NotificationType.GROUP_TODAY_AUTH_REJECTED) {
+            content = sender.getNickname() + "님이 " + receiver.getNickname() + "님의 "
+                    + group.getGroupName() +"의 그룹 인증을 반려했습니다.";
+        } else if (notificationType == NotificationType.GROUP_TODAY_AUTH_REQUEST) {
+            content = sender.getNickname() + "님이 "
+                    + group.getGroupName() +"의 그룹 인증을 요청했습니다.";
+        }
+        return content;
     }
 
     private String extractMonthFromContent(String content) {
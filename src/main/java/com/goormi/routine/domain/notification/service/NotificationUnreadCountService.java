@@ -0,0 +1,51 @@
+package com.goormi.routine.domain.notification.service;
+
+import java.util.List;
+
+public interface NotificationUnreadCountService {
+    long getUnreadCount(Long userId);
+
+    /**
+     * 캐시된 값이 있을 때만 1 올린다.
+     * @return 변경된 값, 캐시가 없거나 Redis 오류면 null
+     */
+    Long incrementIfCached(Long userId);
+
+    /**
+     * @return 입력 순서대로 변경된 값, 캐시가 없던 사용자는 null
+     */
+    List<Long> incrementAllIfCached(List<Long> userIds);
+
+    // 읽음 상태 변경이 커밋된 뒤 캐시에 반영하기 위한 이벤트. reset 이면 캐시를 지우고 다음 조회 때 DB 에서 다시 채운다
+    class UnreadCountChangedEvent {
+        private final Long userId;
+        private final long delta;
+        private final boolean reset;
+
+        private UnreadCountChangedEvent(Long userId, long delta, boolean reset) {
+            this.userId = userId;
+            this.delta = delta;
+            this.reset = reset;
+        }
+
+        public static UnreadCountChangedEvent delta(Long userId, long delta) {
+            return new UnreadCountChangedEvent(userId, delta, false);
+        }
+
+        public static UnreadCountChangedEvent reset(Long userId) {
+            return new UnreadCountChangedEvent(userId, 0, true);
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public long getDelta() {
+            return delta;
+        }
+
+        public boolean isReset() {
+            return reset;
+        }
+    }
+}
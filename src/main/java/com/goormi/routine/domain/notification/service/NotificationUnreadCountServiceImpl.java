@@ -0,0 +1,119 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.goormi.routine.domain.notification.repository.NotificationRepository;
+import com.goormi.routine.domain.notification.repository.NotificationUnreadRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배지용 읽지 않은 알림 수. Redis 값을 먼저 보고, 없으면 DB 에서 세어 TTL 과 함께 채운다.
+ * 생성/읽음 시 증감은 캐시가 있을 때만 반영하고, TTL 이 지나면 다음 조회에서 DB 기준으로 다시 맞춰진다.
+ */
+@Slf4j
+@Service
+public class NotificationUnreadCountServiceImpl implements NotificationUnreadCountService {
+
+    private final NotificationUnreadRedisRepository notificationUnreadRedisRepository;
+    private final NotificationRepository notificationRepository;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    @Value("${notification.unread.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    public NotificationUnreadCountServiceImpl(NotificationUnreadRedisRepository notificationUnreadRedisRepository,
+                                              NotificationRepository notificationRepository,
+                                              MeterRegistry meterRegistry) {
+        this.notificationUnreadRedisRepository = notificationUnreadRedisRepository;
+        this.notificationRepository = notificationRepository;
+        this.cacheHits = Counter.builder("notification.unread.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("notification.unread.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        try {
+            Long cached = notificationUnreadRedisRepository.find(userId);
+            if (cached != null) {
+                cacheHits.increment();
+                return cached;
+            }
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 수 Redis 조회 실패, DB 에서 조회합니다: userId={}", userId, e);
+            return notificationRepository.countByReceiver_IdAndIsReadFalse(userId);
+        }
+
+        cacheMisses.increment();
+        long count = notificationRepository.countByReceiver_IdAndIsReadFalse(userId);
+        try {
+            // 세는 사이에 다른 요청이 먼저 채웠다면 그 값을 유지한다
+            notificationUnreadRedisRepository.saveIfAbsent(userId, count, Duration.ofSeconds(ttlSeconds));
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 수 Redis 저장 실패: userId={}", userId, e);
+        }
+        return count;
+    }
+
+    @Override
+    public Long incrementIfCached(Long userId) {
+        try {
+            return notificationUnreadRedisRepository.addIfPresent(userId, 1);
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 수 증가 실패: userId={}", userId, e);
+            evictQuietly(userId);
+            return null;
+        }
+    }
+
+    @Override
+    public List<Long> incrementAllIfCached(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return notificationUnreadRedisRepository.incrementAllIfPresent(userIds);
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 수 일괄 증가 실패: count={}", userIds.size(), e);
+            userIds.forEach(this::evictQuietly);
+            List<Long> unknown = new ArrayList<>(userIds.size());
+            userIds.forEach(userId -> unknown.add(null));
+            return unknown;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleUnreadCountChanged(UnreadCountChangedEvent event) {
+        if (event.isReset()) {
+            evictQuietly(event.getUserId());
+            return;
+        }
+        try {
+            notificationUnreadRedisRepository.addIfPresent(event.getUserId(), event.getDelta());
+        } catch (RuntimeException e) {
+            log.warn("읽지 않은 알림 수 갱신 실패: userId={}", event.getUserId(), e);
+            evictQuietly(event.getUserId());
+        }
+    }
+
+    // 반영하지 못한 변경이 남지 않도록 캐시를 지워 다음 조회에서 DB 기준으로 다시 채우게 한다
+    private void evictQuietly(Long userId) {
+        try {
+            notificationUnreadRedisRepository.delete(userId);
+        } catch (RuntimeException e) {
+            log.debug("읽지 않은 알림 수 캐시 삭제 실패: userId={}", userId);
+        }
+    }
+}
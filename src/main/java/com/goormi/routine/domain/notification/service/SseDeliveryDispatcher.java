@@ -0,0 +1,96 @@
+package com.goormi.routine.domain.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 전송 전용 실행기. 사용자 ID로 레인을 고정해 한 사용자의 이벤트 순서를 보장하고,
+ * 레인마다 대기열 크기를 제한해 느린 클라이언트가 요청 스레드나 Redis 리스너 스레드를 붙잡지 않도록 한다.
+ */
+@Slf4j
+@Component
+public class SseDeliveryDispatcher {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    @Value("${sse.delivery.lanes:8}")
+    private int laneCount;
+
+    @Value("${sse.delivery.lane-queue-capacity:1000}")
+    private int laneQueueCapacity;
+
+    private ThreadPoolExecutor[] lanes;
+
+    public SseDeliveryDispatcher(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.rejectedCounter = Counter.builder("sse.delivery.rejected")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            String threadName = "sse-delivery-" + i;
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(laneQueueCapacity),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+        }
+        Gauge.builder("sse.delivery.queue.depth", this, SseDeliveryDispatcher::getQueueDepth)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 레인 대기열이 가득 차 작업을 버렸으면 false
+     */
+    public boolean dispatch(Long userId, Runnable task) {
+        try {
+            lanes[Math.floorMod(userId.hashCode(), lanes.length)].execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.debug("SSE 전송 대기열 초과로 작업을 버립니다: userId={}", userId);
+            return false;
+        }
+    }
+
+    public int getQueueDepth() {
+        int depth = 0;
+        for (ThreadPoolExecutor lane : lanes) {
+            depth += lane.getQueue().size();
+        }
+        return depth;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(5, TimeUnit.SECONDS)) {
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,11 +1,46 @@
 package com.goormi.routine.domain.notification.service;
 
 import com.goormi.routine.domain.notification.dto.NotificationResponse;
-import com.goormi.routine.domain.user.entity.User;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+
 public interface SseEmitterService {
-    SseEmitter subscribe(Long userId, String lastEmitterId);
+    SseEmitter subscribe(Long userId, String lastEventId);
     void sendToClient(Long userId, Object data);
-    void sendNotification(User receiver, NotificationResponse notificationResponse);
+    void sendToLocalEmitters(Long userId, Long eventId, Object data);
+    void sendNotification(Long receiverId, NotificationResponse notificationResponse);
+    void sendNotifications(List<NotificationCreatedEvent> notifications);
+
+    // 알림 저장 트랜잭션이 커밋된 뒤 SSE 로 전달하기 위한 이벤트
+    class NotificationCreatedEvent {
+        private final Long receiverId;
+        private final NotificationResponse notification;
+
+        public NotificationCreatedEvent(Long receiverId, NotificationResponse notification) {
+            this.receiverId = receiverId;
+            this.notification = notification;
+        }
+
+        public Long getReceiverId() {
+            return receiverId;
+        }
+
+        public NotificationResponse getNotification() {
+            return notification;
+        }
+    }
+
+    // 대량 알림 저장 후 SSE 전달을 한 번에 넘기기 위한 이벤트
+    class NotificationsCreatedEvent {
+        private final List<NotificationCreatedEvent> notifications;
+
+        public NotificationsCreatedEvent(List<NotificationCreatedEvent> notifications) {
+            this.notifications = notifications;
+        }
+
+        public List<NotificationCreatedEvent> getNotifications() {
+            return notifications;
+        }
+    }
 }
@@ -1,40 +1,107 @@
 package com.goormi.routine.domain.notification.service;
 
 import com.goormi.routine.domain.notification.dto.NotificationResponse;
+import com.goormi.routine.domain.notification.dto.SseCachedEvent;
+import com.goormi.routine.domain.notification.repository.NotificationRepository;
 import com.goormi.routine.domain.notification.repository.SseEmitterRepository;
-import com.goormi.routine.domain.user.entity.User;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SseEmitterServiceImpl implements SseEmitterService {
 
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
+    private static final long HEARTBEAT_TICK_MILLIS = 1000;
 
     private final SseEmitterRepository sseEmitterRepository;
+    private final NotificationRepository notificationRepository;
+    private final SseNotificationPublisher sseNotificationPublisher;
+    private final SseDeliveryDispatcher sseDeliveryDispatcher;
+    private final NotificationUnreadCountService notificationUnreadCountService;
+    private final Counter replayFromBuffer;
+    private final Counter replayFromDatabase;
+    private final Timer sendTimer;
+    private final Counter eventSendFailures;
+    private final Counter heartbeatSendFailures;
+    private final Counter heartbeatSkipped;
+    private final AtomicLong heartbeatTick = new AtomicLong();
+    // 재전송한 알림 ID. 재전송 조회와 실시간 전송에 모두 걸린 알림을 emitter 별로 한 번만 보내기 위해 사용
+    private final Map<String, Set<Long>> replayedEventIds = new ConcurrentHashMap<>();
+
+    @Value("${sse.replay.fallback-limit:100}")
+    private int replayFallbackLimit;
+
+    @Value("${sse.heartbeat.interval-ms:10000}")
+    private long heartbeatIntervalMillis;
+
+    public SseEmitterServiceImpl(SseEmitterRepository sseEmitterRepository,
+                                 NotificationRepository notificationRepository,
+                                 SseNotificationPublisher sseNotificationPublisher,
+                                 SseDeliveryDispatcher sseDeliveryDispatcher,
+                                 NotificationUnreadCountService notificationUnreadCountService,
+                                 MeterRegistry meterRegistry) {
+        this.sseEmitterRepository = sseEmitterRepository;
+        this.notificationRepository = notificationRepository;
+        this.sseNotificationPublisher = sseNotificationPublisher;
+        this.sseDeliveryDispatcher = sseDeliveryDispatcher;
+        this.notificationUnreadCountService = notificationUnreadCountService;
+        this.replayFromBuffer = Counter.builder("sse.replay.requests")
+                .tag("source", "buffer")
+                .register(meterRegistry);
+        this.replayFromDatabase = Counter.builder("sse.replay.requests")
+                .tag("source", "database")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("sse.send.latency")
+                .register(meterRegistry);
+        this.eventSendFailures = Counter.builder("sse.send.failures")
+                .tag("type", "event")
+                .register(meterRegistry);
+        this.heartbeatSendFailures = Counter.builder("sse.send.failures")
+                .tag("type", "heartbeat")
+                .register(meterRegistry);
+        this.heartbeatSkipped = Counter.builder("sse.heartbeat.skipped")
+                .register(meterRegistry);
+    }
 
     @Override
-    public SseEmitter subscribe(Long userId, String lastEmitterId) {
+    public SseEmitter subscribe(Long userId, String lastEventId) {
         String emitterId = makeTimeIncludeId(userId);
-        SseEmitter emitter = sseEmitterRepository.save(emitterId, new SseEmitter(DEFAULT_TIMEOUT));
+        SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
 
-        emitter.onCompletion(() -> sseEmitterRepository.deleteById(emitterId));
-        emitter.onTimeout(() -> sseEmitterRepository.deleteById(emitterId));
+        emitter.onCompletion(() -> removeEmitter(userId, emitterId, emitter));
+        emitter.onTimeout(() -> removeEmitter(userId, emitterId, emitter));
+        emitter.onError(throwable -> removeEmitter(userId, emitterId, emitter));
 
-        // 503 에러를 방지하고, 최초 연결 시 식별자를 보내기 위한 더미 이벤트 전송
-        sendToClient(emitter, emitterId, "EventStream Created. [userId=" + userId + "]");
+        // 503 에러를 방지하기 위한 더미 이벤트 전송
+        // id 를 붙이지 않아 클라이언트가 마지막으로 받은 알림 ID(Last-Event-ID)를 유지하도록 함
+        sendToClient(userId, emitter, emitterId, null, "EventStream Created. [userId=" + userId + "]");
 
         // 클라이언트가 미수신한 Event 목록이 존재할 경우 전송하여 Event 유실을 예방
-        if (hasLostData(lastEmitterId)) {
-            sendLostData(lastEmitterId, userId, emitter);
+        Long lastReceivedId = parseLastEventId(lastEventId);
+        if (lastReceivedId == null) {
+            sseEmitterRepository.save(userId, emitterId, emitter);
+        } else {
+            subscribeWithReplay(userId, lastReceivedId, emitter, emitterId);
         }
 
         return emitter;
@@ -42,63 +109,222 @@ public class SseEmitterServiceImpl implements SseEmitterService {
 
     @Override
     public void sendToClient(Long userId, Object data) {
-        String eventId = makeTimeIncludeId(userId);
-        Map<String, SseEmitter> emitters = sseEmitterRepository.findAllEmitterStartWithByMemberId(String.valueOf(userId));
-        emitters.forEach(
-                (emitterId, emitter) -> {
-                    sseEmitterRepository.saveEventCache(emitterId, data);
-                    sendToClient(emitter, emitterId, data);
-                }
-        );
+        Long eventId = data instanceof NotificationResponse notification ? notification.getId() : null;
+        sendToLocalEmitters(userId, eventId, data);
+    }
+
+    /**
+     * 이 노드에 연결된 emitter 로 전달한다. 재연결이 어느 노드로 가더라도 재전송할 수 있도록
+     * 로컬 연결이 없어도 재전송 버퍼에는 저장한다.
+     * 실제 전송은 사용자별 레인에서 비동기로 수행하므로 호출 스레드(Redis 리스너)는 막히지 않는다.
+     */
+    @Override
+    public void sendToLocalEmitters(Long userId, Long eventId, Object data) {
+        if (eventId != null) {
+            sseEmitterRepository.saveEvent(userId, eventId, data);
+        }
+
+        Map<String, SseEmitter> emitters = sseEmitterRepository.findAllByUserId(userId);
+        if (emitters.isEmpty()) {
+            return;
+        }
+        boolean dispatched = sseDeliveryDispatcher.dispatch(userId, () -> emitters.forEach((emitterId, emitter) -> {
+            if (!isReplayed(emitterId, eventId)) {
+                sendToClient(userId, emitter, emitterId, eventId, data);
+            }
+        }));
+        if (!dispatched) {
+            // 버퍼에는 남아 있으므로 클라이언트가 재연결하면 Last-Event-ID 로 복구된다
+            eventSendFailures.increment(emitters.size());
+        }
     }
 
+    // 수신자의 연결이 어느 노드에 있든 전달되도록 Redis 로 발행하고, Redis 장애 시에는 이 노드에서만 전달
     @Override
-    public void sendNotification(User receiver, NotificationResponse notificationResponse) {
-        sendToClient(receiver.getId(), notificationResponse);
+    public void sendNotification(Long receiverId, NotificationResponse notificationResponse) {
+        try {
+            sseNotificationPublisher.publish(receiverId, notificationResponse);
+        } catch (RuntimeException e) {
+            log.warn("SSE 알림 Redis 발행 실패, 로컬 연결로만 전달합니다: userId={}", receiverId, e);
+            sendToClient(receiverId, notificationResponse);
+        }
+    }
+
+    @Override
+    public void sendNotifications(List<NotificationCreatedEvent> notifications) {
+        try {
+            sseNotificationPublisher.publishAll(notifications);
+        } catch (RuntimeException e) {
+            log.warn("SSE 알림 Redis 일괄 발행 실패, 로컬 연결로만 전달합니다: count={}", notifications.size(), e);
+            notifications.forEach(notification -> sendToClient(notification.getReceiverId(), notification.getNotification()));
+        }
+    }
+
+    // 커밋된 알림만 전달하고, 전송 지연이 알림 트랜잭션의 DB 커넥션을 붙잡지 않도록 커밋 이후에 발행
+    // 읽지 않은 알림 수도 커밋 이후에 올려, 롤백된 알림이 배지에 반영되지 않도록 한다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNotificationCreated(NotificationCreatedEvent event) {
+        Long unreadCount = notificationUnreadCountService.incrementIfCached(event.getReceiverId());
+        sendNotification(event.getReceiverId(), withUnreadCount(event.getNotification(), unreadCount));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleNotificationsCreated(NotificationsCreatedEvent event) {
+        List<NotificationCreatedEvent> notifications = event.getNotifications();
+        List<Long> unreadCounts = notificationUnreadCountService.incrementAllIfCached(
+                notifications.stream().map(NotificationCreatedEvent::getReceiverId).toList());
+
+        List<NotificationCreatedEvent> withCounts = new ArrayList<>(notifications.size());
+        for (int i = 0; i < notifications.size(); i++) {
+            NotificationCreatedEvent notification = notifications.get(i);
+            withCounts.add(new NotificationCreatedEvent(notification.getReceiverId(),
+                    withUnreadCount(notification.getNotification(), unreadCounts.get(i))));
+        }
+        sendNotifications(withCounts);
+    }
+
+    private NotificationResponse withUnreadCount(NotificationResponse notification, Long unreadCount) {
+        if (unreadCount == null) {
+            return notification;
+        }
+        return notification.toBuilder()
+                .unreadCount(unreadCount)
+                .build();
     }
 
     private String makeTimeIncludeId(Long userId) {
         return userId + "_" + System.currentTimeMillis();
     }
 
-    // emitterId는 Emitter를 식별하는 고유 ID, eventId는 전송되는 이벤트의 식별자 역할을 하지만, 
-    // 여기서는 emitterId를 eventId로 사용하여 클라이언트가 마지막 수신한 Emitter를 식별하도록 함
-    private void sendToClient(SseEmitter emitter, String emitterId, Object data) {
+    // emitterId는 Emitter를 식별하는 고유 ID, eventId는 알림 ID로 클라이언트의 Last-Event-ID 가 된다
+    private void sendToClient(Long userId, SseEmitter emitter, String emitterId, Long eventId, Object data) {
+        long start = System.nanoTime();
         try {
-            emitter.send(SseEmitter.event()
-                    .id(emitterId)
+            SseEmitter.SseEventBuilder event = SseEmitter.event()
                     .name("sse")
-                    .data(data));
-        } catch (IOException exception) {
-            sseEmitterRepository.deleteById(emitterId);
+                    .data(data);
+            if (eventId != null) {
+                event.id(String.valueOf(eventId));
+            }
+            emitter.send(event);
+        } catch (IOException | IllegalStateException exception) {
+            eventSendFailures.increment();
+            removeEmitter(userId, emitterId, emitter);
             log.error("SSE 연결 오류!", exception);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            // 이전 형식(userId_timestamp)의 ID는 알림 ID로 변환할 수 없어 재전송하지 않음
+            log.debug("알 수 없는 Last-Event-ID 형식: {}", lastEventId);
+            return null;
         }
     }
 
-    private boolean hasLostData(String lastEmitterId) {
-        return !lastEmitterId.isEmpty();
+    /**
+     * emitter 등록과 재전송 대상 조회를 사용자 레인 안에서 이어서 수행한다.
+     * 등록 이후에 이 emitter 를 본 실시간 전송은 같은 레인에서 이 작업 뒤에 실행되므로 재전송보다 앞서 나가지 않고,
+     * 등록 이전에 저장된 이벤트는 조회 결과에 포함된다. 양쪽에 모두 걸린 이벤트는 재전송한 ID 로 걸러 중복 전송을 막는다.
+     */
+    private void subscribeWithReplay(Long userId, Long lastEventId, SseEmitter emitter, String emitterId) {
+        boolean dispatched = sseDeliveryDispatcher.dispatch(userId, () -> {
+            sseEmitterRepository.save(userId, emitterId, emitter);
+            sendLostData(userId, lastEventId, emitter, emitterId);
+        });
+        if (!dispatched) {
+            // 레인이 가득 차 재전송 순서를 보장할 수 없으면 연결을 닫아 클라이언트가 Last-Event-ID 로 다시 붙도록 한다
+            eventSendFailures.increment();
+            emitter.complete();
+        }
     }
 
-    private void sendLostData(String lastEmitterId, Long userId, SseEmitter emitter) {
-        Map<String, Object> events = sseEmitterRepository.findAllEventCacheStartWithByMemberId(String.valueOf(userId));
-        events.entrySet().stream()
-                .filter(entry -> lastEmitterId.compareTo(entry.getKey()) < 0)
-                .forEach(entry -> sendToClient(emitter, entry.getKey(), entry.getValue()));
+    /**
+     * 버퍼가 lastEventId 이후 이벤트를 모두 갖고 있으면 버퍼에서, 아니면 DB에서 알림 ID 기준으로 재전송한다.
+     * 사용자 레인에서만 호출된다.
+     */
+    private void sendLostData(Long userId, Long lastEventId, SseEmitter emitter, String emitterId) {
+        List<SseCachedEvent> lostEvents;
+        Optional<List<SseCachedEvent>> buffered = sseEmitterRepository.findEventsAfter(userId, lastEventId);
+        if (buffered.isPresent()) {
+            replayFromBuffer.increment();
+            lostEvents = buffered.get();
+        } else {
+            replayFromDatabase.increment();
+            lostEvents = notificationRepository.findByReceiver_IdAndIdGreaterThanOrderByIdAsc(
+                            userId, lastEventId, PageRequest.of(0, replayFallbackLimit))
+                    .stream()
+                    .map(NotificationResponse::from)
+                    .map(response -> new SseCachedEvent(response.getId(), response))
+                    .toList();
+        }
+
+        if (lostEvents.isEmpty()) {
+            return;
+        }
+        Set<Long> replayed = ConcurrentHashMap.newKeySet();
+        lostEvents.forEach(event -> replayed.add(event.eventId()));
+        replayedEventIds.put(emitterId, replayed);
+        lostEvents.forEach(event -> sendToClient(userId, emitter, emitterId, event.eventId(), event.data()));
     }
 
-    @Scheduled(fixedRate = 10000)
+    private boolean isReplayed(String emitterId, Long eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        Set<Long> replayed = replayedEventIds.get(emitterId);
+        return replayed != null && replayed.contains(eventId);
+    }
+
+    private void removeEmitter(Long userId, String emitterId, SseEmitter emitter) {
+        sseEmitterRepository.deleteById(userId, emitterId, emitter);
+        replayedEventIds.remove(emitterId);
+    }
+
+    @Scheduled(fixedRate = 60000)
+    public void evictExpiredEvents() {
+        sseEmitterRepository.evictExpiredEvents();
+    }
+
+    /**
+     * 하트비트 주기를 1초 슬롯으로 나눠 매 틱마다 한 슬롯의 사용자에게만 보낸다.
+     * 실제 전송은 사용자 레인에서 수행해 스케줄러 스레드가 느린 클라이언트에 묶이지 않도록 한다.
+     */
+    @Scheduled(fixedRate = HEARTBEAT_TICK_MILLIS)
     public void sendHeartbeat() {
-        final Map<String, SseEmitter> emitters = sseEmitterRepository.findAllEmitters();
-        emitters.forEach((emitterId, emitter) -> {
-            try {
-                emitter.send(SseEmitter.event()
-                        .name("heartbeat")
-                        .data("ping"));
-                log.debug("Heartbeat sent to emitter: {}", emitterId);
-            } catch (IOException e) {
-                sseEmitterRepository.deleteById(emitterId);
-                log.error("Failed to send heartbeat to emitter: {}", emitterId, e);
+        int slots = (int) Math.max(1, heartbeatIntervalMillis / HEARTBEAT_TICK_MILLIS);
+        int slot = (int) (heartbeatTick.getAndIncrement() % slots);
+
+        final Map<Long, Map<String, SseEmitter>> emittersByUser = sseEmitterRepository.findAllEmitters();
+        emittersByUser.forEach((userId, emitters) -> {
+            if (Math.floorMod(userId.hashCode(), slots) != slot) {
+                return;
+            }
+            boolean dispatched = sseDeliveryDispatcher.dispatch(userId,
+                    () -> emitters.forEach((emitterId, emitter) -> sendHeartbeat(userId, emitterId, emitter)));
+            if (!dispatched) {
+                heartbeatSkipped.increment();
             }
         });
     }
+
+    private void sendHeartbeat(Long userId, String emitterId, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .name("heartbeat")
+                    .data("ping"));
+            log.debug("Heartbeat sent to emitter: {}", emitterId);
+        } catch (IOException | IllegalStateException e) {
+            heartbeatSendFailures.increment();
+            removeEmitter(userId, emitterId, emitter);
+            log.error("Failed to send heartbeat to emitter: {}", emitterId, e);
+        }
+    }
 }
@@ -0,0 +1,63 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.domain.notification.dto.NotificationResponse;
+import com.goormi.routine.domain.notification.dto.SseNotificationEnvelope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 알림을 Redis 채널로 발행해 수신자의 SSE 연결을 가진 노드가 전달하도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseNotificationPublisher {
+
+    private final RedisTemplate<String, byte[]> chatFanoutRedisTemplate;
+    private final ChannelTopic notificationSseTopic;
+    private final ObjectMapper objectMapper;
+
+    public void publish(Long userId, NotificationResponse notification) {
+        try {
+            byte[] encoded = SseNotificationEnvelope.encode(objectMapper, userId, notification);
+            chatFanoutRedisTemplate.convertAndSend(notificationSseTopic.getTopic(), encoded);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 알림 직렬화 실패: userId={}, notificationId={}", userId, notification.getId(), e);
+            throw new IllegalStateException("SSE 알림 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 여러 알림을 파이프라인으로 한 번에 발행한다.
+     */
+    public void publishAll(List<SseEmitterService.NotificationCreatedEvent> notifications) {
+        List<byte[]> encoded = new ArrayList<>(notifications.size());
+        for (SseEmitterService.NotificationCreatedEvent notification : notifications) {
+            try {
+                encoded.add(SseNotificationEnvelope.encode(
+                        objectMapper, notification.getReceiverId(), notification.getNotification()));
+            } catch (JsonProcessingException e) {
+                log.error("SSE 알림 직렬화 실패: userId={}, notificationId={}",
+                        notification.getReceiverId(), notification.getNotification().getId(), e);
+            }
+        }
+
+        byte[] channel = notificationSseTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+        chatFanoutRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] message : encoded) {
+                connection.publish(channel, message);
+            }
+            return null;
+        });
+    }
+}
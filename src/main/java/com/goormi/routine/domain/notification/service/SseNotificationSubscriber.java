@@ -0,0 +1,29 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.goormi.routine.domain.notification.dto.SseNotificationEnvelope;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 모든 노드가 알림 채널을 구독하고, 이 노드에 연결된 수신자의 emitter 로만 전달한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SseNotificationSubscriber implements MessageListener {
+
+    private final SseEmitterService sseEmitterService;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            SseNotificationEnvelope envelope = SseNotificationEnvelope.decode(message.getBody());
+            sseEmitterService.sendToLocalEmitters(envelope.getUserId(), envelope.getEventId(), envelope.getPayload());
+        } catch (Exception e) {
+            log.error("SSE 알림 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.goormi.routine.domain.review.repository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 월간 회고 재전송 작업 큐 (Redis Sorted Set)
+ * 대기 큐는 다음 시도 시각, 임대 큐는 임대 만료 시각을 점수로 가진다. 작업을 가져갈 때 임대 큐로 옮기고,
+ * 만료될 때까지 완료/재예약하지 않으면 다음 임대 시 대기 큐로 되돌려 다른 인스턴스가 다시 처리한다.
+ * 한 달치 키는 같은 해시 태그를 써서 스크립트가 한 슬롯 안에서만 동작한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewJobQueueRedisRepository {
+
+	private final StringRedisTemplate redisTemplate;
+
+	private static final String JOB_PREFIX = "review:job:";
+	private static final String MONTHS_KEY = "review:job:months";
+
+	// 이미 대기/임대 중인 작업이면 시도 횟수를 건드리지 않는다
+	private static final String ENQUEUE_SCRIPT =
+		"if redis.call('ZSCORE', KEYS[1], ARGV[1]) or redis.call('ZSCORE', KEYS[2], ARGV[1]) then return 0 end " +
+		"redis.call('ZREM', KEYS[5], ARGV[1]) " +
+		"redis.call('HSET', KEYS[3], ARGV[1], 1) " +
+		"redis.call('HSET', KEYS[4], ARGV[1], ARGV[3]) " +
+		"redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+		"for i = 1, 5 do redis.call('EXPIRE', KEYS[i], ARGV[4]) end " +
+		"return 1";
+
+	// 만료된 임대를 대기 큐로 되돌린 뒤, 시각이 된 작업을 임대 큐로 옮기고 시도 횟수를 올린다
+	private static final String LEASE_SCRIPT =
+		"local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1]) " +
+		"for _, member in ipairs(expired) do " +
+		"  redis.call('ZREM', KEYS[2], member) " +
+		"  redis.call('ZADD', KEYS[1], ARGV[1], member) " +
+		"end " +
+		"local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[3]) " +
+		"local result = {} " +
+		"for _, member in ipairs(due) do " +
+		"  redis.call('ZREM', KEYS[1], member) " +
+		"  redis.call('ZADD', KEYS[2], ARGV[2], member) " +
+		"  table.insert(result, member) " +
+		"  table.insert(result, tostring(redis.call('HINCRBY', KEYS[3], member, 1))) " +
+		"end " +
+		"return result";
+
+	// 임대가 만료되어 다른 작업자가 다시 가져간 작업은 건드리지 않는다 (임대 만료 시각이 곧 임대 토큰)
+	private static final String LEASE_CHECK =
+		"local score = redis.call('ZSCORE', KEYS[1], ARGV[1]) " +
+		"if not score or tonumber(score) ~= tonumber(ARGV[2]) then return 0 end " +
+		"redis.call('ZREM', KEYS[1], ARGV[1]) ";
+
+	private static final String COMPLETE_SCRIPT = LEASE_CHECK +
+		"redis.call('HDEL', KEYS[2], ARGV[1]) " +
+		"redis.call('HDEL', KEYS[3], ARGV[1]) " +
+		"return 1";
+
+	// KEYS[2] 는 재예약이면 대기 큐, 실패 확정이면 실패 큐
+	private static final String MOVE_SCRIPT = LEASE_CHECK +
+		"redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1]) " +
+		"redis.call('HSET', KEYS[3], ARGV[1], ARGV[4]) " +
+		"return 1";
+
+	// 수동 재전송: 백오프 중인 작업과 실패 확정 작업을 지금 시각으로 당긴다. 임대 중인 작업은 건드리지 않는다
+	// 실패 확정 작업은 시도 횟수를 ARGV[2] 로 맞춰, 다시 실패하면 곧바로 실패 큐로 돌아가게 한다
+	private static final String REQUEUE_SCRIPT =
+		"local count = 0 " +
+		"local later = redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[1], '+inf') " +
+		"for _, member in ipairs(later) do " +
+		"  redis.call('ZADD', KEYS[1], ARGV[1], member) " +
+		"  count = count + 1 " +
+		"end " +
+		"local dead = redis.call('ZRANGE', KEYS[2], 0, -1) " +
+		"for _, member in ipairs(dead) do " +
+		"  redis.call('ZREM', KEYS[2], member) " +
+		"  redis.call('ZADD', KEYS[1], ARGV[1], member) " +
+		"  redis.call('HSET', KEYS[3], member, ARGV[2]) " +
+		"  count = count + 1 " +
+		"end " +
+		"return count";
+
+	private static final DefaultRedisScript<Long> ENQUEUE = new DefaultRedisScript<>(ENQUEUE_SCRIPT, Long.class);
+	@SuppressWarnings("rawtypes")
+	private static final DefaultRedisScript<List> LEASE = new DefaultRedisScript<>(LEASE_SCRIPT, List.class);
+	private static final DefaultRedisScript<Long> COMPLETE = new DefaultRedisScript<>(COMPLETE_SCRIPT, Long.class);
+	private static final DefaultRedisScript<Long> MOVE = new DefaultRedisScript<>(MOVE_SCRIPT, Long.class);
+	private static final DefaultRedisScript<Long> REQUEUE = new DefaultRedisScript<>(REQUEUE_SCRIPT, Long.class);
+
+	/**
+	 * @return 새 작업으로 등록했으면 true, 이미 처리 대기 중이면 false
+	 */
+	public boolean enqueue(String monthYear, Long userId, long dueAtMillis, String errorMessage, Duration ttl) {
+		Long added = redisTemplate.execute(ENQUEUE,
+			List.of(readyKey(monthYear), leasedKey(monthYear), attemptsKey(monthYear), errorsKey(monthYear),
+				deadKey(monthYear)),
+			String.valueOf(userId), String.valueOf(dueAtMillis), String.valueOf(errorMessage),
+			String.valueOf(ttl.toSeconds()));
+		redisTemplate.opsForSet().add(MONTHS_KEY, monthYear);
+		return added != null && added == 1L;
+	}
+
+	@SuppressWarnings("unchecked")
+	public List<LeasedJob> lease(String monthYear, long nowMillis, long leaseUntilMillis, int limit) {
+		List<String> result = redisTemplate.execute(LEASE,
+			List.of(readyKey(monthYear), leasedKey(monthYear), attemptsKey(monthYear)),
+			String.valueOf(nowMillis), String.valueOf(leaseUntilMillis), String.valueOf(limit));
+		if (result == null || result.isEmpty()) {
+			return List.of();
+		}
+
+		String leaseToken = String.valueOf(leaseUntilMillis);
+		List<LeasedJob> jobs = new ArrayList<>(result.size() / 2);
+		for (int i = 0; i + 1 < result.size(); i += 2) {
+			jobs.add(new LeasedJob(Long.valueOf(result.get(i)), Integer.parseInt(result.get(i + 1)), leaseToken));
+		}
+		return jobs;
+	}
+
+	public boolean complete(String monthYear, LeasedJob job) {
+		Long done = redisTemplate.execute(COMPLETE,
+			List.of(leasedKey(monthYear), attemptsKey(monthYear), errorsKey(monthYear)),
+			String.valueOf(job.userId()), job.leaseToken());
+		return done != null && done == 1L;
+	}
+
+	public boolean reschedule(String monthYear, LeasedJob job, long nextAttemptAtMillis, String errorMessage) {
+		Long moved = redisTemplate.execute(MOVE,
+			List.of(leasedKey(monthYear), readyKey(monthYear), errorsKey(monthYear)),
+			String.valueOf(job.userId()), job.leaseToken(), String.valueOf(nextAttemptAtMillis),
+			String.valueOf(errorMessage));
+		return moved != null && moved == 1L;
+	}
+
+	public boolean deadLetter(String monthYear, LeasedJob job, long nowMillis, String errorMessage) {
+		Long moved = redisTemplate.execute(MOVE,
+			List.of(leasedKey(monthYear), deadKey(monthYear), errorsKey(monthYear)),
+			String.valueOf(job.userId()), job.leaseToken(), String.valueOf(nowMillis),
+			String.valueOf(errorMessage));
+		return moved != null && moved == 1L;
+	}
+
+	/**
+	 * @param deadAttempts 실패 확정 작업에 남길 시도 횟수
+	 * @return 지금 시각으로 당긴 작업 수
+	 */
+	public long requeueNow(String monthYear, long nowMillis, int deadAttempts) {
+		Long requeued = redisTemplate.execute(REQUEUE,
+			List.of(readyKey(monthYear), deadKey(monthYear), attemptsKey(monthYear)),
+			String.valueOf(nowMillis), String.valueOf(deadAttempts));
+		if (requeued == null || requeued == 0L) {
+			return 0;
+		}
+		// 실패 확정 작업만 남아 목록에서 빠졌던 달도 작업자가 다시 보도록 한다
+		redisTemplate.opsForSet().add(MONTHS_KEY, monthYear);
+		return requeued;
+	}
+
+	public Set<String> getActiveMonths() {
+		Set<String> months = redisTemplate.opsForSet().members(MONTHS_KEY);
+		return months != null ? months : Set.of();
+	}
+
+	// 대기/임대 작업이 없는 달은 작업자가 더 들여다보지 않도록 목록에서 뺀다
+	public void removeMonthIfEmpty(String monthYear) {
+		if (countPending(monthYear) == 0) {
+			redisTemplate.opsForSet().remove(MONTHS_KEY, monthYear);
+		}
+	}
+
+	public long countPending(String monthYear) {
+		Long ready = redisTemplate.opsForZSet().zCard(readyKey(monthYear));
+		Long leased = redisTemplate.opsForZSet().zCard(leasedKey(monthYear));
+		return (ready != null ? ready : 0) + (leased != null ? leased : 0);
+	}
+
+	public long countDead(String monthYear) {
+		Long dead = redisTemplate.opsForZSet().zCard(deadKey(monthYear));
+		return dead != null ? dead : 0;
+	}
+
+	private String readyKey(String monthYear) {
+		return JOB_PREFIX + "{" + monthYear + "}:ready";
+	}
+
+	private String leasedKey(String monthYear) {
+		return JOB_PREFIX + "{" + monthYear + "}:leased";
+	}
+
+	private String attemptsKey(String monthYear) {
+		return JOB_PREFIX + "{" + monthYear + "}:attempts";
+	}
+
+	private String errorsKey(String monthYear) {
+		return JOB_PREFIX + "{" + monthYear + "}:errors";
+	}
+
+	private String deadKey(String monthYear) {
+		return JOB_PREFIX + "{" + monthYear + "}:dead";
+	}
+
+	/**
+	 * @param attempts   이번 임대를 포함한 시도 횟수
+	 * @param leaseToken 임대 만료 시각, 완료/재예약 시 임대가 아직 내 것인지 확인하는 데 쓴다
+	 */
+	public record LeasedJob(Long userId, int attempts, String leaseToken) {
+	}
+}
@@ -0,0 +1,50 @@
+package com.goormi.routine.domain.review.repository;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회고 프로필 지문별 AI 메시지 템플릿 목록 (Redis List)
+ * 같은 프로필의 사용자는 이 목록의 변형 중 하나를 재사용하고, 목록이 덜 찼을 때만 Gemini 를 호출한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ReviewMessageCacheRedisRepository {
+
+	private final StringRedisTemplate redisTemplate;
+
+	private static final String MESSAGE_CACHE_PREFIX = "review:ai:message:";
+
+	public List<String> getVariants(String fingerprint) {
+		try {
+			List<String> variants = redisTemplate.opsForList().range(key(fingerprint), 0, -1);
+			return variants != null ? variants : List.of();
+		} catch (Exception e) {
+			log.warn("AI 메시지 캐시 조회 실패: fingerprint={}", fingerprint, e);
+			return List.of();
+		}
+	}
+
+	// 동시에 채워져 상한을 넘더라도 앞쪽 maxVariants 개만 남겨 선택 결과가 흔들리지 않게 한다
+	public void addVariant(String fingerprint, String template, int maxVariants, Duration ttl) {
+		try {
+			String key = key(fingerprint);
+			redisTemplate.opsForList().rightPush(key, template);
+			redisTemplate.opsForList().trim(key, 0, maxVariants - 1);
+			redisTemplate.expire(key, ttl);
+		} catch (Exception e) {
+			log.warn("AI 메시지 캐시 저장 실패: fingerprint={}", fingerprint, e);
+		}
+	}
+
+	private String key(String fingerprint) {
+		return MESSAGE_CACHE_PREFIX + fingerprint;
+	}
+}
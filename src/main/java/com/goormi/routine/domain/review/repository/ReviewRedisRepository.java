@@ -6,7 +6,6 @@ import org.springframework.stereotype.Repository;
 
 import com.goormi.routine.domain.auth.repository.RedisRepository;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -19,9 +18,9 @@ public class ReviewRedisRepository {
 	private final RedisRepository redisRepository;
 
 	private static final String REVIEW_DATA_PREFIX = "review:data:";
-	private static final String FAILED_REVIEW_PREFIX = "failed_review:";
+	private static final String CHECKPOINT_PREFIX = "review:checkpoint:";
 	private static final int REVIEW_DATA_EXPIRE_DAYS = 90;
-	private static final int FAILED_DATA_EXPIRE_DAYS = 7;
+	private static final int CHECKPOINT_EXPIRE_DAYS = 7;
 
 	public void saveReviewData(String userId, String monthYear, String jsonData) {
 		try {
@@ -44,50 +43,6 @@ public class ReviewRedisRepository {
 		}
 	}
 
-	public void saveFailedMessage(Long userId, String monthYear, String errorMessage) {
-		try {
-			String key = FAILED_REVIEW_PREFIX + monthYear + ":" + userId;
-			String value = String.format("%s|%s", LocalDateTime.now(), errorMessage);
-			redisRepository.saveData(key, value, FAILED_DATA_EXPIRE_DAYS * 24 * 60 * 60);
-			log.debug("실패 메시지 저장: 사용자 ID = {}, 월 = {}", userId, monthYear);
-		} catch (Exception e) {
-			log.error("실패 메시지 저장 실패: 사용자 ID = {}, 월 = {}", userId, monthYear, e);
-		}
-	}
-
-	public List<Long> getFailedUserIds(String monthYear) {
-		try {
-			String pattern = FAILED_REVIEW_PREFIX + monthYear + ":*";
-			return redisRepository.getKeysByPattern(pattern).stream()
-				.map(key -> {
-					String[] parts = key.split(":");
-					return Long.parseLong(parts[parts.length - 1]);
-				})
-				.collect(Collectors.toList());
-		} catch (Exception e) {
-			log.error("실패 사용자 ID 조회 실패: 월 = {}", monthYear, e);
-			return List.of();
-		}
-	}
-
-	public void removeFailedMessage(Long userId, String monthYear) {
-		try {
-			String key = FAILED_REVIEW_PREFIX + monthYear + ":" + userId;
-			redisRepository.deleteData(key);
-			log.debug("실패 메시지 삭제: 사용자 ID = {}, 월 = {}", userId, monthYear);
-		} catch (Exception e) {
-			log.error("실패 메시지 삭제 실패: 사용자 ID = {}, 월 = {}", userId, monthYear, e);
-		}
-	}
-
-	public int getFailedMessageCount(String monthYear) {
-		return getFailedUserIds(monthYear).size();
-	}
-
-	public boolean hasFailedMessages(String monthYear) {
-		return !getFailedUserIds(monthYear).isEmpty();
-	}
-
 	public Map<Long, String> getPreviousReviewsJsonBatch(
 		List<Long> userIds, String previousMonth) {
 
@@ -116,4 +71,32 @@ public class ReviewRedisRepository {
 			return Map.of();
 		}
 	}
-}
\ No newline at end of file
+
+	// 월간 회고 일괄 전송에서 마지막으로 완료된 청크의 최대 사용자 ID
+	public void saveCheckpoint(String monthYear, Long lastUserId) {
+		try {
+			redisRepository.saveData(CHECKPOINT_PREFIX + monthYear, String.valueOf(lastUserId),
+				CHECKPOINT_EXPIRE_DAYS * 24 * 60 * 60);
+		} catch (Exception e) {
+			log.error("회고 전송 체크포인트 저장 실패: 월 = {}, 사용자 ID = {}", monthYear, lastUserId, e);
+		}
+	}
+
+	public Long getCheckpoint(String monthYear) {
+		try {
+			String value = redisRepository.getData(CHECKPOINT_PREFIX + monthYear);
+			return value != null ? Long.valueOf(value) : null;
+		} catch (Exception e) {
+			log.error("회고 전송 체크포인트 조회 실패: 월 = {}", monthYear, e);
+			return null;
+		}
+	}
+
+	public void deleteCheckpoint(String monthYear) {
+		try {
+			redisRepository.deleteData(CHECKPOINT_PREFIX + monthYear);
+		} catch (Exception e) {
+			log.error("회고 전송 체크포인트 삭제 실패: 월 = {}", monthYear, e);
+		}
+	}
+}
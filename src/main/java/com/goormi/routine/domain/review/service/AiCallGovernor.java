@@ -0,0 +1,291 @@
+package com.goormi.routine.domain.review.service;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.google.genai.errors.ApiException;
+import com.goormi.routine.config.AiCallGovernorProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gemini 호출 제어기.
+ * 분당 요청/토큰 버킷, AIMD로 조정되는 동시 호출 한도, 연속 실패 기반 서킷 브레이커를 한곳에서 관리한다.
+ * 허가를 받지 못한 호출은 {@link AiCallRejectedException}으로 즉시 끝나고, 호출 측은 템플릿 폴백 메시지를 쓴다.
+ */
+@Slf4j
+@Component
+public class AiCallGovernor {
+
+	private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+	public enum CircuitState {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final AiCallGovernorProperties properties;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition released = lock.newCondition();
+
+	private final Counter circuitOpenRejectedCounter;
+	private final Counter waitTimeoutRejectedCounter;
+	private final Counter throttledCounter;
+	private final Counter serverErrorCounter;
+
+	// 토큰 버킷
+	private double availableRequests;
+	private double availableTokens;
+	private long lastRefillNanos;
+
+	// AIMD 동시 호출 한도
+	private double concurrencyLimit;
+	private int inFlight;
+	private long lastDecreaseNanos;
+
+	// 서킷 브레이커
+	@Getter
+	private volatile CircuitState circuitState = CircuitState.CLOSED;
+	private int consecutiveFailures;
+	private long openedAtNanos;
+	private boolean probeInFlight;
+
+	public AiCallGovernor(AiCallGovernorProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.availableRequests = properties.getRequestsPerMinute();
+		this.availableTokens = properties.getTokensPerMinute();
+		this.lastRefillNanos = System.nanoTime();
+		this.lastDecreaseNanos = lastRefillNanos;
+		this.concurrencyLimit = Math.max(properties.getMinConcurrency(),
+			Math.min(properties.getInitialConcurrency(), properties.getMaxConcurrency()));
+
+		this.circuitOpenRejectedCounter = Counter.builder("ai.governor.rejected")
+			.tag("reason", "circuit_open")
+			.register(meterRegistry);
+		this.waitTimeoutRejectedCounter = Counter.builder("ai.governor.rejected")
+			.tag("reason", "wait_timeout")
+			.register(meterRegistry);
+		this.throttledCounter = Counter.builder("ai.governor.provider.errors")
+			.tag("kind", "throttled")
+			.register(meterRegistry);
+		this.serverErrorCounter = Counter.builder("ai.governor.provider.errors")
+			.tag("kind", "server")
+			.register(meterRegistry);
+		Gauge.builder("ai.governor.concurrency.limit", this, AiCallGovernor::getConcurrencyLimit)
+			.register(meterRegistry);
+		Gauge.builder("ai.governor.in.flight", this, AiCallGovernor::getInFlight)
+			.register(meterRegistry);
+		Gauge.builder("ai.governor.circuit.state", this, governor -> governor.getCircuitState().ordinal())
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 허가를 받은 뒤 호출을 실행하고, 결과에 따라 동시 호출 한도와 서킷 상태를 갱신한다.
+	 *
+	 * @param estimatedTokens 요청 전 토큰 추정치
+	 * @param usedTokens      응답에서 실제 토큰 사용량을 꺼내는 함수, 알 수 없으면 0 이하를 돌려준다
+	 */
+	public <T> T execute(int estimatedTokens, Callable<T> call, ToIntFunction<T> usedTokens) throws Exception {
+		acquire(estimatedTokens);
+
+		long startedAt = System.nanoTime();
+		T result;
+		try {
+			result = call.call();
+		} catch (Exception e) {
+			onFailure(e, startedAt);
+			throw e;
+		}
+
+		// 사용량을 읽다 실패해도 호출 자체는 성공했으므로 보정 없이 슬롯을 반납한다
+		int actualTokens = 0;
+		try {
+			actualTokens = usedTokens.applyAsInt(result);
+		} finally {
+			onSuccess(actualTokens > 0 ? actualTokens - clampTokens(estimatedTokens) : 0);
+		}
+		return result;
+	}
+
+	public int estimateTokens(String prompt) {
+		// 한글 위주 프롬프트라 글자 수를 그대로 토큰 수 상한으로 본다
+		return prompt.length() + properties.getExpectedOutputTokens();
+	}
+
+	public double getConcurrencyLimit() {
+		lock.lock();
+		try {
+			return concurrencyLimit;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getInFlight() {
+		lock.lock();
+		try {
+			return inFlight;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void acquire(int estimatedTokens) throws InterruptedException {
+		double tokens = clampTokens(estimatedTokens);
+		long deadline = System.nanoTime() + properties.getAcquireTimeout().toNanos();
+
+		lock.lockInterruptibly();
+		try {
+			while (true) {
+				long now = System.nanoTime();
+				checkCircuit(now);
+				refill(now);
+
+				long waitNanos;
+				if (inFlight >= (int)concurrencyLimit) {
+					waitNanos = Long.MAX_VALUE;
+				} else {
+					waitNanos = Math.max(
+						nanosUntil(availableRequests, 1, properties.getRequestsPerMinute()),
+						nanosUntil(availableTokens, tokens, properties.getTokensPerMinute()));
+					if (waitNanos == 0) {
+						availableRequests -= 1;
+						availableTokens -= tokens;
+						inFlight++;
+						if (circuitState == CircuitState.HALF_OPEN) {
+							probeInFlight = true;
+						}
+						return;
+					}
+				}
+
+				long remaining = deadline - now;
+				if (remaining <= 0) {
+					waitTimeoutRejectedCounter.increment();
+					throw new AiCallRejectedException("AI 호출 허가 대기 시간 초과");
+				}
+				released.awaitNanos(Math.min(waitNanos, remaining));
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void checkCircuit(long now) {
+		if (circuitState == CircuitState.OPEN) {
+			if (now - openedAtNanos < properties.getOpenDuration().toNanos()) {
+				circuitOpenRejectedCounter.increment();
+				throw new AiCallRejectedException("AI 호출 서킷이 열려 있습니다");
+			}
+			circuitState = CircuitState.HALF_OPEN;
+			probeInFlight = false;
+			log.info("AI 호출 서킷 반개방: 시험 호출 1건을 허용합니다");
+		}
+		if (circuitState == CircuitState.HALF_OPEN && probeInFlight) {
+			circuitOpenRejectedCounter.increment();
+			throw new AiCallRejectedException("AI 호출 서킷 시험 호출 진행 중");
+		}
+	}
+
+	private void refill(long now) {
+		double elapsedMinutes = (double)(now - lastRefillNanos) / NANOS_PER_MINUTE;
+		lastRefillNanos = now;
+		availableRequests = Math.min(properties.getRequestsPerMinute(),
+			availableRequests + elapsedMinutes * properties.getRequestsPerMinute());
+		availableTokens = Math.min(properties.getTokensPerMinute(),
+			availableTokens + elapsedMinutes * properties.getTokensPerMinute());
+	}
+
+	private static long nanosUntil(double available, double needed, int perMinute) {
+		if (available >= needed) {
+			return 0;
+		}
+		return (long)Math.ceil((needed - available) * NANOS_PER_MINUTE / perMinute);
+	}
+
+	// 한 번에 버킷 용량보다 많이 요구하면 영원히 기다리게 되므로 용량으로 자른다
+	private double clampTokens(int estimatedTokens) {
+		return Math.min(Math.max(estimatedTokens, 0), properties.getTokensPerMinute());
+	}
+
+	private void onSuccess(double tokenCorrection) {
+		lock.lock();
+		try {
+			inFlight--;
+			availableTokens -= tokenCorrection;
+			consecutiveFailures = 0;
+			if (circuitState == CircuitState.HALF_OPEN) {
+				circuitState = CircuitState.CLOSED;
+				probeInFlight = false;
+				log.info("AI 호출 서킷 닫힘: 시험 호출 성공");
+			}
+			concurrencyLimit = Math.min(properties.getMaxConcurrency(), concurrencyLimit + 1.0 / concurrencyLimit);
+			released.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void onFailure(Exception e, long startedAt) {
+		int statusCode = e instanceof ApiException apiException ? apiException.code() : -1;
+		boolean throttled = statusCode == 429;
+		boolean providerFault = throttled || statusCode >= 500 || statusCode < 0;
+
+		lock.lock();
+		try {
+			inFlight--;
+			if (!providerFault) {
+				// 400 등 요청 자체의 문제는 제공자 상태와 무관하므로 한도와 서킷에 반영하지 않는다
+				if (circuitState == CircuitState.HALF_OPEN) {
+					probeInFlight = false;
+				}
+				return;
+			}
+
+			if (throttled) {
+				throttledCounter.increment();
+			} else if (statusCode >= 500) {
+				serverErrorCounter.increment();
+			}
+
+			long now = System.nanoTime();
+			// 직전 감소 이전에 시작된 호출의 실패는 이미 반영된 혼잡이므로 한도를 다시 깎지 않는다
+			if (startedAt - lastDecreaseNanos >= 0) {
+				concurrencyLimit = Math.max(properties.getMinConcurrency(),
+					concurrencyLimit * properties.getDecreaseFactor());
+				lastDecreaseNanos = now;
+				log.warn("AI 호출 동시 한도 감소: limit={}, status={}", String.format("%.2f", concurrencyLimit), statusCode);
+			}
+
+			consecutiveFailures++;
+			if (circuitState == CircuitState.HALF_OPEN
+				|| (circuitState == CircuitState.CLOSED && consecutiveFailures >= properties.getFailureThreshold())) {
+				circuitState = CircuitState.OPEN;
+				openedAtNanos = now;
+				probeInFlight = false;
+				log.warn("AI 호출 서킷 열림: 연속 실패 {}회, {}초 동안 폴백 메시지를 사용합니다",
+					consecutiveFailures, properties.getOpenDuration().toSeconds());
+			}
+		} finally {
+			released.signalAll();
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 서킷이 열려 있거나 허가 대기 시간이 지나 호출하지 않았음을 나타낸다. 재시도하지 않고 폴백으로 넘어간다.
+	 */
+	public static class AiCallRejectedException extends IllegalStateException {
+		public AiCallRejectedException(String message) {
+			super(message);
+		}
+	}
+}
@@ -1,8 +1,11 @@
 package com.goormi.routine.domain.review.service;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,9 +14,12 @@ import com.google.genai.types.BlockedReason;
 import com.google.genai.types.Content;
 import com.google.genai.types.GenerateContentResponse;
 import com.google.genai.types.GenerateContentResponsePromptFeedback;
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
 import com.google.genai.types.Part;
 import com.goormi.routine.domain.review.dto.MonthlyReviewResponse;
+import com.goormi.routine.domain.review.repository.ReviewMessageCacheRedisRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,6 +30,9 @@ public class AiReviewServiceImpl implements AiReviewService{
 
 	private final Client geminiClient;
 	private final ObjectMapper objectMapper;
+	private final AiCallGovernor aiCallGovernor;
+	private final ReviewMessageCacheRedisRepository messageCacheRepository;
+	private final MeterRegistry meterRegistry;
 
 	// @Value("${gemini.api.key}")
 	// private String apiKey;
@@ -32,28 +41,68 @@ public class AiReviewServiceImpl implements AiReviewService{
 	// private String geminiApiUrl;
 
 	private static final String MODEL_NAME = "gemini-2.5-flash";
+	// 프롬프트나 프로필 구간을 바꾸면 올려서 이전 캐시를 쓰지 않게 한다
+	private static final String PROMPT_VERSION = "v2";
+
+	@Value("${review.ai-cache.enabled:true}")
+	private boolean messageCacheEnabled;
+
+	@Value("${review.ai-cache.variants:3}")
+	private int messageCacheVariants;
+
+	@Value("${review.ai-cache.ttl-days:40}")
+	private long messageCacheTtlDays;
 
 	@Override
 	public String generateAiMessage(MonthlyReviewResponse review) throws Exception {
+		if (!messageCacheEnabled) {
+			return callGemini(createGeminiPrompt(objectMapper.writeValueAsString(review)));
+		}
 
-		String reviewDataJson = objectMapper.writeValueAsString(review);
-		String prompt = createGeminiPrompt(reviewDataJson);
+		// 같은 프로필(구간화한 성과)이면 저장된 변형 중 사용자별로 고정된 하나를 쓰고, 덜 찼을 때만 새로 생성한다
+		ReviewProfile profile = ReviewProfile.of(review);
+		String fingerprint = profile.fingerprint(PROMPT_VERSION + ":" + MODEL_NAME);
+		List<String> variants = messageCacheRepository.getVariants(fingerprint);
+		if (variants.size() >= messageCacheVariants) {
+			meterRegistry.counter("review.ai.message.cache", "result", "hit").increment();
+			int index = Math.floorMod(Objects.hash(review.getUserId(), review.getMonthYear()), variants.size());
+			return ReviewProfile.fillPlaceholders(variants.get(index), review);
+		}
 
+		meterRegistry.counter("review.ai.message.cache", "result", "miss").increment();
+		String template = callGemini(createTemplatePrompt(objectMapper.writeValueAsString(profile)));
+		switch (ReviewProfile.checkTemplate(template)) {
+			case VALID -> messageCacheRepository.addVariant(fingerprint, template, messageCacheVariants,
+				Duration.ofDays(messageCacheTtlDays));
+			case NO_PLACEHOLDER -> log.warn("AI 메시지에 자리표시자가 없어 캐시하지 않습니다: fingerprint={}", fingerprint);
+			// 채우지 못한 중괄호가 사용자에게 보이지 않도록 호출부의 기본 메시지로 대체한다
+			case MALFORMED -> throw new IllegalStateException("AI 메시지에 알 수 없는 자리표시자가 있습니다: " + template);
+		}
+		return ReviewProfile.fillPlaceholders(template, review);
+	}
+
+	private String callGemini(String prompt) throws Exception {
 		Content userContent = Content.builder()
 			.role("user")
 			.parts(List.of(Part.builder().text(prompt).build()))
 			.build();
 
-		try {
-			GenerateContentResponse response = geminiClient.models.generateContent(
+		GenerateContentResponse response = aiCallGovernor.execute(
+			aiCallGovernor.estimateTokens(prompt),
+			() -> geminiClient.models.generateContent(
 				MODEL_NAME,
 				List.of(userContent),
 				null
-			);
-			return extractMessageFromGeminiResponse(response);
-		} catch (Exception e) {
-			throw e;
-		}
+			),
+			AiReviewServiceImpl::totalTokenCount
+		);
+		return extractMessageFromGeminiResponse(response);
+	}
+
+	private static int totalTokenCount(GenerateContentResponse response) {
+		return response.usageMetadata()
+			.flatMap(GenerateContentResponseUsageMetadata::totalTokenCount)
+			.orElse(0);
 	}
 
 	private String createGeminiPrompt(String reviewDataJson) {
@@ -76,6 +125,17 @@ public class AiReviewServiceImpl implements AiReviewService{
 			"제공된 데이터: " + reviewDataJson;
 	}
 
+	// 구간화된 프로필만 주고 실제 수치와 닉네임은 자리표시자로 쓰게 해, 같은 프로필의 사용자가 메시지를 공유할 수 있게 한다
+	private String createTemplatePrompt(String profileJson) {
+		return createGeminiPrompt(profileJson) + "\n\n" +
+			"단, 제공된 데이터는 여러 사용자에게 공통인 구간 값입니다. 구간 값이나 임의의 숫자를 메시지에 그대로 쓰지 말고, " +
+			"실제 값이 들어갈 자리에는 다음 자리표시자를 그대로 적어 주세요: " + ReviewProfile.PLACEHOLDER_GUIDE + ". " +
+			"'achievementRate'가 '90+'이면 달성률 90% 이상, 'scoreTrend'가 'UP'이면 점수 상승, " +
+			"'groupTrend'가 'UP'이면 그룹 증가, 'NO_HISTORY'는 지난 달 기록 없음, " +
+			"'topActivity'는 가장 많이 한 활동 종류(GROUP_AUTH: 그룹 인증, PERSONAL_ROUTINE: 개인 루틴, " +
+			"DAILY_CHECKLIST: 데일리 체크리스트, NONE: 활동 없음)를 뜻합니다.";
+	}
+
 	private String extractMessageFromGeminiResponse(GenerateContentResponse response) {
 			String generatedText = response.text();
 
@@ -0,0 +1,80 @@
+package com.goormi.routine.domain.review.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 개인 루틴 월간 달성률 계산.
+ * 루틴별 완료 횟수는 DB 집계로 받고, 목표 횟수는 월의 요일별 일수와 repeatDays 로 계산해 날짜를 하나씩 순회하지 않는다.
+ */
+final class PersonalRoutineAchievementCalculator {
+
+	private final int[] weekdayCounts = new int[7];
+	private final Map<Long, Map<Long, RoutineProgress>> progressByUser = new HashMap<>();
+
+	PersonalRoutineAchievementCalculator(LocalDate monthStart, LocalDate monthEnd) {
+		for (LocalDate day = monthStart; !day.isAfter(monthEnd); day = day.plusDays(1)) {
+			weekdayCounts[repeatIndex(day)]++;
+		}
+	}
+
+	// repeatDays 는 일요일부터 시작하는 7자리 문자열 (예: 0111110)
+	static int repeatIndex(LocalDate day) {
+		int dayOfWeek = day.getDayOfWeek().getValue();
+		return dayOfWeek == 7 ? 0 : dayOfWeek;
+	}
+
+	/**
+	 * UserActivityRepository.countRoutineActivitiesBatch 결과 한 행을 반영한다.
+	 */
+	void add(Long userId, Integer routineId, String repeatDays, long completedCount) {
+		progressByUser.computeIfAbsent(userId, key -> new HashMap<>())
+			.merge(routineId.longValue(), new RoutineProgress(completedCount, targetCount(repeatDays)),
+				(previous, added) -> new RoutineProgress(previous.completed() + added.completed(), previous.target()));
+	}
+
+	int targetCount(String repeatDays) {
+		if (repeatDays == null || repeatDays.length() != 7) {
+			return 0;
+		}
+		int target = 0;
+		for (int i = 0; i < 7; i++) {
+			if (repeatDays.charAt(i) == '1') {
+				target += weekdayCounts[i];
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * 완료 기록이 있는 루틴별 달성률(최대 100%)의 평균. 목표 횟수가 0인 루틴은 제외한다.
+	 */
+	int achievementRate(Long userId) {
+		Map<Long, RoutineProgress> routines = progressByUser.get(userId);
+		if (routines == null || routines.isEmpty()) {
+			return 0;
+		}
+
+		List<Double> achievementRates = new ArrayList<>();
+		for (RoutineProgress progress : routines.values()) {
+			if (progress.target() > 0) {
+				achievementRates.add(Math.min(100.0, (double)progress.completed() / progress.target() * 100));
+			}
+		}
+
+		return achievementRates.isEmpty() ? 0 :
+			(int)achievementRates.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+	}
+
+	Map<Long, Integer> achievementRates() {
+		Map<Long, Integer> rates = new HashMap<>();
+		progressByUser.keySet().forEach(userId -> rates.put(userId, achievementRate(userId)));
+		return rates;
+	}
+
+	private record RoutineProgress(long completed, int target) {
+	}
+}
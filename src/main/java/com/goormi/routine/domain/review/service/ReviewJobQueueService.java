@@ -0,0 +1,27 @@
+package com.goormi.routine.domain.review.service;
+
+import java.util.Set;
+
+public interface ReviewJobQueueService {
+	void enqueue(String monthYear, Long userId, String errorMessage);
+
+	ReviewJobRunResult processDueJobs(String monthYear, ReviewJobHandler handler);
+
+	// 백오프 중이거나 최종 실패한 작업을 바로 처리 대상으로 당긴다 (수동 재전송)
+	long requeueNow(String monthYear);
+
+	Set<String> getActiveMonths();
+
+	long getFailedCount(String monthYear);
+
+	@FunctionalInterface
+	interface ReviewJobHandler {
+		void handle(Long userId) throws Exception;
+	}
+
+	record ReviewJobRunResult(int succeeded, int rescheduled, int deadLettered) {
+		public boolean isEmpty() {
+			return succeeded + rescheduled + deadLettered == 0;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+package com.goormi.routine.domain.review.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.goormi.routine.domain.review.repository.ReviewJobQueueRedisRepository;
+import com.goormi.routine.domain.review.repository.ReviewJobQueueRedisRepository.LeasedJob;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회고 전송 실패 작업을 Redis 큐에 쌓고, 지수 백오프로 재시도한다.
+ * 작업은 임대 방식으로 가져가므로 여러 인스턴스가 같은 큐를 나눠 처리해도 한 작업을 동시에 잡지 않는다.
+ */
+@Slf4j
+@Service
+public class ReviewJobQueueServiceImpl implements ReviewJobQueueService {
+
+	private final ReviewJobQueueRedisRepository jobQueueRedisRepository;
+	private final Counter succeededCounter;
+	private final Counter rescheduledCounter;
+	private final Counter deadLetteredCounter;
+
+	@Value("${review.job.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${review.job.base-backoff-seconds:60}")
+	private long baseBackoffSeconds;
+
+	@Value("${review.job.max-backoff-seconds:3600}")
+	private long maxBackoffSeconds;
+
+	@Value("${review.job.visibility-timeout-seconds:300}")
+	private long visibilityTimeoutSeconds;
+
+	@Value("${review.job.lease-batch-size:20}")
+	private int leaseBatchSize;
+
+	@Value("${review.job.max-jobs-per-run:1000}")
+	private int maxJobsPerRun;
+
+	@Value("${review.job.ttl-days:40}")
+	private long ttlDays;
+
+	public ReviewJobQueueServiceImpl(ReviewJobQueueRedisRepository jobQueueRedisRepository,
+		MeterRegistry meterRegistry) {
+		this.jobQueueRedisRepository = jobQueueRedisRepository;
+		this.succeededCounter = Counter.builder("review.job.processed")
+			.tag("result", "succeeded")
+			.register(meterRegistry);
+		this.rescheduledCounter = Counter.builder("review.job.processed")
+			.tag("result", "rescheduled")
+			.register(meterRegistry);
+		this.deadLetteredCounter = Counter.builder("review.job.processed")
+			.tag("result", "dead_lettered")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public void enqueue(String monthYear, Long userId, String errorMessage) {
+		try {
+			long dueAt = System.currentTimeMillis() + backoffMillis(1);
+			boolean added = jobQueueRedisRepository.enqueue(monthYear, userId, dueAt, errorMessage,
+				Duration.ofDays(ttlDays));
+			if (added) {
+				log.info("회고 재전송 작업 등록: 사용자 ID = {}, 월 = {}", userId, monthYear);
+			}
+		} catch (Exception e) {
+			log.error("회고 재전송 작업 등록 실패: 사용자 ID = {}, 월 = {}", userId, monthYear, e);
+		}
+	}
+
+	@Override
+	public ReviewJobRunResult processDueJobs(String monthYear, ReviewJobHandler handler) {
+		int succeeded = 0;
+		int rescheduled = 0;
+		int deadLettered = 0;
+		int leased = 0;
+
+		while (leased < maxJobsPerRun) {
+			long now = System.currentTimeMillis();
+			List<LeasedJob> jobs = jobQueueRedisRepository.lease(monthYear, now,
+				now + visibilityTimeoutSeconds * 1000, leaseBatchSize);
+			if (jobs.isEmpty()) {
+				break;
+			}
+			leased += jobs.size();
+
+			for (LeasedJob job : jobs) {
+				try {
+					handler.handle(job.userId());
+					if (jobQueueRedisRepository.complete(monthYear, job)) {
+						succeeded++;
+						succeededCounter.increment();
+					}
+				} catch (Exception e) {
+					String errorMessage = e.getMessage();
+					if (job.attempts() >= maxAttempts) {
+						if (jobQueueRedisRepository.deadLetter(monthYear, job, System.currentTimeMillis(), errorMessage)) {
+							deadLettered++;
+							deadLetteredCounter.increment();
+							log.error("회고 재전송 최종 실패: 사용자 ID = {}, 월 = {}, 시도 = {}",
+								job.userId(), monthYear, job.attempts(), e);
+						}
+					} else {
+						long nextAttemptAt = System.currentTimeMillis() + backoffMillis(job.attempts());
+						if (jobQueueRedisRepository.reschedule(monthYear, job, nextAttemptAt, errorMessage)) {
+							rescheduled++;
+							rescheduledCounter.increment();
+							log.warn("회고 재전송 실패, 재예약: 사용자 ID = {}, 월 = {}, 시도 = {}, 사유 = {}",
+								job.userId(), monthYear, job.attempts(), errorMessage);
+						}
+					}
+				}
+			}
+		}
+
+		jobQueueRedisRepository.removeMonthIfEmpty(monthYear);
+		return new ReviewJobRunResult(succeeded, rescheduled, deadLettered);
+	}
+
+	// 최종 실패 작업은 한 번만 더 시도하고, 다시 실패하면 실패 큐로 돌아간다
+	@Override
+	public long requeueNow(String monthYear) {
+		long requeued = jobQueueRedisRepository.requeueNow(monthYear, System.currentTimeMillis(), maxAttempts - 1);
+		if (requeued > 0) {
+			log.info("회고 재전송 작업을 즉시 처리 대상으로 변경: 월 = {}, 작업 수 = {}", monthYear, requeued);
+		}
+		return requeued;
+	}
+
+	@Override
+	public Set<String> getActiveMonths() {
+		return jobQueueRedisRepository.getActiveMonths();
+	}
+
+	// 아직 처리되지 않았거나 최종 실패한 작업 수
+	@Override
+	public long getFailedCount(String monthYear) {
+		return jobQueueRedisRepository.countPending(monthYear) + jobQueueRedisRepository.countDead(monthYear);
+	}
+
+	// base * 2^(attempts-1), 상한 적용 후 ±20% 지터로 같은 시각에 몰리지 않게 한다
+	private long backoffMillis(int attempts) {
+		long backoffSeconds = Math.min(maxBackoffSeconds, baseBackoffSeconds << Math.min(attempts - 1, 20));
+		double jitter = ThreadLocalRandom.current().nextDouble(0.8, 1.2);
+		return (long)(backoffSeconds * 1000 * jitter);
+	}
+}
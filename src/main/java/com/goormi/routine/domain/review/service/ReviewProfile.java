@@ -0,0 +1,143 @@
+package com.goormi.routine.domain.review.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.goormi.routine.domain.review.dto.MonthlyReviewResponse;
+
+/**
+ * AI 회고 메시지 캐시 키로 쓰는 정규화된 회고 입력.
+ * 수치는 구간으로 묶고 활동은 가장 많이 한 종류만 남겨, 비슷한 성과의 사용자가 같은 지문을 갖게 한다.
+ * 캐시된 메시지에는 실제 수치 대신 자리표시자가 들어 있고, 사용자별 값은 {@link #fillPlaceholders}로 채운다.
+ */
+record ReviewProfile(
+	String totalScore,
+	String totalAuthCount,
+	String participatingGroups,
+	String achievementRate,
+	String scoreTrend,
+	String groupTrend,
+	String topActivity) {
+
+	static final String PLACEHOLDER_GUIDE =
+		"{{nickname}}(닉네임), {{totalScore}}(총 점수), {{scoreDifference}}(지난 달 대비 점수 변화, 부호 포함), " +
+		"{{participatingGroups}}(참여 그룹 수), {{groupDifference}}(지난 달 대비 그룹 수 변화, 부호 포함), " +
+		"{{achievementRate}}(개인 루틴 달성률), {{totalAuthCount}}(총 인증 횟수)";
+
+	// PLACEHOLDER_GUIDE 와 fillPlaceholders 가 다루는 자리표시자 이름
+	static final Set<String> PLACEHOLDERS = Set.of("nickname", "totalScore", "scoreDifference",
+		"participatingGroups", "groupDifference", "achievementRate", "totalAuthCount");
+
+	private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{\\{([^{}]*)}}");
+
+	enum TemplateCheck {
+		// 알려진 자리표시자만 있어 캐시해도 된다
+		VALID,
+		// 자리표시자가 없어 이 사용자에게만 맞는 메시지다
+		NO_PLACEHOLDER,
+		// 모르는 자리표시자나 짝이 맞지 않는 중괄호가 남아 있다
+		MALFORMED
+	}
+
+	static TemplateCheck checkTemplate(String template) {
+		Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
+		StringBuilder rest = new StringBuilder();
+		int placeholders = 0;
+		while (matcher.find()) {
+			if (!PLACEHOLDERS.contains(matcher.group(1))) {
+				return TemplateCheck.MALFORMED;
+			}
+			placeholders++;
+			matcher.appendReplacement(rest, "");
+		}
+		matcher.appendTail(rest);
+
+		if (rest.indexOf("{") >= 0 || rest.indexOf("}") >= 0) {
+			return TemplateCheck.MALFORMED;
+		}
+		return placeholders > 0 ? TemplateCheck.VALID : TemplateCheck.NO_PLACEHOLDER;
+	}
+
+	static ReviewProfile of(MonthlyReviewResponse review) {
+		return new ReviewProfile(
+			range(review.getTotalScore(), 1, 50, 100, 200, 500, 1000),
+			range(review.getTotalAuthCount(), 1, 5, 15, 30, 60),
+			range(review.getParticipatingGroups(), 1, 2, 3),
+			range(review.getPersonalRoutineAchievementRate(), 1, 30, 60, 90),
+			trend(review.getScoreDifference()),
+			trend(review.getGroupDifference()),
+			topActivity(review)
+		);
+	}
+
+	String fingerprint(String version) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] hash = digest.digest((version + "|" + this).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(hash, 0, 16);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+		}
+	}
+
+	static String fillPlaceholders(String template, MonthlyReviewResponse review) {
+		return template
+			.replace("{{nickname}}", review.getNickname() != null ? review.getNickname() : "")
+			.replace("{{totalScore}}", String.valueOf(orZero(review.getTotalScore())))
+			.replace("{{scoreDifference}}", signed(review.getScoreDifference()))
+			.replace("{{participatingGroups}}", String.valueOf(orZero(review.getParticipatingGroups())))
+			.replace("{{groupDifference}}", signed(review.getGroupDifference()))
+			.replace("{{achievementRate}}", String.valueOf(orZero(review.getPersonalRoutineAchievementRate())))
+			.replace("{{totalAuthCount}}", String.valueOf(orZero(review.getTotalAuthCount())));
+	}
+
+	// bounds 는 1부터 시작하는 오름차순 구간 하한, 예: (1, 50, 100) → "0", "1~49", "50~99", "100+"
+	static String range(Integer value, int... bounds) {
+		int v = orZero(value);
+		for (int i = 0; i < bounds.length; i++) {
+			if (v < bounds[i]) {
+				if (i == 0) {
+					return "0";
+				}
+				int low = bounds[i - 1];
+				int high = bounds[i] - 1;
+				return low == high ? String.valueOf(low) : low + "~" + high;
+			}
+		}
+		return bounds[bounds.length - 1] + "+";
+	}
+
+	private static String trend(Integer difference) {
+		if (difference == null) {
+			return "NO_HISTORY";
+		}
+		return difference > 0 ? "UP" : difference < 0 ? "DOWN" : "SAME";
+	}
+
+	private static String topActivity(MonthlyReviewResponse review) {
+		int group = orZero(review.getGroupAuthCount());
+		int personal = orZero(review.getPersonalRoutineCount());
+		int checklist = orZero(review.getDailyChecklistCount());
+		if (group == 0 && personal == 0 && checklist == 0) {
+			return "NONE";
+		}
+		if (group >= personal && group >= checklist) {
+			return "GROUP_AUTH";
+		}
+		return personal >= checklist ? "PERSONAL_ROUTINE" : "DAILY_CHECKLIST";
+	}
+
+	private static String signed(Integer value) {
+		int v = orZero(value);
+		return v > 0 ? "+" + v : String.valueOf(v);
+	}
+
+	private static int orZero(Integer value) {
+		return value != null ? value : 0;
+	}
+}
@@ -13,8 +13,10 @@ public interface ReviewService {
 		Map<Long, Map<ActivityType, Integer>> allActivityCounts,
 		Map<Long, Long> allScores,
 		Map<Long, Integer> allActiveGroupCounts,
-		Map<Long, MonthlyReviewResponse> allPreviousReviews);
+		Map<Long, MonthlyReviewResponse> allPreviousReviews,
+		Map<Long, Integer> allAchievementRates);
 	void retryFailedMessages(String monthYear);
+	void processDueReviewJobs();
 	int getFailedMessageCount(String monthYear);
 
 	MonthlyReviewResponse getMonthlyReview(Long userId, String monthYear);
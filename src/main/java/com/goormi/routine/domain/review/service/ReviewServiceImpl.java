@@ -3,17 +3,23 @@ package com.goormi.routine.domain.review.service;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,9 +35,7 @@ import com.goormi.routine.domain.review.repository.ReviewRedisRepository;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
 import com.goormi.routine.domain.userActivity.entity.ActivityType;
-import com.goormi.routine.domain.userActivity.entity.UserActivity;
 import com.goormi.routine.domain.userActivity.repository.UserActivityRepository;
-import com.goormi.routine.domain.personal_routines.domain.PersonalRoutine;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -51,11 +55,31 @@ public class ReviewServiceImpl implements ReviewService {
 	private final UserActivityRepository userActivityRepository;
 	private final ObjectMapper objectMapper;
 	private final AiReviewService aiReviewService;
+	private final ReviewJobQueueService reviewJobQueueService;
 
 	//동시성 제어
 	@Qualifier("aiReviewExecutor")
 	private final ExecutorService executorService;
 
+	@Value("${review.batch.chunk-size:100}")
+	private int chunkSize;
+
+	@Value("${review.batch.max-in-flight-chunks:2}")
+	private int maxInFlightChunks;
+
+	// 사용자 작업이 AI 호출을 같은 실행기에 다시 제출하므로 코어 스레드 수보다 작게 유지한다
+	@Value("${review.batch.user-concurrency:5}")
+	private int userConcurrency;
+
+	@Value("${review.batch.chunk-timeout-minutes:10}")
+	private long chunkTimeoutMinutes;
+
+	/**
+	 * 사용자를 id 커서로 chunkSize 씩 읽어 청크 단위로 배치 데이터를 조회하고 전송한다.
+	 * 동시에 처리 중인 청크는 maxInFlightChunks 개, 사용자 작업은 userConcurrency 개로 제한해
+	 * 메모리와 aiReviewExecutor 대기열이 사용자 수에 비례해 늘지 않도록 한다.
+	 * 앞에서부터 연속으로 완료된 청크까지 체크포인트를 남기므로, 중단되면 다음 실행은 그 이후부터 이어서 보낸다.
+	 */
 	@Override
 	public void sendMonthlyReviewMessages(String monthYear) {
 		String targetMonth = monthYear != null ? monthYear :
@@ -64,69 +88,123 @@ public class ReviewServiceImpl implements ReviewService {
 		LocalDate startDate = LocalDate.parse(targetMonth + "-01");
 		LocalDate endDate = startDate.plusMonths(1).minusDays(1);
 
-		List<User> allUsers = userRepository.findAll();
-		if (allUsers.isEmpty()) {
-			log.warn("전송 대상 사용자가 없습니다.");
-			return;
+		Long checkpoint = reviewRedisRepository.getCheckpoint(targetMonth);
+		long cursor = checkpoint != null ? checkpoint : 0L;
+		if (checkpoint != null) {
+			log.info("이전 실행의 체크포인트부터 이어서 전송합니다: 월 = {}, 마지막 사용자 ID = {}", targetMonth, checkpoint);
 		}
-		List<Long> allUserIds = allUsers.stream().map(User::getId).collect(Collectors.toList());
 
-		// 1. ✨ 데이터 사전 로딩 (N+1 해결의 핵심)
-		Map<Long, User> userMap = allUsers.stream().collect(Collectors.toMap(User::getId, user -> user));
-
-		BatchData batchData = loadAllBatchData(allUserIds, startDate, endDate, targetMonth);
-
-		Map<Long, Map<ActivityType, Integer>> allActivityCounts = batchData.getAllActivityCounts();
-		Map<Long, Long> allScores = batchData.getAllScores();
-		Map<Long, Integer> allActiveGroupCounts = batchData.getAllActiveGroupCounts();
-		Map<Long, MonthlyReviewResponse> allPreviousReviews = batchData.getAllPreviousReviews();// ** ------------------------------------------- **
-
-		// 2. 비동기 작업 실행 (루프 제거 및 Map 인자 전달)
-		List<CompletableFuture<Boolean>> futures = allUsers.stream()
-			.map(user -> sendUserReviewMessageAsync(
-				user.getId(),
-				targetMonth,
-				userMap,
-				allActivityCounts,
-				allScores,
-				allActiveGroupCounts,
-				allPreviousReviews
-			))
-			.collect(Collectors.toList());
+		Semaphore userPermits = new Semaphore(userConcurrency);
+		Deque<ReviewChunk> inFlight = new ArrayDeque<>();
 		int successCount = 0;
 		int failCount = 0;
+		int userCount = 0;
 
 		try {
-			// 모든 작업 완료 대기
-			CompletableFuture<Void> allFutures =
-				CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-
-			allFutures.get(30, TimeUnit.MINUTES);
-
-			// 결과 수집
-			for (CompletableFuture<Boolean> future : futures) {
-				if (future.join()) {
-					successCount++;
-				} else {
-					failCount++;
+			while (true) {
+				List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(cursor, PageRequest.of(0, chunkSize));
+				if (users.isEmpty()) {
+					break;
+				}
+				cursor = users.get(users.size() - 1).getId();
+				userCount += users.size();
+
+				inFlight.addLast(submitChunk(users, startDate, endDate, targetMonth, userPermits));
+				while (inFlight.size() >= maxInFlightChunks) {
+					int[] result = completeChunk(inFlight.removeFirst(), targetMonth);
+					successCount += result[0];
+					failCount += result[1];
 				}
-			}
-
-			log.info("전송 완료: 성공={}, 실패={}", successCount, failCount);
 
+				if (users.size() < chunkSize) {
+					break;
+				}
+			}
+			while (!inFlight.isEmpty()) {
+				int[] result = completeChunk(inFlight.removeFirst(), targetMonth);
+				successCount += result[0];
+				failCount += result[1];
+			}
 		} catch (TimeoutException e) {
 			log.error("타임아웃 발생", e);
 			throw new RuntimeException("처리 시간 초과", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("회고 전송이 중단되었습니다.", e);
 		} catch (Exception e) {
 			log.error("오류 발생", e);
-			throw new RuntimeException();
+			throw new RuntimeException(e);
 		}
 
+		if (userCount == 0) {
+			log.warn("전송 대상 사용자가 없습니다.");
+		}
+		reviewRedisRepository.deleteCheckpoint(targetMonth);
+		log.info("전송 완료: 성공={}, 실패={}", successCount, failCount);
+
 		if (failCount > 0) {
 			throw new RuntimeException(String.format("일부 메시지 전송 실패: 성공 %d건, 실패 %d건", successCount, failCount));
 		}
 	}
 
+	private ReviewChunk submitChunk(List<User> users, LocalDate startDate, LocalDate endDate, String targetMonth,
+		Semaphore userPermits) throws InterruptedException {
+		List<Long> userIds = users.stream().map(User::getId).collect(Collectors.toList());
+		Map<Long, User> userMap = users.stream().collect(Collectors.toMap(User::getId, user -> user));
+		BatchData batchData = loadAllBatchData(userIds, startDate, endDate, targetMonth);
+
+		List<CompletableFuture<Boolean>> futures = new ArrayList<>(users.size());
+		for (Long userId : userIds) {
+			userPermits.acquire();
+			futures.add(sendUserReviewMessageAsync(
+				userId,
+				targetMonth,
+				userMap,
+				batchData.getAllActivityCounts(),
+				batchData.getAllScores(),
+				batchData.getAllActiveGroupCounts(),
+				batchData.getAllPreviousReviews(),
+				batchData.getAllAchievementRates()
+			).whenComplete((result, error) -> userPermits.release()));
+		}
+		return new ReviewChunk(userIds.get(userIds.size() - 1), userIds, futures);
+	}
+
+	// 청크 완료를 기다린 뒤 회고가 저장된 사용자에게 알림을 한 번에 보내고 체크포인트를 전진시킨다.
+	// 실패한 사용자는 실패 목록에 남아 재전송 대상이 된다
+	private int[] completeChunk(ReviewChunk chunk, String targetMonth) throws Exception {
+		CompletableFuture.allOf(chunk.getFutures().toArray(new CompletableFuture[0]))
+			.get(chunkTimeoutMinutes, TimeUnit.MINUTES);
+
+		List<Long> savedUserIds = new ArrayList<>(chunk.getUserIds().size());
+		for (int i = 0; i < chunk.getFutures().size(); i++) {
+			if (chunk.getFutures().get(i).join()) {
+				savedUserIds.add(chunk.getUserIds().get(i));
+			}
+		}
+		int success = notifyMonthlyReviews(savedUserIds, targetMonth);
+		int fail = chunk.getUserIds().size() - success;
+		reviewRedisRepository.saveCheckpoint(targetMonth, chunk.getLastUserId());
+		log.info("회고 전송 청크 완료: 월 = {}, 마지막 사용자 ID = {}, 성공 = {}, 실패 = {}",
+			targetMonth, chunk.getLastUserId(), success, fail);
+		return new int[] {success, fail};
+	}
+
+	// 알림 일괄 저장이 실패하면 회고는 저장되어 있어도 알림이 가지 않았으므로 사용자별 재전송 작업으로 넘긴다
+	private int notifyMonthlyReviews(List<Long> userIds, String targetMonth) {
+		if (userIds.isEmpty()) {
+			return 0;
+		}
+		try {
+			notificationService.createNotifications(NotificationType.MONTHLY_REVIEW, null, null, userIds);
+			return userIds.size();
+		} catch (RuntimeException e) {
+			log.error("회고 알림 일괄 전송 실패: 월 = {}, 사용자 수 = {}", targetMonth, userIds.size(), e);
+			userIds.forEach(userId -> reviewJobQueueService.enqueue(targetMonth, userId, e.getMessage()));
+			return 0;
+		}
+	}
+
 	@Override
 	public void sendUserReviewMessage(Long userId, String monthYear) {
 		if (userId == null) {
@@ -162,7 +240,8 @@ public class ReviewServiceImpl implements ReviewService {
 		Map<Long, Map<ActivityType, Integer>> allActivityCounts,
 		Map<Long, Long> allScores,
 		Map<Long, Integer> allActiveGroupCounts,
-		Map<Long, MonthlyReviewResponse> allPreviousReviews) {
+		Map<Long, MonthlyReviewResponse> allPreviousReviews,
+		Map<Long, Integer> allAchievementRates) {
 		if (userId == null) {
 			throw new IllegalArgumentException("사용자 ID는 필수입니다.");
 		}
@@ -174,7 +253,8 @@ public class ReviewServiceImpl implements ReviewService {
 			allActivityCounts,
 			allScores,
 			allActiveGroupCounts,
-			allPreviousReviews
+			allPreviousReviews,
+			allAchievementRates
 		);
 
 		String messageContent;
@@ -191,15 +271,10 @@ public class ReviewServiceImpl implements ReviewService {
 		currentReview.setMessageContent(messageContent);
 		currentReview.setMessageSent(true);
 
+		// 알림은 청크가 끝난 뒤 completeChunk 에서 한 번에 보낸다
 		saveReviewToRedis(currentReview);
 
-		notificationService.createNotification(
-			NotificationType.MONTHLY_REVIEW,
-			null,
-			userId,
-			null);
-
-		log.info("사용자 회고 메시지 전송 완료: 사용자 ID = {}, 월 = {}", userId, monthYear);
+		log.info("사용자 회고 메시지 저장 완료: 사용자 ID = {}, 월 = {}", userId, monthYear);
 
 	}
 
@@ -208,29 +283,30 @@ public class ReviewServiceImpl implements ReviewService {
 		String targetMonth = monthYear != null ? monthYear :
 			LocalDate.now().minusMonths(1).format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
-		List<Long> failedUserIds = reviewRedisRepository.getFailedUserIds(targetMonth);
+		// 실패 건수에 포함되는 백오프 중/최종 실패 작업도 이번 재전송에서 처리되도록 먼저 당긴다
+		reviewJobQueueService.requeueNow(targetMonth);
+		ReviewJobQueueService.ReviewJobRunResult result = reviewJobQueueService.processDueJobs(
+			targetMonth, userId -> sendUserReviewMessage(userId, targetMonth));
 
-		if (failedUserIds.isEmpty()) {
+		if (result.isEmpty()) {
 			log.info("재전송할 실패 메시지가 없습니다. 월: {}", targetMonth);
 			return;
 		}
 
-		int retrySuccessCount = 0;
-		int retryFailCount = 0;
+		log.info("회고 메시지 재전송 완료: 월 = {}, 성공 = {}, 재예약 = {}, 최종 실패 = {}",
+			targetMonth, result.succeeded(), result.rescheduled(), result.deadLettered());
+	}
 
-		for (Long userId : failedUserIds) {
-			try {
-				sendUserReviewMessage(userId, targetMonth);
-				reviewRedisRepository.removeFailedMessage(userId, targetMonth);
-				retrySuccessCount++;
-			} catch (Exception e) {
-				retryFailCount++;
-				log.error("회고 메시지 재전송 실패: 사용자 ID = {}", userId, e);
+	@Override
+	public void processDueReviewJobs() {
+		for (String monthYear : reviewJobQueueService.getActiveMonths()) {
+			ReviewJobQueueService.ReviewJobRunResult result = reviewJobQueueService.processDueJobs(
+				monthYear, userId -> sendUserReviewMessage(userId, monthYear));
+			if (!result.isEmpty()) {
+				log.info("회고 재전송 작업 처리: 월 = {}, 성공 = {}, 재예약 = {}, 최종 실패 = {}",
+					monthYear, result.succeeded(), result.rescheduled(), result.deadLettered());
 			}
 		}
-
-		log.info("회고 메시지 재전송 완료: 월 = {}, 성공 = {}, 실패 = {}",
-			targetMonth, retrySuccessCount, retryFailCount);
 	}
 
 	@Override
@@ -238,7 +314,7 @@ public class ReviewServiceImpl implements ReviewService {
 		String targetMonth = monthYear != null ? monthYear :
 			LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM"));
 
-		return reviewRedisRepository.getFailedMessageCount(targetMonth);
+		return (int)reviewJobQueueService.getFailedCount(targetMonth);
 	}
 
 	private MonthlyReviewResponse calculateMonthlyReview(Long userId, String monthYear) {
@@ -335,9 +411,9 @@ public class ReviewServiceImpl implements ReviewService {
 		Map<Long, Map<ActivityType, Integer>> allActivityCounts,
 		Map<Long, Long> allScores,
 		Map<Long, Integer> allActiveGroupCounts,
-		Map<Long, MonthlyReviewResponse> allPreviousReviews
+		Map<Long, MonthlyReviewResponse> allPreviousReviews,
+		Map<Long, Integer> allAchievementRates
 	) {
-		LocalDate startDate = LocalDate.parse(monthYear + "-01");
 
 		Map<ActivityType, Integer> activityCounts = allActivityCounts.getOrDefault(userId, Map.of());
 
@@ -356,9 +432,8 @@ public class ReviewServiceImpl implements ReviewService {
 			long currentScore = allScores.getOrDefault(userId, 0L);
 			int currentGroups = allActiveGroupCounts.getOrDefault(userId, 0);
 
-			int personalRoutineAchievementRate = calculatePersonalRoutineAchievementRate(userId, monthYear);
+			int personalRoutineAchievementRate = allAchievementRates.getOrDefault(userId, 0);
 
-			String previousMonth = getPreviousMonth(monthYear);
 			MonthlyReviewResponse previousReview = allPreviousReviews.get(userId); // ✨ Redis 배치 조회 결과 사용
 
 			int scoreDifference = 0;
@@ -458,6 +533,13 @@ public class ReviewServiceImpl implements ReviewService {
 					saveReviewToRedis(review);
 
 					log.info("AI 메시지 생성 및 Redis 업데이트 성공: userId={}", userId);
+					return;
+
+				} catch (AiCallGovernor.AiCallRejectedException e) {
+					// 서킷이 열렸거나 쿼터 대기가 길어진 상태에서 재시도하면 부하만 키우므로 폴백 메시지를 유지한다
+					log.warn("AI 호출 제한으로 폴백 메시지 유지: userId={}, month={}, 사유={}",
+						userId, monthYear, e.getMessage());
+					return;
 
 				} catch (TimeoutException e) {
 					log.warn("AI API 타임아웃 발생 (비동기): userId={}, month={}", userId, monthYear);
@@ -478,75 +560,21 @@ public class ReviewServiceImpl implements ReviewService {
 			LocalDate startDate = LocalDate.parse(monthYear + "-01");
 			LocalDate endDate = startDate.plusMonths(1).minusDays(1);
 
-			List<UserActivity> personalRoutineActivities = userActivityRepository
-				.findByUserIdAndActivityTypeAndActivityDateBetween(
-					userId,
-					ActivityType.PERSONAL_ROUTINE_COMPLETE,
-					startDate,
-					endDate
-				);
-
-			if (personalRoutineActivities.isEmpty()) {
-				return 0;
-			}
-
-			Map<Long, List<UserActivity>> activitiesByRoutine = personalRoutineActivities.stream()
-				.filter(activity -> activity.getPersonalRoutine() != null)
-				.collect(
-					Collectors.groupingBy(activity -> activity.getPersonalRoutine().getRoutineId().longValue()));
-
-			if (activitiesByRoutine.isEmpty()) {
-				return 0;
-			}
-
-			List<Double> achievementRates = new ArrayList<>();
-
-			for (Map.Entry<Long, List<UserActivity>> entry : activitiesByRoutine.entrySet()) {
-				List<UserActivity> activities = entry.getValue();
-
-				PersonalRoutine routine = activities.get(0).getPersonalRoutine();
-				int targetCount = calculateMonthlyTargetCount(routine, startDate, endDate);
-
-				if (targetCount > 0) {
-					double achievementRate = Math.min(100.0, (double)activities.size() / targetCount * 100);
-					achievementRates.add(achievementRate);
-				}
-			}
-
-			return achievementRates.isEmpty() ? 0 :
-				(int)achievementRates.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-
+			return loadAchievementRates(List.of(userId), startDate, endDate).getOrDefault(userId, 0);
 		} catch (Exception e) {
 			log.warn("개인 루틴 성취률 계산 실패: 사용자 ID = {}", userId, e);
 			return 0;
 		}
 	}
 
-	private int calculateMonthlyTargetCount(PersonalRoutine routine, LocalDate monthStart, LocalDate monthEnd) {
-		try {
-			String repeatDays = routine.getRepeatDays();
-			if (repeatDays == null || repeatDays.length() != 7) {
-				return 0;
-			}
-
-			LocalDate current = monthStart;
-			int targetCount = 0;
-
-			while (!current.isAfter(monthEnd)) {
-				int dayOfWeek = current.getDayOfWeek().getValue();
-				int repeatIndex = dayOfWeek == 7 ? 0 : dayOfWeek;
-
-				if (repeatIndex < repeatDays.length() && repeatDays.charAt(repeatIndex) == '1') {
-					targetCount++;
-				}
-				current = current.plusDays(1);
-			}
-
-			return targetCount;
-		} catch (Exception e) {
-			log.warn("월간 목표 횟수 계산 실패: 루틴 ID = {}", routine.getRoutineId(), e);
-			return 0;
+	// 사용자/루틴별 완료 횟수를 한 번에 집계하고, 목표 횟수와 달성률은 메모리에서 계산한다
+	private Map<Long, Integer> loadAchievementRates(List<Long> userIds, LocalDate startDate, LocalDate endDate) {
+		PersonalRoutineAchievementCalculator calculator = new PersonalRoutineAchievementCalculator(startDate, endDate);
+		for (Object[] row : userActivityRepository.countRoutineActivitiesBatch(
+			userIds, ActivityType.PERSONAL_ROUTINE_COMPLETE, startDate, endDate)) {
+			calculator.add((Long)row[0], (Integer)row[1], (String)row[2], (Long)row[3]);
 		}
+		return calculator.achievementRates();
 	}
 
 	private void saveReviewToRedis(MonthlyReviewResponse review) {
@@ -661,7 +689,8 @@ public class ReviewServiceImpl implements ReviewService {
 		Map<Long, Map<ActivityType, Integer>> allActivityCounts,
 		Map<Long, Long> allScores,
 		Map<Long, Integer> allActiveGroupCounts,
-		Map<Long, MonthlyReviewResponse> allPreviousReviews) {
+		Map<Long, MonthlyReviewResponse> allPreviousReviews,
+		Map<Long, Integer> allAchievementRates) {
 		return CompletableFuture.supplyAsync(() -> {
 			try {
 				sendReviewMessageBatch(
@@ -671,11 +700,12 @@ public class ReviewServiceImpl implements ReviewService {
 					allActivityCounts,
 					allScores,
 					allActiveGroupCounts,
-					allPreviousReviews);
+					allPreviousReviews,
+					allAchievementRates);
 				return true;
 			} catch (Exception e) {
 				log.error("전송 실패: userId={}", userId, e);
-				reviewRedisRepository.saveFailedMessage(userId, monthYear, e.getMessage());
+				reviewJobQueueService.enqueue(monthYear, userId, e.getMessage());
 				return false;
 			}
 		}, executorService);
@@ -685,22 +715,29 @@ public class ReviewServiceImpl implements ReviewService {
 		MonthlyReviewResponse review, long timeoutSeconds)
 		throws TimeoutException, Exception {
 
-		Future<String> future = executorService.submit(() -> {
-			try {
-				return aiReviewService.generateAiMessage(review);
-			} catch (Exception e) {
-				throw new RuntimeException(e);
-			}
-		});
+		Future<String> future = executorService.submit(() -> aiReviewService.generateAiMessage(review));
 
 		try {
 			return future.get(timeoutSeconds, TimeUnit.SECONDS);
 		} catch (TimeoutException e) {
 			future.cancel(true);
 			throw e;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof Exception cause) {
+				throw cause;
+			}
+			throw e;
 		}
 	}
 
+	@RequiredArgsConstructor
+	@Getter
+	private static class ReviewChunk {
+		private final Long lastUserId;
+		private final List<Long> userIds;
+		private final List<CompletableFuture<Boolean>> futures;
+	}
+
 	@RequiredArgsConstructor
 	@Getter
 	private static class BatchData {
@@ -708,6 +745,7 @@ public class ReviewServiceImpl implements ReviewService {
 		private final Map<Long, Long> allScores;
 		private final Map<Long, Integer> allActiveGroupCounts;
 		private final Map<Long, MonthlyReviewResponse> allPreviousReviews;
+		private final Map<Long, Integer> allAchievementRates;
 	}
 
 	private BatchData loadAllBatchData(List<Long> allUserIds, LocalDate startDate, LocalDate endDate, String targetMonth) {
@@ -753,12 +791,16 @@ public class ReviewServiceImpl implements ReviewService {
 
 		allPreviousReviews.values().removeIf(java.util.Objects::isNull);
 
+		// 5. 개인 루틴 달성률 배치 집계
+		Map<Long, Integer> allAchievementRates = loadAchievementRates(allUserIds, startDate, endDate);
+
 
 		return new BatchData(
 			allActivityCounts,
 			allScores,
 			allActiveGroupCounts,
-			allPreviousReviews
+			allPreviousReviews,
+			allAchievementRates
 		);
 	}
 
@@ -1,9 +1,11 @@
 package com.goormi.routine.domain.user.repository;
 
 import com.goormi.routine.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +13,6 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByKakaoId(String kakaoId);
     Optional<User> findByEmail(String email);
     boolean existsByNickname(String nickname);
+    // id 커서 기반 전체 사용자 순회 (배치 작업용)
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
\ No newline at end of file
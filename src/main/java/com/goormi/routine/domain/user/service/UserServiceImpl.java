@@ -2,12 +2,14 @@ package com.goormi.routine.domain.user.service;
 
 import com.goormi.routine.domain.auth.repository.RedisRepository;
 import com.goormi.routine.domain.auth.service.JwtTokenProvider;
+import com.goormi.routine.domain.chat.service.ChatSessionService.UserProfileChangeEvent;
 import com.goormi.routine.domain.ranking.service.RankingService;
 import com.goormi.routine.domain.user.dto.UserRequest;
 import com.goormi.routine.domain.user.dto.UserResponse;
 import com.goormi.routine.domain.user.entity.User;
 import com.goormi.routine.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -18,6 +20,7 @@ public class UserServiceImpl implements UserService {
 	private final RedisRepository redisRepository;
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RankingService rankingService;
+	private final ApplicationEventPublisher applicationEventPublisher;
 
 	@Override
 	public UserResponse getMyProfile(Long userId) {
@@ -32,6 +35,9 @@ public class UserServiceImpl implements UserService {
 			.orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 		user.updateProfile(request.nickname(), request.profileMessage(), request.profileImageUrl());
 		userRepository.save(user);
+
+		// 채팅 세션에 캐시된 프로필 스냅샷 무효화
+		applicationEventPublisher.publishEvent(new UserProfileChangeEvent(userId));
 		return toResponse(user);
 	}
 
@@ -51,6 +57,7 @@ public class UserServiceImpl implements UserService {
 		user.setActive(false);
 
 		userRepository.save(user);
+		applicationEventPublisher.publishEvent(new UserProfileChangeEvent(userId));
 
 		long expiration = jwtTokenProvider.getRemainingExpiration(accessToken);
 		redisRepository.saveBlackList(accessToken, expiration);
@@ -78,4 +78,25 @@ public interface UserActivityRepository extends JpaRepository<UserActivity, Long
         @Param("startDate") LocalDate startDate,
         @Param("endDate") LocalDate endDate
     );
+
+    // 월간 회고 개인 루틴 달성률용: 사용자/루틴별 완료 횟수와 반복 요일
+    @Query("""
+    SELECT
+        ua.user.id,
+        pr.routineId,
+        pr.repeatDays,
+        COUNT(ua)
+    FROM UserActivity ua
+    JOIN ua.personalRoutine pr
+    WHERE ua.user.id IN :userIds
+      AND ua.activityType = :activityType
+      AND ua.activityDate BETWEEN :startDate AND :endDate
+    GROUP BY ua.user.id, pr.routineId, pr.repeatDays
+    """)
+    List<Object[]> countRoutineActivitiesBatch(
+        @Param("userIds") List<Long> userIds,
+        @Param("activityType") ActivityType activityType,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate
+    );
 }
@@ -0,0 +1,173 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.goormi.routine.common.scheduler.repository.SchedulerRedisRepository;
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.entity.ChatArchiveSegment;
+import com.goormi.routine.domain.chat.entity.ChatMessage;
+import com.goormi.routine.domain.chat.repository.ChatArchiveSegmentRepository;
+import com.goormi.routine.domain.chat.repository.ChatArchiveStore;
+import com.goormi.routine.domain.chat.repository.ChatMessageRepository;
+import com.goormi.routine.domain.chat.repository.LocalChatArchiveStore;
+import com.goormi.routine.domain.chat.repository.MessageReactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatArchiveServiceTest {
+
+    private static final Long ROOM_ID = 10L;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private MessageReactionRepository messageReactionRepository;
+    @Mock
+    private ChatArchiveSegmentRepository chatArchiveSegmentRepository;
+    @Mock
+    private MessageReactionService messageReactionService;
+    @Mock
+    private SchedulerRedisRepository schedulerRedisRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path archiveDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("커서가 hot 범위에 있으면 세그먼트 메타데이터만으로 아카이브 메시지 수를 셈")
+    void countsFromMetadataWhenCursorIsAfterArchive() throws IOException {
+        ChatArchiveStore store = mock(ChatArchiveStore.class);
+        given(chatArchiveSegmentRepository.sumMessageCountByRoomIdBefore(ROOM_ID, 100L)).willReturn(6L);
+        given(chatArchiveSegmentRepository.findStraddling(ROOM_ID, 100L)).willReturn(List.of());
+
+        assertThat(service(store).countArchivedMessages(ROOM_ID, 100L)).isEqualTo(6L);
+        verify(store, never()).open(anyString());
+    }
+
+    @Test
+    @DisplayName("커서가 걸친 세그먼트는 커서 이전 메시지만 세고, 이어서 조회는 세그먼트 경계를 넘어 id 내림차순으로 반환")
+    void countsAndPagesAcrossSegmentBoundary() throws IOException {
+        LocalChatArchiveStore store = new LocalChatArchiveStore(archiveDir.toString());
+        ChatArchiveSegment january = segment("2025-01", store, 1L, 2L, 3L);
+        ChatArchiveSegment february = segment("2025-02", store, 4L, 5L, 6L);
+        given(chatArchiveSegmentRepository.sumMessageCountByRoomIdBefore(ROOM_ID, 6L)).willReturn(3L);
+        given(chatArchiveSegmentRepository.findStraddling(ROOM_ID, 6L)).willReturn(List.of(february));
+        given(chatArchiveSegmentRepository.findByRoomIdOrderByMaxMessageIdDesc(ROOM_ID))
+                .willReturn(List.of(february, january));
+        ChatArchiveServiceImpl service = service(store);
+
+        assertThat(service.countArchivedMessages(ROOM_ID, 6L)).isEqualTo(5L);
+        assertThat(service.findArchivedMessages(ROOM_ID, 6L, 1, 3))
+                .extracting(ChatMessageDto::getId)
+                .containsExactly(4L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("세그먼트에는 hot 테이블에서 실제로 삭제된 수만 더하고, 청크마다 스케줄러 락을 연장")
+    void countsDeletedRowsAndExtendsLock() {
+        LocalChatArchiveStore store = new LocalChatArchiveStore(archiveDir.toString());
+        ChatArchiveSegment january = ChatArchiveSegment.builder()
+                .roomId(ROOM_ID)
+                .archiveMonth("2025-01")
+                .storageKey(ROOM_ID + "/2025-01.ndjson.gz")
+                .messageCount(3L)
+                .minMessageId(1L)
+                .maxMessageId(3L)
+                .build();
+        given(schedulerRedisRepository.tryLock(eq("chat_archive"), anyLong())).willReturn(true);
+        given(chatMessageRepository.findRoomIdsWithMessagesBefore(any(LocalDateTime.class))).willReturn(List.of(ROOM_ID));
+        given(chatMessageRepository.findByRoomIdAndCreatedAtBeforeOrderByIdAsc(eq(ROOM_ID), any(LocalDateTime.class),
+                any(Pageable.class)))
+                .willReturn(List.of(message(4L), message(5L)));
+        given(messageReactionService.getReactionsByMessageIds(List.of(4L, 5L))).willReturn(Map.of());
+        // 5번은 겹쳐 돈 다른 실행이 이미 옮김
+        given(chatMessageRepository.deleteAllByIdIn(List.of(4L, 5L))).willReturn(1);
+        given(chatArchiveSegmentRepository.findByRoomIdAndArchiveMonth(ROOM_ID, "2025-01")).willReturn(Optional.of(january));
+
+        ChatArchiveServiceImpl service = new ChatArchiveServiceImpl(chatMessageRepository, messageReactionRepository,
+                chatArchiveSegmentRepository, messageReactionService, store, schedulerRedisRepository,
+                objectMapper, new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "retentionDays", 180);
+        ReflectionTestUtils.setField(service, "batchSize", 500);
+
+        service.archiveExpiredMessages();
+
+        assertThat(january.getMessageCount()).isEqualTo(4L);
+        assertThat(january.getMaxMessageId()).isEqualTo(5L);
+        assertThat(january.getMaxSeq()).isEqualTo(50L);
+        verify(schedulerRedisRepository, times(1)).extendLock(eq("chat_archive"), anyLong());
+        verify(schedulerRedisRepository).unlock("chat_archive");
+    }
+
+    private ChatMessage message(Long id) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId(ROOM_ID)
+                .seq(id * 10)
+                .userId(1L)
+                .message("message " + id)
+                .messageType(ChatMessage.MessageType.TALK)
+                .createdAt(LocalDateTime.of(2025, 1, 15, 12, 0))
+                .build();
+    }
+
+    private ChatArchiveServiceImpl service(ChatArchiveStore store) {
+        return new ChatArchiveServiceImpl(chatMessageRepository, messageReactionRepository,
+                chatArchiveSegmentRepository, messageReactionService, store, schedulerRedisRepository,
+                objectMapper, transactionTemplate);
+    }
+
+    private ChatArchiveSegment segment(String month, ChatArchiveStore store, Long... ids) throws IOException {
+        String storageKey = ROOM_ID + "/" + month + ".ndjson.gz";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            for (Long id : ids) {
+                gzip.write(objectMapper.writeValueAsBytes(ChatMessageDto.builder().id(id).roomId(ROOM_ID).build()));
+                gzip.write('\n');
+            }
+        }
+        store.append(storageKey, bytes.toByteArray());
+
+        return ChatArchiveSegment.builder()
+                .roomId(ROOM_ID)
+                .archiveMonth(month)
+                .storageKey(storageKey)
+                .messageCount((long) ids.length)
+                .minMessageId(ids[0])
+                .maxMessageId(ids[ids.length - 1])
+                .build();
+    }
+}
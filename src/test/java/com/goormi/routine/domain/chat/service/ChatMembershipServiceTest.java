@@ -0,0 +1,96 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.entity.ChatMember;
+import com.goormi.routine.domain.chat.repository.ChatMemberRedisRepository;
+import com.goormi.routine.domain.chat.repository.ChatMemberRepository;
+import com.goormi.routine.domain.chat.repository.ChatSessionRepositoryImpl;
+import com.goormi.routine.domain.chat.service.ChatSessionService.ChatMembershipChangeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMembershipServiceTest {
+
+    private static final Long ROOM_ID = 10L;
+
+    @Mock
+    private ChatMemberRepository chatMemberRepository;
+    @Mock
+    private ChatMemberRedisRepository chatMemberRedisRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ChatMembershipServiceImpl chatMembershipService;
+
+    @BeforeEach
+    void setUp() {
+        chatMembershipService = new ChatMembershipServiceImpl(chatMemberRepository, chatMemberRedisRepository,
+                new ChatSessionRepositoryImpl(), stringRedisTemplate, new ChannelTopic("chat-membership"));
+    }
+
+    @Test
+    @DisplayName("인덱스가 없으면 DB 조회 전에 읽은 버전으로 로딩을 요청")
+    void loadsIndexWithVersionReadBeforeDatabase() {
+        given(chatMemberRedisRepository.isMember(ROOM_ID, 1L)).willReturn(null);
+        given(chatMemberRedisRepository.getVersion(ROOM_ID)).willReturn("3");
+        List<ChatMember> members = List.of(member(1L), member(2L));
+        given(chatMemberRepository.findByRoomIdAndIsActiveTrue(ROOM_ID)).willReturn(members);
+
+        assertThat(chatMembershipService.isMember(ROOM_ID, 1L)).isTrue();
+
+        InOrder order = inOrder(chatMemberRedisRepository, chatMemberRepository);
+        order.verify(chatMemberRedisRepository).getVersion(ROOM_ID);
+        order.verify(chatMemberRepository).findByRoomIdAndIsActiveTrue(ROOM_ID);
+        order.verify(chatMemberRedisRepository).loadMembers(ROOM_ID, List.of(1L, 2L), "3");
+    }
+
+    @Test
+    @DisplayName("로딩 도중 멤버십이 바뀌어 인덱스가 채워지지 않아도 DB 결과로 응답")
+    void answersFromDatabaseWhenLoadIsRejected() {
+        given(chatMemberRedisRepository.isMember(ROOM_ID, 2L)).willReturn(null);
+        given(chatMemberRedisRepository.getVersion(ROOM_ID)).willReturn("0");
+        given(chatMemberRepository.findByRoomIdAndIsActiveTrue(ROOM_ID)).willReturn(List.of(member(1L)));
+        given(chatMemberRedisRepository.loadMembers(ROOM_ID, List.of(1L), "0")).willReturn(false);
+
+        assertThat(chatMembershipService.isMember(ROOM_ID, 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("멤버십 변경 시 인덱스를 고치지 않고 지운 뒤 다른 인스턴스에 무효화를 전파")
+    void membershipChangeInvalidatesIndex() {
+        given(chatMemberRedisRepository.isMember(ROOM_ID, 1L)).willReturn(true, false);
+        assertThat(chatMembershipService.isMember(ROOM_ID, 1L)).isTrue();
+
+        chatMembershipService.handleChatMembershipChange(new ChatMembershipChangeEvent(ROOM_ID, 1L, false));
+
+        verify(chatMemberRedisRepository).invalidate(ROOM_ID);
+        verify(chatMemberRedisRepository, never()).loadMembers(anyLong(), anyCollection(), any());
+        verify(stringRedisTemplate).convertAndSend("chat-membership", ROOM_ID + ":1");
+        // near-cache 도 비워져 바로 인덱스를 다시 조회한다
+        assertThat(chatMembershipService.isMember(ROOM_ID, 1L)).isFalse();
+        verify(chatMemberRedisRepository, times(2)).isMember(ROOM_ID, 1L);
+    }
+
+    private ChatMember member(Long userId) {
+        return ChatMember.builder().roomId(ROOM_ID).userId(userId).isActive(true).build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.entity.ChatMessage;
+import com.goormi.routine.domain.chat.repository.ChatMessageRepository;
+import com.goormi.routine.domain.user.entity.User;
+import com.goormi.routine.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomServiceTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final String EMAIL = "user@test.com";
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private MessageReactionService messageReactionService;
+    @Mock
+    private ChatMembershipService chatMembershipService;
+    @Mock
+    private ChatArchiveService chatArchiveService;
+
+    @InjectMocks
+    private ChatRoomServiceImpl chatRoomService;
+
+    @BeforeEach
+    void setUp() {
+        given(userRepository.findByEmail(EMAIL)).willReturn(Optional.of(User.builder().id(1L).build()));
+        given(chatMembershipService.isMember(ROOM_ID, 1L)).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("hot 테이블에서 페이지가 차면 아카이브 세그먼트를 조회하지 않음")
+    void fullHotPageSkipsArchive() {
+        Pageable pageable = PageRequest.of(0, 3);
+        given(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(ROOM_ID, pageable))
+                .willReturn(hotPage(pageable, 10, 30L, 29L, 28L));
+        given(chatArchiveService.countArchivedMessages(ROOM_ID, null)).willReturn(20L);
+
+        Page<ChatMessageDto> page = chatRoomService.getMessages(ROOM_ID, null, pageable, EMAIL);
+
+        assertThat(page.getContent()).extracting(ChatMessageDto::getId).containsExactly(30L, 29L, 28L);
+        assertThat(page.getTotalElements()).isEqualTo(30L);
+        verify(chatArchiveService, never()).findArchivedMessages(anyLong(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("hot 페이지가 모자라면 남은 개수만큼 아카이브에서 이어서 채움")
+    void shortHotPageContinuesIntoArchive() {
+        Pageable pageable = PageRequest.of(1, 3);
+        given(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(ROOM_ID, pageable))
+                .willReturn(hotPage(pageable, 4, 27L));
+        given(chatArchiveService.findArchivedMessages(ROOM_ID, null, 0L, 2))
+                .willReturn(List.of(archived(26L), archived(25L)));
+        given(chatArchiveService.countArchivedMessages(ROOM_ID, null)).willReturn(20L);
+
+        Page<ChatMessageDto> page = chatRoomService.getMessages(ROOM_ID, null, pageable, EMAIL);
+
+        assertThat(page.getContent()).extracting(ChatMessageDto::getId).containsExactly(27L, 26L, 25L);
+        assertThat(page.getTotalElements()).isEqualTo(24L);
+    }
+
+    @Test
+    @DisplayName("hot 테이블을 모두 지난 페이지는 hot 전체 수만큼 건너뛴 아카이브 위치부터 조회")
+    void pageBeyondHotTableOffsetsIntoArchive() {
+        Pageable pageable = PageRequest.of(3, 3);
+        given(chatMessageRepository.findByRoomIdOrderByCreatedAtDesc(ROOM_ID, pageable))
+                .willReturn(hotPage(pageable, 4));
+        given(chatArchiveService.findArchivedMessages(ROOM_ID, null, 5L, 3))
+                .willReturn(List.of(archived(20L), archived(19L), archived(18L)));
+        given(chatArchiveService.countArchivedMessages(ROOM_ID, null)).willReturn(20L);
+
+        Page<ChatMessageDto> page = chatRoomService.getMessages(ROOM_ID, null, pageable, EMAIL);
+
+        assertThat(page.getContent()).extracting(ChatMessageDto::getId).containsExactly(20L, 19L, 18L);
+    }
+
+    private Page<ChatMessage> hotPage(Pageable pageable, long total, Long... ids) {
+        List<ChatMessage> messages = Arrays.stream(ids)
+                .map(id -> ChatMessage.builder().id(id).roomId(ROOM_ID).build())
+                .toList();
+        return new PageImpl<>(messages, pageable, total);
+    }
+
+    private ChatMessageDto archived(Long id) {
+        return ChatMessageDto.builder().id(id).roomId(ROOM_ID).build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.entity.ChatMessage;
+import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
+import com.goormi.routine.domain.chat.repository.ChatMessageRepository;
+import com.goormi.routine.domain.chat.repository.ChatSearchIndexRepository;
+import com.goormi.routine.domain.chat.service.ChatSearchService.ChatMessageSavedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ChatSearchServiceTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatMembershipService chatMembershipService;
+    @Mock
+    private ChatArchiveService chatArchiveService;
+
+    private ChatSearchIndexRepository chatSearchIndexRepository;
+    private ExecutorService executorService;
+    private ChatSearchServiceImpl chatSearchService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        chatSearchIndexRepository = new ChatSearchIndexRepository("");
+        executorService = Executors.newSingleThreadExecutor();
+        chatSearchService = new ChatSearchServiceImpl(chatSearchIndexRepository, chatMessageRepository,
+                chatMembershipService, chatArchiveService, executorService);
+        given(chatMembershipService.isMember(ROOM_ID, USER_ID)).willReturn(true);
+
+        chatSearchService.handleChatMessageSaved(new ChatMessageSavedEvent(dto(1L, "예전 운동 인증")));
+        chatSearchService.refreshIndex();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        executorService.shutdownNow();
+        chatSearchIndexRepository.destroy();
+    }
+
+    @Test
+    @DisplayName("재생성 도중에도 기존 인덱스로 검색되고, 완료되면 DB 기준 인덱스로 교체되며 도중에 들어온 메시지도 남음")
+    void rebuildSwapsInShadowIndex() throws Exception {
+        given(chatMessageRepository.findByIdGreaterThanAndMessageTypeInOrderByIdAsc(eq(0L), anyCollection(), any(Pageable.class)))
+                .willAnswer(invocation -> {
+                    assertThat(searchIds("운동")).containsExactly(1L);
+                    chatSearchService.handleChatMessageSaved(new ChatMessageSavedEvent(dto(3L, "오늘 운동 완료")));
+                    return List.of(entity(2L, "새 운동 계획"));
+                });
+        given(chatMessageRepository.findByIdGreaterThanAndMessageTypeInOrderByIdAsc(eq(2L), anyCollection(), any(Pageable.class)))
+                .willReturn(List.of());
+
+        rebuildAndWait();
+
+        // 1번은 DB 에 없으므로 교체 후 사라지고, 재생성 중 저장된 3번은 유지된다
+        assertThat(searchIds("운동")).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("닉네임이나 보낸 사람이 없는 공지도 색인되고 검색됨")
+    void indexesMessageWithoutSender() {
+        ChatMessageDto notice = ChatMessageDto.builder()
+                .id(6L)
+                .roomId(ROOM_ID)
+                .message("운동 공지")
+                .messageType(MessageType.NOTICE)
+                .build();
+
+        chatSearchService.handleChatMessageSaved(new ChatMessageSavedEvent(notice));
+        chatSearchService.refreshIndex();
+
+        ChatMessageDto found = chatSearchService.search(ROOM_ID, "공지", null, 10, USER_ID).getMessages().get(0);
+        assertThat(found.getId()).isEqualTo(6L);
+        assertThat(found.getUserId()).isNull();
+        assertThat(found.getSenderNickname()).isNull();
+    }
+
+    @Test
+    @DisplayName("재생성은 아카이브 세그먼트의 메시지도 다시 색인")
+    void rebuildIncludesArchivedMessages() throws Exception {
+        given(chatMessageRepository.findByIdGreaterThanAndMessageTypeInOrderByIdAsc(eq(0L), anyCollection(), any(Pageable.class)))
+                .willReturn(List.of());
+        ChatMessageDto enter = ChatMessageDto.builder()
+                .id(5L)
+                .roomId(ROOM_ID)
+                .message("운동방에 입장했습니다")
+                .messageType(MessageType.ENTER)
+                .build();
+        willAnswer(invocation -> {
+            Consumer<List<ChatMessageDto>> consumer = invocation.getArgument(0);
+            consumer.accept(List.of(dto(1L, "예전 운동 인증"), enter));
+            consumer.accept(List.of(dto(4L, "작년 운동 기록")));
+            return null;
+        }).given(chatArchiveService).forEachArchivedSegment(any());
+
+        rebuildAndWait();
+
+        assertThat(searchIds("운동")).containsExactly(4L, 1L);
+    }
+
+    @Test
+    @DisplayName("재생성이 실패하면 기존 인덱스를 그대로 유지")
+    void failedRebuildKeepsLiveIndex() throws Exception {
+        given(chatMessageRepository.findByIdGreaterThanAndMessageTypeInOrderByIdAsc(eq(0L), anyCollection(), any(Pageable.class)))
+                .willReturn(List.of(entity(2L, "새 운동 계획")));
+        given(chatMessageRepository.findByIdGreaterThanAndMessageTypeInOrderByIdAsc(eq(2L), anyCollection(), any(Pageable.class)))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        rebuildAndWait();
+
+        assertThat(searchIds("운동")).containsExactly(1L);
+        assertThat(chatSearchService.isRebuilding()).isFalse();
+    }
+
+    private void rebuildAndWait() throws InterruptedException {
+        chatSearchService.rebuildIndex();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        chatSearchService.refreshIndex();
+    }
+
+    private List<Long> searchIds(String keyword) {
+        return chatSearchService.search(ROOM_ID, keyword, null, 10, USER_ID).getMessages().stream()
+                .map(ChatMessageDto::getId)
+                .toList();
+    }
+
+    private ChatMessageDto dto(Long id, String text) {
+        return ChatMessageDto.builder()
+                .id(id)
+                .roomId(ROOM_ID)
+                .userId(USER_ID)
+                .senderNickname("tester")
+                .message(text)
+                .messageType(MessageType.TALK)
+                .build();
+    }
+
+    private ChatMessage entity(Long id, String text) {
+        return ChatMessage.builder()
+                .id(id)
+                .roomId(ROOM_ID)
+                .userId(USER_ID)
+                .senderNickname("tester")
+                .message(text)
+                .messageType(MessageType.TALK)
+                .build();
+    }
+}
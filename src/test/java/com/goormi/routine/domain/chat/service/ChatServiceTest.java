@@ -0,0 +1,163 @@
+package com.goormi.routine.domain.chat.service;
+
+import com.goormi.routine.domain.chat.dto.ChatMessageDto;
+import com.goormi.routine.domain.chat.dto.ChatSessionContext;
+import com.goormi.routine.domain.chat.entity.ChatMessage;
+import com.goormi.routine.domain.chat.entity.ChatMessage.MessageType;
+import com.goormi.routine.domain.chat.entity.ChatRoom;
+import com.goormi.routine.domain.chat.repository.ChatArchiveSegmentRepository;
+import com.goormi.routine.domain.chat.repository.ChatMemberRedisRepository;
+import com.goormi.routine.domain.chat.repository.ChatMemberRepository;
+import com.goormi.routine.domain.chat.repository.ChatMessageRepository;
+import com.goormi.routine.domain.chat.repository.ChatRoomRepository;
+import com.goormi.routine.domain.chat.repository.ChatSequenceRedisRepository;
+import com.goormi.routine.domain.chat.repository.ChatSessionRepository;
+import com.goormi.routine.domain.chat.repository.ChatSessionRepositoryImpl;
+import com.goormi.routine.domain.group.entity.Group;
+import com.goormi.routine.domain.group.repository.GroupRepository;
+import com.goormi.routine.domain.notification.service.NotificationService;
+import com.goormi.routine.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceTest {
+
+    private static final Long ROOM_ID = 10L;
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+    @Mock
+    private ChatSequenceRedisRepository chatSequenceRedisRepository;
+    @Mock
+    private ChatArchiveSegmentRepository chatArchiveSegmentRepository;
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private GroupRepository groupRepository;
+    @Mock
+    private RedisMessagePublisher redisMessagePublisher;
+    @Mock
+    private ChatReadCursorService chatReadCursorService;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private ChatMemberRepository chatMemberRepository;
+    @Mock
+    private ChatMemberRedisRepository chatMemberRedisRepository;
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private ChatSessionRepository chatSessionRepository;
+    private ChatMembershipServiceImpl chatMembershipService;
+    private ChatServiceImpl chatService;
+
+    @BeforeEach
+    void setUp() {
+        chatSessionRepository = new ChatSessionRepositoryImpl();
+        chatMembershipService = new ChatMembershipServiceImpl(chatMemberRepository, chatMemberRedisRepository,
+                chatSessionRepository, stringRedisTemplate, new ChannelTopic("chat-membership"));
+        chatService = new ChatServiceImpl(chatMessageRepository, chatSequenceRedisRepository,
+                chatArchiveSegmentRepository, chatRoomRepository,
+                userRepository, groupRepository, redisMessagePublisher, chatMembershipService,
+                chatReadCursorService, applicationEventPublisher,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), notificationService);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 탈퇴가 전파되면 세션의 검증 기록이 지워져 이후 전송이 거부됨")
+    void sendAfterRemoteRemovalIsRejected() {
+        ChatSessionContext context = new ChatSessionContext(USER_ID);
+        context.addVerifiedRoom(ROOM_ID);
+        chatSessionRepository.save("session-1", context);
+        given(chatMemberRedisRepository.isMember(ROOM_ID, USER_ID)).willReturn(false);
+
+        // chat-membership 토픽으로 수신한 무효화 메시지
+        chatMembershipService.evictLocal(ROOM_ID + ":" + USER_ID);
+
+        assertThat(context.isVerifiedMember(ROOM_ID)).isFalse();
+        assertThatThrownBy(() -> chatService.saveAndSendMessage(talk(null), context))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(chatMessageRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("같은 clientMessageId 재전송이 동시에 저장되어 유니크 제약에 걸리면 먼저 저장된 메시지를 반환")
+    void concurrentRetryReturnsExistingMessage() {
+        ChatSessionContext context = new ChatSessionContext(USER_ID);
+        context.addVerifiedRoom(ROOM_ID);
+        ChatMessage existing = ChatMessage.builder()
+                .id(100L)
+                .roomId(ROOM_ID)
+                .seq(7L)
+                .clientMessageId("client-1")
+                .userId(USER_ID)
+                .message("hello")
+                .messageType(MessageType.TALK)
+                .build();
+        given(chatMessageRepository.findByUserIdAndClientMessageId(USER_ID, "client-1"))
+                .willReturn(Optional.empty(), Optional.of(existing));
+        given(chatSequenceRedisRepository.next(ROOM_ID)).willReturn(8L);
+        given(chatMessageRepository.save(any(ChatMessage.class)))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_chat_msg_client_id'"));
+
+        ChatMessageDto result = chatService.saveAndSendMessage(talk("client-1"), context);
+
+        assertThat(result.getId()).isEqualTo(100L);
+        assertThat(result.getSeq()).isEqualTo(7L);
+        verify(redisMessagePublisher, never()).publish(any());
+    }
+
+    @Test
+    @DisplayName("순번 키가 사라지면 hot 테이블과 아카이브 중 큰 순번부터 이어서 발급")
+    void reseedsSequenceFromArchive() {
+        ChatSessionContext context = new ChatSessionContext(USER_ID);
+        context.addVerifiedRoom(ROOM_ID);
+        given(chatSequenceRedisRepository.exists(ROOM_ID)).willReturn(false);
+        given(chatMessageRepository.findMaxSeqByRoomId(ROOM_ID)).willReturn(0L);
+        given(chatArchiveSegmentRepository.findMaxSeqByRoomId(ROOM_ID)).willReturn(1200L);
+        given(chatSequenceRedisRepository.next(ROOM_ID)).willReturn(1201L);
+        given(chatMessageRepository.save(any(ChatMessage.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(chatRoomRepository.findById(ROOM_ID)).willReturn(Optional.of(ChatRoom.builder().id(ROOM_ID).groupId(20L).build()));
+        given(groupRepository.findById(20L)).willReturn(Optional.of(Group.builder().groupName("group").build()));
+
+        ChatMessageDto result = chatService.saveAndSendMessage(talk(null), context);
+
+        assertThat(result.getSeq()).isEqualTo(1201L);
+        verify(chatSequenceRedisRepository).initializeIfAbsent(ROOM_ID, 1200L);
+    }
+
+    private ChatMessageDto talk(String clientMessageId) {
+        return ChatMessageDto.builder()
+                .roomId(ROOM_ID)
+                .clientMessageId(clientMessageId)
+                .message("hello")
+                .messageType(MessageType.TALK)
+                .build();
+    }
+}
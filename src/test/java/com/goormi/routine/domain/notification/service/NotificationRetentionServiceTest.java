@@ -0,0 +1,138 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.goormi.routine.common.scheduler.repository.SchedulerRedisRepository;
+import com.goormi.routine.domain.notification.dto.NotificationArchiveRecord;
+import com.goormi.routine.domain.notification.dto.NotificationPurgeResult;
+import com.goormi.routine.domain.notification.entity.NotificationType;
+import com.goormi.routine.domain.notification.repository.NotificationArchiveStore;
+import com.goormi.routine.domain.notification.repository.NotificationRepository;
+import com.goormi.routine.domain.notification.service.NotificationUnreadCountService.UnreadCountChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionServiceTest {
+
+    private static final String SCHEDULER_NAME = "notification_retention";
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 4, 30);
+    private static final LocalDateTime READ_CUTOFF = NOW.minusDays(90);
+    private static final LocalDateTime EXPIRE_CUTOFF = NOW.minusDays(365);
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private NotificationArchiveStore notificationArchiveStore;
+    @Mock
+    private SchedulerRedisRepository schedulerRedisRepository;
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private NotificationRetentionServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NotificationRetentionServiceImpl(notificationRepository, notificationArchiveStore,
+                schedulerRedisRepository, applicationEventPublisher, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "batchSize", 3);
+        ReflectionTestUtils.setField(service, "batchPauseMillis", 0L);
+        ReflectionTestUtils.setField(service, "maxRowsPerRun", 1_000L);
+    }
+
+    @Test
+    @DisplayName("만료된 알림과 오래된 읽은 알림만 배치별로 삭제하고, 최근 알림에 닿으면 스캔을 멈추고 체크포인트를 지움")
+    void purgesByRuleAndStopsAtRecent() {
+        given(notificationRepository.findArchiveRecordsAfter(0L, PageRequest.of(0, 3))).willReturn(List.of(
+                record(1L, false, EXPIRE_CUTOFF.minusDays(1)),
+                record(2L, false, READ_CUTOFF.minusDays(1)),
+                record(3L, true, READ_CUTOFF.minusDays(1))));
+        given(notificationRepository.findArchiveRecordsAfter(3L, PageRequest.of(0, 3))).willReturn(List.of(
+                record(4L, true, READ_CUTOFF.minusDays(1)),
+                record(5L, true, READ_CUTOFF.plusDays(1)),
+                record(6L, true, READ_CUTOFF.plusDays(2))));
+
+        NotificationPurgeResult result = service.purge(READ_CUTOFF, EXPIRE_CUTOFF);
+
+        // 2번은 읽지 않았고 아직 만료 전이라 남고, 5번부터는 read-days 이내라 남는다
+        verify(notificationRepository).deleteAllByIdIn(List.of(1L, 3L));
+        verify(notificationRepository).deleteAllByIdIn(List.of(4L));
+        assertThat(result.expiredPurged()).isEqualTo(1);
+        assertThat(result.readPurged()).isEqualTo(2);
+        assertThat(result.batches()).isEqualTo(2);
+        verify(schedulerRedisRepository).deleteCheckpoint(SCHEDULER_NAME);
+        verify(schedulerRedisRepository, never()).saveCheckpoint(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("한 번에 읽는 행 수를 넘기면 마지막 id 를 체크포인트로 남기고, 다음 실행은 그 뒤부터 읽음")
+    void resumesFromCheckpointWhenScanBudgetIsExhausted() {
+        ReflectionTestUtils.setField(service, "maxRowsPerRun", 4L);
+        given(notificationRepository.findArchiveRecordsAfter(0L, PageRequest.of(0, 3))).willReturn(List.of(
+                record(1L, false, READ_CUTOFF.minusDays(3)),
+                record(2L, false, READ_CUTOFF.minusDays(3)),
+                record(3L, false, READ_CUTOFF.minusDays(3))));
+        given(notificationRepository.findArchiveRecordsAfter(3L, PageRequest.of(0, 1))).willReturn(List.of(
+                record(4L, false, READ_CUTOFF.minusDays(2))));
+
+        NotificationPurgeResult first = service.purge(READ_CUTOFF, EXPIRE_CUTOFF);
+
+        // 남겨 두는 알림만 읽었어도 읽은 행 수로 실행이 끝난다
+        assertThat(first.totalPurged()).isZero();
+        assertThat(first.lastScannedId()).isEqualTo(4L);
+        verify(schedulerRedisRepository).saveCheckpoint(SCHEDULER_NAME, 4L);
+
+        given(schedulerRedisRepository.getCheckpoint(SCHEDULER_NAME)).willReturn(4L);
+        given(notificationRepository.findArchiveRecordsAfter(4L, PageRequest.of(0, 3))).willReturn(List.of(
+                record(5L, true, READ_CUTOFF.minusDays(1))));
+
+        NotificationPurgeResult second = service.purge(READ_CUTOFF, EXPIRE_CUTOFF);
+
+        // 첫 배치는 첫 실행에서만 읽었다
+        verify(notificationRepository).findArchiveRecordsAfter(0L, PageRequest.of(0, 3));
+        verify(notificationRepository).deleteAllByIdIn(List.of(5L));
+        assertThat(second.readPurged()).isEqualTo(1);
+        verify(schedulerRedisRepository).deleteCheckpoint(SCHEDULER_NAME);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림을 지우면 수신자 배지 캐시를 초기화하는 이벤트를 발행")
+    void resetsUnreadBadgeWhenUnreadNotificationIsPurged() {
+        given(notificationRepository.findArchiveRecordsAfter(0L, PageRequest.of(0, 3)))
+                .willReturn(List.of(record(1L, false, EXPIRE_CUTOFF.minusDays(1))));
+
+        service.purge(READ_CUTOFF, EXPIRE_CUTOFF);
+
+        ArgumentCaptor<UnreadCountChangedEvent> event = ArgumentCaptor.forClass(UnreadCountChangedEvent.class);
+        verify(applicationEventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getUserId()).isEqualTo(7L);
+        assertThat(event.getValue().isReset()).isTrue();
+    }
+
+    private NotificationArchiveRecord record(Long id, boolean isRead, LocalDateTime createdAt) {
+        return new NotificationArchiveRecord(id, 7L, 8L, 9L, NotificationType.GROUP_JOIN_REQUEST,
+                "content", isRead, createdAt);
+    }
+}
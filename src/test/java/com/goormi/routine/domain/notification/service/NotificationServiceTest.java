@@ -9,6 +9,7 @@ import com.goormi.routine.domain.group.repository.GroupMemberRepository;
 import com.goormi.routine.domain.group.repository.GroupRepository;
 import com.goormi.routine.domain.group.service.GroupMemberService;
 import com.goormi.routine.domain.group.service.GroupService;
+import com.goormi.routine.domain.notification.dto.NotificationCursorResponse;
 import com.goormi.routine.domain.notification.dto.NotificationResponse;
 import com.goormi.routine.domain.notification.entity.Notification;
 import com.goormi.routine.domain.notification.entity.NotificationType;
@@ -29,6 +30,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -116,6 +119,46 @@ class NotificationServiceTest {
         assertThat(notifications.getContent().get(0).getNotificationType()).isEqualTo(type);
     }
 
+    @Test
+    @DisplayName("구간 안의 같은 타입/그룹/수신자 알림은 하나로 합쳐짐")
+    void createNotificationCoalesced() {
+        // given
+        NotificationResponse first = notificationService.createNotification(NotificationType.GROUP_JOIN_REQUEST, user.getId(), leader.getId(), savedGroup.getGroupId());
+
+        // when
+        NotificationResponse second = notificationService.createNotification(NotificationType.GROUP_JOIN_REQUEST, user.getId(), leader.getId(), savedGroup.getGroupId());
+
+        // then
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(second.getAggregateCount()).isEqualTo(2);
+        // 같은 사람이 다시 요청해도 "외 1명" 이 아니라 요청 건수로 표시된다
+        assertThat(second.getContent()).isEqualTo(savedGroup.getGroupName() + "에 그룹 가입 요청 2건이 있습니다. (최근: "
+                + user.getNickname() + "님)");
+        assertThat(notificationRepository.countByReceiver_IdAndIsReadFalse(leader.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 수신자에게 알림 일괄 생성")
+    void createNotifications() {
+        // given
+        NotificationType type = NotificationType.GROUP_TODAY_AUTH_COMPLETED;
+        String expectedContent = leader.getNickname() + "님이 " + user.getNickname() + "님의 "
+                + savedGroup.getGroupName() + "의 그룹 인증을 수락했습니다.";
+
+        // when - 중복 수신자와 존재하지 않는 수신자는 제외된다
+        List<NotificationResponse> responses = notificationService.createNotifications(
+                type, leader.getId(), savedGroup.getGroupId(), List.of(user.getId(), user.getId(), -1L));
+
+        // then
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getId()).isNotNull();
+        assertThat(responses.get(0).getContent()).isEqualTo(expectedContent);
+
+        Notification saved = notificationRepository.findById(responses.get(0).getId()).orElseThrow();
+        assertThat(saved.getReceiver().getId()).isEqualTo(user.getId());
+        assertThat(saved.getNotificationType()).isEqualTo(type);
+    }
+
     @Test
     @DisplayName("수신자 ID로 알림 목록 조회")
     void getNotificationsByReceiver() {
@@ -131,6 +174,26 @@ class NotificationServiceTest {
         assertThat(responses.getContent()).hasSize(3);
     }
 
+    @Test
+    @DisplayName("커서로 알림 목록 조회")
+    void getNotificationsBefore() {
+        // given
+        notificationRepository.save(Notification.createNotification("content1", NotificationType.GROUP_TODAY_AUTH_COMPLETED, leader, user, savedGroup));
+        notificationRepository.save(Notification.createNotification("content2", NotificationType.GROUP_MEMBER_ROLE_UPDATED, leader, user, savedGroup));
+
+        // when
+        NotificationCursorResponse first = notificationService.getNotificationsBefore(user.getId(), null, null, 2);
+        NotificationCursorResponse second = notificationService.getNotificationsBefore(user.getId(), null, first.getNextCursor(), 2);
+
+        // then
+        assertThat(first.getNotifications()).hasSize(2);
+        assertThat(first.getNotifications().get(0).getContent()).isEqualTo("content2");
+        assertThat(first.getNotifications().get(0).getSenderName()).isEqualTo(leader.getNickname());
+        assertThat(first.getNextCursor()).isEqualTo(first.getNotifications().get(1).getId());
+        assertThat(second.getNotifications()).hasSize(1); // setUp에서 가입 알림 받음
+        assertThat(second.getNextCursor()).isNull();
+    }
+
     @Test
     @DisplayName("알림 타입으로 알림 목록 조회")
     void getNotificationsByNotificationType() {
@@ -162,4 +225,20 @@ class NotificationServiceTest {
         Notification updatedNotification = notificationRepository.findById(notification.getId()).orElseThrow();
         assertThat(updatedNotification.isRead()).isTrue();
     }
+
+    @Test
+    @DisplayName("알림 전체 읽음 처리")
+    void markAllAsRead() {
+        // given
+        notificationRepository.save(Notification.createNotification("content1", NotificationType.GROUP_TODAY_AUTH_COMPLETED, leader, user, savedGroup));
+        notificationRepository.save(Notification.createNotification("content2", NotificationType.GROUP_MEMBER_ROLE_UPDATED, leader, user, savedGroup));
+        assertThat(notificationRepository.countByReceiver_IdAndIsReadFalse(user.getId())).isEqualTo(3); // setUp에서 가입 알림 받음
+
+        // when
+        int updated = notificationService.markAllAsRead(user.getId());
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        assertThat(notificationRepository.countByReceiver_IdAndIsReadFalse(user.getId())).isZero();
+    }
 }
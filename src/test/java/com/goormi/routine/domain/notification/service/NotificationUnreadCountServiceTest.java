@@ -0,0 +1,87 @@
+package com.goormi.routine.domain.notification.service;
+
+import com.goormi.routine.domain.notification.repository.NotificationRepository;
+import com.goormi.routine.domain.notification.repository.NotificationUnreadRedisRepository;
+import com.goormi.routine.domain.notification.service.NotificationUnreadCountService.UnreadCountChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCountServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private NotificationUnreadRedisRepository notificationUnreadRedisRepository;
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationUnreadCountServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new NotificationUnreadCountServiceImpl(notificationUnreadRedisRepository, notificationRepository,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "ttlSeconds", 600L);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 DB 에서 세어 TTL 과 함께 채우고, 있으면 DB 를 조회하지 않음")
+    void seedsOnMissAndServesHits() {
+        given(notificationUnreadRedisRepository.find(USER_ID)).willReturn(null, 4L);
+        given(notificationRepository.countByReceiver_IdAndIsReadFalse(USER_ID)).willReturn(4L);
+
+        assertThat(service.getUnreadCount(USER_ID)).isEqualTo(4L);
+        verify(notificationUnreadRedisRepository).saveIfAbsent(USER_ID, 4L, Duration.ofSeconds(600));
+
+        assertThat(service.getUnreadCount(USER_ID)).isEqualTo(4L);
+        verify(notificationRepository).countByReceiver_IdAndIsReadFalse(USER_ID);
+    }
+
+    @Test
+    @DisplayName("알림 생성은 캐시가 있을 때만 올리고, Redis 장애면 캐시를 지워 다음 조회에서 다시 채움")
+    void incrementsOnlyWhenCached() {
+        given(notificationUnreadRedisRepository.addIfPresent(USER_ID, 1)).willReturn(5L);
+        assertThat(service.incrementIfCached(USER_ID)).isEqualTo(5L);
+
+        given(notificationUnreadRedisRepository.addIfPresent(USER_ID, 1)).willReturn(null);
+        assertThat(service.incrementIfCached(USER_ID)).isNull();
+        verify(notificationUnreadRedisRepository, never()).saveIfAbsent(anyLong(), anyLong(), any());
+
+        given(notificationUnreadRedisRepository.addIfPresent(USER_ID, 1))
+                .willThrow(new RedisConnectionFailureException("down"));
+        assertThat(service.incrementIfCached(USER_ID)).isNull();
+        verify(notificationUnreadRedisRepository).delete(USER_ID);
+    }
+
+    @Test
+    @DisplayName("읽음/안읽음 변경은 ±1 만 반영하고, 모두 읽음은 캐시를 지움")
+    void appliesReadDeltaAndResetsOnMarkAll() {
+        service.handleUnreadCountChanged(UnreadCountChangedEvent.delta(USER_ID, -1));
+        service.handleUnreadCountChanged(UnreadCountChangedEvent.delta(USER_ID, 1));
+
+        verify(notificationUnreadRedisRepository).addIfPresent(USER_ID, -1);
+        verify(notificationUnreadRedisRepository).addIfPresent(USER_ID, 1);
+        verify(notificationUnreadRedisRepository, never()).delete(USER_ID);
+
+        service.handleUnreadCountChanged(UnreadCountChangedEvent.reset(USER_ID));
+
+        verify(notificationUnreadRedisRepository).delete(USER_ID);
+    }
+}
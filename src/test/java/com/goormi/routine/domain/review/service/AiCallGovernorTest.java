@@ -0,0 +1,138 @@
+package com.goormi.routine.domain.review.service;
+
+import com.google.genai.errors.ClientException;
+import com.google.genai.errors.ServerException;
+import com.goormi.routine.config.AiCallGovernorProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AiCallGovernorTest {
+
+    @Test
+    @DisplayName("동시 호출 쿼터를 넘기면 429를 주는 대역 서버에 대해 한도를 줄여 대부분 성공시킴")
+    void adaptsToQuotaErrors() throws Exception {
+        AiCallGovernorProperties properties = baseProperties();
+        properties.setInitialConcurrency(8);
+        properties.setMaxConcurrency(8);
+        properties.setFailureThreshold(1_000);
+        AiCallGovernor governor = new AiCallGovernor(properties, new SimpleMeterRegistry());
+        QuotaStandIn standIn = new QuotaStandIn(3);
+
+        int calls = 300;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger throttled = new AtomicInteger();
+        ExecutorService callers = Executors.newFixedThreadPool(16);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            futures.add(callers.submit(() -> {
+                try {
+                    governor.execute(100, standIn::generate, response -> 0);
+                    succeeded.incrementAndGet();
+                } catch (ClientException e) {
+                    throttled.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        callers.shutdown();
+
+        assertThat(succeeded.get() + throttled.get()).isEqualTo(calls);
+        // 제어 없이 16개 스레드가 쿼터 3을 두드리면 대부분 429가 된다
+        assertThat(throttled.get()).isLessThan(calls / 3);
+        assertThat(governor.getConcurrencyLimit()).isLessThan(8);
+        assertThat(governor.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답에서 사용량을 읽다 예외가 나도 동시 호출 슬롯을 반납")
+    void releasesSlotWhenUsageReadFails() {
+        AiCallGovernor governor = new AiCallGovernor(baseProperties(), new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> governor.execute(100, () -> "message", response -> {
+            throw new IllegalStateException("usage metadata missing");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(governor.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("연속 5xx가 임계값에 이르면 서킷이 열려 즉시 거절하고, 열림 시간이 지나면 시험 호출 성공으로 닫힘")
+    void opensAndClosesCircuit() throws Exception {
+        AiCallGovernorProperties properties = baseProperties();
+        properties.setFailureThreshold(3);
+        properties.setOpenDuration(Duration.ofMillis(200));
+        AiCallGovernor governor = new AiCallGovernor(properties, new SimpleMeterRegistry());
+
+        // 요청 자체의 오류(400)는 서킷에 반영하지 않는다
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> governor.execute(100, () -> {
+                throw new ClientException(400, "INVALID_ARGUMENT", "bad request");
+            }, response -> 0)).isInstanceOf(ClientException.class);
+        }
+        assertThat(governor.getCircuitState()).isEqualTo(AiCallGovernor.CircuitState.CLOSED);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> governor.execute(100, () -> {
+                throw new ServerException(503, "UNAVAILABLE", "overloaded");
+            }, response -> 0)).isInstanceOf(ServerException.class);
+        }
+        assertThat(governor.getCircuitState()).isEqualTo(AiCallGovernor.CircuitState.OPEN);
+
+        AtomicInteger providerCalls = new AtomicInteger();
+        assertThatThrownBy(() -> governor.execute(100, providerCalls::incrementAndGet, response -> 0))
+                .isInstanceOf(AiCallGovernor.AiCallRejectedException.class);
+        assertThat(providerCalls.get()).isZero();
+
+        Thread.sleep(250);
+        assertThat(governor.execute(100, () -> "ok", response -> 0)).isEqualTo("ok");
+        assertThat(governor.getCircuitState()).isEqualTo(AiCallGovernor.CircuitState.CLOSED);
+    }
+
+    private AiCallGovernorProperties baseProperties() {
+        AiCallGovernorProperties properties = new AiCallGovernorProperties();
+        properties.setRequestsPerMinute(1_000_000);
+        properties.setTokensPerMinute(100_000_000);
+        properties.setAcquireTimeout(Duration.ofSeconds(5));
+        return properties;
+    }
+
+    /**
+     * 동시 처리 쿼터를 넘는 요청에 429(RESOURCE_EXHAUSTED)를 돌려주는 로컬 대역 서버
+     */
+    private static class QuotaStandIn {
+        private final int quota;
+        private final AtomicInteger active = new AtomicInteger();
+
+        QuotaStandIn(int quota) {
+            this.quota = quota;
+        }
+
+        String generate() throws InterruptedException {
+            try {
+                if (active.incrementAndGet() > quota) {
+                    throw new ClientException(429, "RESOURCE_EXHAUSTED", "quota exceeded");
+                }
+                Thread.sleep(10);
+                return "message";
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.goormi.routine.domain.review.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PersonalRoutineAchievementCalculatorTest {
+
+    @Test
+    @DisplayName("요일별 일수로 계산한 목표 횟수는 날짜 순회 결과와 같음")
+    void targetCountMatchesDayWalk() {
+        for (YearMonth month = YearMonth.of(2024, 1); !month.isAfter(YearMonth.of(2026, 12)); month = month.plusMonths(1)) {
+            LocalDate start = month.atDay(1);
+            LocalDate end = month.atEndOfMonth();
+            PersonalRoutineAchievementCalculator calculator = new PersonalRoutineAchievementCalculator(start, end);
+
+            for (int mask = 0; mask < 128; mask++) {
+                String repeatDays = toRepeatDays(mask);
+                assertThat(calculator.targetCount(repeatDays))
+                        .as("%s %s", month, repeatDays)
+                        .isEqualTo(dayWalkTargetCount(repeatDays, start, end));
+            }
+        }
+        assertThat(new PersonalRoutineAchievementCalculator(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31))
+                .targetCount("111")).isZero();
+    }
+
+    @Test
+    @DisplayName("집계 결과로 계산한 달성률은 기존 루틴별 평균 방식과 같음")
+    void achievementRateMatchesPerRoutineAverage() {
+        Random random = new Random(42);
+        LocalDate start = LocalDate.of(2025, 2, 1);
+        LocalDate end = LocalDate.of(2025, 2, 28);
+
+        for (int trial = 0; trial < 500; trial++) {
+            PersonalRoutineAchievementCalculator calculator = new PersonalRoutineAchievementCalculator(start, end);
+            List<Double> expectedRates = new ArrayList<>();
+            int routineCount = 1 + random.nextInt(5);
+            for (int routineId = 1; routineId <= routineCount; routineId++) {
+                String repeatDays = toRepeatDays(random.nextInt(128));
+                long completed = 1 + random.nextInt(35);
+                calculator.add(1L, routineId, repeatDays, completed);
+
+                int target = dayWalkTargetCount(repeatDays, start, end);
+                if (target > 0) {
+                    expectedRates.add(Math.min(100.0, (double)completed / target * 100));
+                }
+            }
+
+            int expected = expectedRates.isEmpty() ? 0 :
+                    (int)expectedRates.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
+            assertThat(calculator.achievementRate(1L)).isEqualTo(expected);
+        }
+        assertThat(new PersonalRoutineAchievementCalculator(start, end).achievementRate(1L)).isZero();
+    }
+
+    // 기존 ReviewServiceImpl.calculateMonthlyTargetCount 와 같은 방식
+    private int dayWalkTargetCount(String repeatDays, LocalDate monthStart, LocalDate monthEnd) {
+        LocalDate current = monthStart;
+        int targetCount = 0;
+        while (!current.isAfter(monthEnd)) {
+            int dayOfWeek = current.getDayOfWeek().getValue();
+            int repeatIndex = dayOfWeek == 7 ? 0 : dayOfWeek;
+            if (repeatDays.charAt(repeatIndex) == '1') {
+                targetCount++;
+            }
+            current = current.plusDays(1);
+        }
+        return targetCount;
+    }
+
+    private String toRepeatDays(int mask) {
+        StringBuilder repeatDays = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            repeatDays.append((mask >> i & 1) == 1 ? '1' : '0');
+        }
+        return repeatDays.toString();
+    }
+}
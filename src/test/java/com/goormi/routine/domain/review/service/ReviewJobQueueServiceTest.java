@@ -0,0 +1,250 @@
+package com.goormi.routine.domain.review.service;
+
+import com.goormi.routine.domain.review.repository.ReviewJobQueueRedisRepository;
+import com.goormi.routine.domain.review.service.ReviewJobQueueService.ReviewJobRunResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewJobQueueServiceTest {
+
+    private static final String MONTH = "2025-09";
+    private static final Long USER_ID = 1L;
+
+    private InMemoryJobQueue jobQueue;
+    private ReviewJobQueueServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        jobQueue = new InMemoryJobQueue();
+        service = new ReviewJobQueueServiceImpl(jobQueue, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "baseBackoffSeconds", 60L);
+        ReflectionTestUtils.setField(service, "maxBackoffSeconds", 3600L);
+        ReflectionTestUtils.setField(service, "visibilityTimeoutSeconds", 300L);
+        ReflectionTestUtils.setField(service, "leaseBatchSize", 20);
+        ReflectionTestUtils.setField(service, "maxJobsPerRun", 1000);
+        ReflectionTestUtils.setField(service, "ttlDays", 40L);
+    }
+
+    @Test
+    @DisplayName("실패하면 백오프 시각으로 재예약되고, 시도 횟수를 다 쓰면 실패 큐로 옮겨져 실패 건수에 남음")
+    void reschedulesThenDeadLetters() {
+        jobQueue.ready.put(USER_ID, 0L);
+        jobQueue.attempts.put(USER_ID, 0);
+
+        ReviewJobRunResult first = service.processDueJobs(MONTH, userId -> {
+            throw new IllegalStateException("AI 타임아웃");
+        });
+
+        assertThat(first.rescheduled()).isEqualTo(1);
+        assertThat(jobQueue.ready.get(USER_ID)).isGreaterThan(System.currentTimeMillis());
+        assertThat(jobQueue.errors.get(USER_ID)).isEqualTo("AI 타임아웃");
+        // 백오프 중인 작업은 시각이 되기 전까지 가져가지 않는다
+        assertThat(service.processDueJobs(MONTH, userId -> { }).isEmpty()).isTrue();
+
+        jobQueue.ready.put(USER_ID, 0L);
+        jobQueue.attempts.put(USER_ID, 2);
+        ReviewJobRunResult last = service.processDueJobs(MONTH, userId -> {
+            throw new IllegalStateException("AI 타임아웃");
+        });
+
+        assertThat(last.deadLettered()).isEqualTo(1);
+        assertThat(jobQueue.dead).containsKey(USER_ID);
+        assertThat(jobQueue.ready).isEmpty();
+        assertThat(service.getFailedCount(MONTH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 임대가 만료되어 다른 작업자가 가져가면 이전 작업자의 완료는 반영되지 않음")
+    void expiredLeaseCannotComplete() {
+        jobQueue.ready.put(USER_ID, 0L);
+        jobQueue.attempts.put(USER_ID, 0);
+        AtomicInteger handled = new AtomicInteger();
+
+        ReviewJobRunResult result = service.processDueJobs(MONTH, userId -> {
+            handled.incrementAndGet();
+            // 임대 만료 이후 다른 인스턴스가 같은 작업을 다시 임대
+            long afterExpiry = jobQueue.leased.get(userId) + 1;
+            assertThat(jobQueue.lease(MONTH, afterExpiry, afterExpiry + 300_000, 20)).hasSize(1);
+        });
+
+        assertThat(handled.get()).isEqualTo(1);
+        assertThat(result.succeeded()).isZero();
+        assertThat(jobQueue.leased).containsKey(USER_ID);
+        assertThat(jobQueue.attempts.get(USER_ID)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("수동 재전송은 백오프 중인 작업과 실패 확정 작업을 당겨 바로 처리하고, 실패 확정 작업은 한 번만 더 시도")
+    void requeueNowMakesBackedOffAndDeadJobsDue() {
+        Long backedOff = 2L;
+        Long dead = 3L;
+        jobQueue.ready.put(backedOff, System.currentTimeMillis() + 3_600_000);
+        jobQueue.attempts.put(backedOff, 1);
+        jobQueue.dead.put(dead, 0L);
+        jobQueue.attempts.put(dead, 3);
+
+        assertThat(service.requeueNow(MONTH)).isEqualTo(2);
+        assertThat(jobQueue.months).contains(MONTH);
+
+        List<Long> handled = new ArrayList<>();
+        ReviewJobRunResult result = service.processDueJobs(MONTH, userId -> {
+            handled.add(userId);
+            if (userId.equals(dead)) {
+                throw new IllegalStateException("여전히 실패");
+            }
+        });
+
+        assertThat(handled).containsExactlyInAnyOrder(backedOff, dead);
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.deadLettered()).isEqualTo(1);
+        assertThat(jobQueue.dead).containsOnlyKeys(dead);
+        assertThat(service.getFailedCount(MONTH)).isEqualTo(1);
+    }
+
+    /**
+     * Redis 스크립트와 같은 상태 전이를 메모리에서 흉내 낸다. 점수는 대기 큐는 다음 시도 시각, 임대 큐는 임대 만료 시각이다.
+     */
+    private static class InMemoryJobQueue extends ReviewJobQueueRedisRepository {
+
+        private final Map<Long, Long> ready = new HashMap<>();
+        private final Map<Long, Long> leased = new HashMap<>();
+        private final Map<Long, Long> dead = new HashMap<>();
+        private final Map<Long, Integer> attempts = new HashMap<>();
+        private final Map<Long, String> errors = new HashMap<>();
+        private final Set<String> months = new HashSet<>(Set.of(MONTH));
+
+        InMemoryJobQueue() {
+            super(null);
+        }
+
+        @Override
+        public boolean enqueue(String monthYear, Long userId, long dueAtMillis, String errorMessage, Duration ttl) {
+            if (ready.containsKey(userId) || leased.containsKey(userId)) {
+                return false;
+            }
+            dead.remove(userId);
+            attempts.put(userId, 1);
+            errors.put(userId, errorMessage);
+            ready.put(userId, dueAtMillis);
+            months.add(monthYear);
+            return true;
+        }
+
+        @Override
+        public List<LeasedJob> lease(String monthYear, long nowMillis, long leaseUntilMillis, int limit) {
+            leased.entrySet().removeIf(entry -> {
+                if (entry.getValue() <= nowMillis) {
+                    ready.put(entry.getKey(), nowMillis);
+                    return true;
+                }
+                return false;
+            });
+
+            List<LeasedJob> jobs = new ArrayList<>();
+            for (Long userId : List.copyOf(ready.keySet())) {
+                if (jobs.size() >= limit || ready.get(userId) > nowMillis) {
+                    continue;
+                }
+                ready.remove(userId);
+                leased.put(userId, leaseUntilMillis);
+                int attempt = attempts.merge(userId, 1, Integer::sum);
+                jobs.add(new LeasedJob(userId, attempt, String.valueOf(leaseUntilMillis)));
+            }
+            return jobs;
+        }
+
+        @Override
+        public boolean complete(String monthYear, LeasedJob job) {
+            if (!holdsLease(job)) {
+                return false;
+            }
+            leased.remove(job.userId());
+            attempts.remove(job.userId());
+            errors.remove(job.userId());
+            return true;
+        }
+
+        @Override
+        public boolean reschedule(String monthYear, LeasedJob job, long nextAttemptAtMillis, String errorMessage) {
+            return move(job, ready, nextAttemptAtMillis, errorMessage);
+        }
+
+        @Override
+        public boolean deadLetter(String monthYear, LeasedJob job, long nowMillis, String errorMessage) {
+            return move(job, dead, nowMillis, errorMessage);
+        }
+
+        @Override
+        public long requeueNow(String monthYear, long nowMillis, int deadAttempts) {
+            long count = 0;
+            for (Map.Entry<Long, Long> entry : ready.entrySet()) {
+                if (entry.getValue() > nowMillis) {
+                    entry.setValue(nowMillis);
+                    count++;
+                }
+            }
+            for (Long userId : List.copyOf(dead.keySet())) {
+                dead.remove(userId);
+                ready.put(userId, nowMillis);
+                attempts.put(userId, deadAttempts);
+                count++;
+            }
+            if (count > 0) {
+                months.add(monthYear);
+            }
+            return count;
+        }
+
+        @Override
+        public Set<String> getActiveMonths() {
+            return Set.copyOf(months);
+        }
+
+        @Override
+        public void removeMonthIfEmpty(String monthYear) {
+            if (countPending(monthYear) == 0) {
+                months.remove(monthYear);
+            }
+        }
+
+        @Override
+        public long countPending(String monthYear) {
+            return ready.size() + leased.size();
+        }
+
+        @Override
+        public long countDead(String monthYear) {
+            return dead.size();
+        }
+
+        private boolean holdsLease(LeasedJob job) {
+            Long leaseUntil = leased.get(job.userId());
+            return leaseUntil != null && String.valueOf(leaseUntil).equals(job.leaseToken());
+        }
+
+        private boolean move(LeasedJob job, Map<Long, Long> target, long score, String errorMessage) {
+            if (!holdsLease(job)) {
+                return false;
+            }
+            leased.remove(job.userId());
+            target.put(job.userId(), score);
+            errors.put(job.userId(), errorMessage);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.goormi.routine.domain.review.service;
+
+import com.goormi.routine.domain.review.dto.MonthlyReviewResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewProfileTest {
+
+    @Test
+    @DisplayName("같은 구간의 성과는 같은 지문, 구간이 다르거나 버전이 바뀌면 다른 지문")
+    void fingerprintGroupsSimilarReviews() {
+        MonthlyReviewResponse first = review(1L, "루틴왕", 120, 18, 92, 15);
+        MonthlyReviewResponse second = review(2L, "새싹", 180, 16, 95, 3);
+        MonthlyReviewResponse lowerRate = review(3L, "도전자", 120, 18, 55, 15);
+
+        String fingerprint = ReviewProfile.of(first).fingerprint("v1");
+
+        assertThat(ReviewProfile.of(second).fingerprint("v1")).isEqualTo(fingerprint);
+        assertThat(ReviewProfile.of(lowerRate).fingerprint("v1")).isNotEqualTo(fingerprint);
+        assertThat(ReviewProfile.of(first).fingerprint("v2")).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    @DisplayName("활동이 없는 사용자는 모두 같은 프로필")
+    void zeroActivityReviewsShareProfile() {
+        MonthlyReviewResponse empty = MonthlyReviewResponse.builder().userId(1L).nickname("a").build();
+        MonthlyReviewResponse zeros = review(2L, "b", 0, 0, 0, null);
+
+        assertThat(ReviewProfile.of(empty)).isEqualTo(ReviewProfile.of(zeros));
+        assertThat(ReviewProfile.of(empty).topActivity()).isEqualTo("NONE");
+    }
+
+    @Test
+    @DisplayName("자리표시자를 사용자별 실제 값으로 채움")
+    void fillPlaceholders() {
+        MonthlyReviewResponse review = review(1L, "루틴왕", 120, 18, 92, 15);
+
+        String message = ReviewProfile.fillPlaceholders(
+                "{{nickname}}님 {{totalScore}}점({{scoreDifference}}), 달성률 {{achievementRate}}%", review);
+
+        assertThat(message).isEqualTo("루틴왕님 120점(+15), 달성률 92%");
+        assertThat(ReviewProfile.range(0, 1, 50, 100)).isEqualTo("0");
+        assertThat(ReviewProfile.range(49, 1, 50, 100)).isEqualTo("1~49");
+        assertThat(ReviewProfile.range(100, 1, 50, 100)).isEqualTo("100+");
+    }
+
+    @Test
+    @DisplayName("알려진 자리표시자만 있는 템플릿만 캐시 대상이고, 모르는 이름이나 남은 중괄호가 있으면 거부")
+    void checkTemplate() {
+        assertThat(ReviewProfile.checkTemplate("{{nickname}}님 {{totalScore}}점, {{totalAuthCount}}회 인증"))
+                .isEqualTo(ReviewProfile.TemplateCheck.VALID);
+        assertThat(ReviewProfile.checkTemplate("이번 달도 수고했어요"))
+                .isEqualTo(ReviewProfile.TemplateCheck.NO_PLACEHOLDER);
+        // 값을 채우지 않는 활동 일수는 자리표시자에서 빠졌다
+        assertThat(ReviewProfile.checkTemplate("{{nickname}}님 {{activeDays}}일 활동"))
+                .isEqualTo(ReviewProfile.TemplateCheck.MALFORMED);
+        assertThat(ReviewProfile.checkTemplate("{{nickname}}님 {{rank}}위"))
+                .isEqualTo(ReviewProfile.TemplateCheck.MALFORMED);
+        assertThat(ReviewProfile.checkTemplate("{{nickname}}님 {{totalScore}점"))
+                .isEqualTo(ReviewProfile.TemplateCheck.MALFORMED);
+        assertThat(ReviewProfile.checkTemplate("{{nickname}}님 {totalScore}점"))
+                .isEqualTo(ReviewProfile.TemplateCheck.MALFORMED);
+        assertThat(ReviewProfile.checkTemplate("{{ nickname }}님"))
+                .isEqualTo(ReviewProfile.TemplateCheck.MALFORMED);
+    }
+
+    private MonthlyReviewResponse review(Long userId, String nickname, int totalScore, int authCount,
+                                         int achievementRate, Integer scoreDifference) {
+        return MonthlyReviewResponse.builder()
+                .userId(userId)
+                .nickname(nickname)
+                .monthYear("2025-09")
+                .totalScore(totalScore)
+                .totalAuthCount(authCount)
+                .participatingGroups(authCount > 0 ? 1 : 0)
+                .groupAuthCount(authCount / 2)
+                .personalRoutineCount(authCount - authCount / 2)
+                .dailyChecklistCount(0)
+                .personalRoutineAchievementRate(achievementRate)
+                .scoreDifference(scoreDifference)
+                .groupDifference(scoreDifference == null ? null : 0)
+                .build();
+    }
+}